@@ -0,0 +1,578 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * The <code>AsyncHashGenerator</code> hashes Strings, character arrays,
+ * streams and files on an {@link java.util.concurrent.Executor}, returning
+ * a {@link java.util.concurrent.CompletableFuture} instead of blocking the
+ * calling thread, for callers such as event loops that must not block.
+ * For example:
+ *    <blockquote><pre>
+ *    AsyncHashGenerator async = new AsyncHashGenerator(HashAlgorithm.SHA256SUM);
+ *    async.createHash(upload).thenAccept(hash -&gt; respond(hash));
+ * </pre></blockquote>
+ * <p>
+ * By default hashes are computed on virtual threads when running on Java
+ * 21 or later, and otherwise on a pool with one platform thread per
+ * available processor.  Any other executor may be supplied instead.  Each
+ * hash borrows a {@link HashGenerator}, with its digest and buffers, from
+ * a pool of at most <code>maxInFlight</code> generators and returns it
+ * when done, so that threads created per task do not each allocate their
+ * own.
+ * <p>
+ * At most <code>maxInFlight</code> hashes are queued or running at any
+ * time.  When that many are already in flight further calls do not block or
+ * queue; the returned future is instead completed exceptionally with a
+ * {@link java.util.concurrent.RejectedExecutionException}, so that the
+ * caller can shed load or retry later.  A rejection by the executor itself
+ * is reported in the same way.
+ * <p>
+ * Instances are thread safe.  {@link #close()} shuts down the default
+ * executor; an executor supplied by the caller is left running.
+ *
+ * @since   1.2.0
+ */
+public class AsyncHashGenerator implements AutoCloseable {
+   
+   /**
+    * Default maximum number of hashes that may be queued or running at one
+    * time.
+    */
+   public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+   
+   private static final String THREAD_NAME_PREFIX = "hash-generator-async-";
+   
+   private final HashAlgorithm hashAlgo;
+   
+   /**
+    * Idle generators, each with its own digest and buffers, that tasks
+    * borrow while hashing and then return.  As at most
+    * <code>maxInFlight</code> tasks run at once, no more than that many
+    * generators are ever created, however many threads the executor uses.
+    */
+   private final BlockingQueue<HashGenerator> generators;
+   
+   private final Executor executor;
+   
+   /**
+    * The executor created by this instance, to be shut down by
+    * {@link #close()}, or null if the executor was supplied by the caller.
+    */
+   private final ExecutorService ownedExecutor;
+   
+   private final int maxInFlight;
+   
+   /**
+    * One permit per hash that may still be submitted.
+    */
+   private final Semaphore permits;
+   
+   // -------------------------------------------------------------------------
+   // Constructors:
+   //
+   
+   /**
+    * Creates a new <code>AsyncHashGenerator</code> with the default executor
+    * and at most {@link #DEFAULT_MAX_IN_FLIGHT} hashes in flight.
+    * 
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} to be used to generate the hashes.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is null.
+    */
+   public AsyncHashGenerator(HashAlgorithm hashAlgo)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      this(hashAlgo, DEFAULT_MAX_IN_FLIGHT);
+   }
+   
+   /**
+    * Creates a new <code>AsyncHashGenerator</code> with the default executor.
+    * 
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} to be used to generate the hashes.
+    * @param  maxInFlight
+    *         maximum number of hashes that may be queued or running at one
+    *         time.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is null or maxInFlight is less than 1.
+    */
+   public AsyncHashGenerator(HashAlgorithm hashAlgo, int maxInFlight)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      this(hashAlgo, null, maxInFlight);
+   }
+   
+   /**
+    * Creates a new <code>AsyncHashGenerator</code> that computes hashes on
+    * the given executor.
+    * 
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} to be used to generate the hashes.
+    * @param  executor
+    *         executor on which the hashes are computed, or null for the
+    *         default executor.
+    * @param  maxInFlight
+    *         maximum number of hashes that may be queued or running at one
+    *         time.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is null or maxInFlight is less than 1.
+    */
+   public AsyncHashGenerator(HashAlgorithm hashAlgo, Executor executor, int maxInFlight)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      if (null == hashAlgo) {
+         throw new IllegalArgumentException("No hash algorithm was provided.");
+      }
+      if (maxInFlight < 1) {
+         throw new IllegalArgumentException("maxInFlight must be at least 1, was " + maxInFlight);
+      }
+      // Fail now, rather than in every future, if the algorithm is missing.
+      hashAlgo.newMessageDigest();
+      
+      this.hashAlgo    = hashAlgo;
+      this.generators  = new ArrayBlockingQueue<HashGenerator>(maxInFlight);
+      this.maxInFlight = maxInFlight;
+      this.permits     = new Semaphore(maxInFlight);
+      if (null == executor) {
+         this.ownedExecutor = newDefaultExecutor(maxInFlight);
+         this.executor      = ownedExecutor;
+      } else {
+         this.ownedExecutor = null;
+         this.executor      = executor;
+      }
+   }
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+   
+   /**
+    * Get the hash algorithm of this instance.
+    * 
+    * @return  the hash algorithm of this instance.
+    */
+   public HashAlgorithm getHashAlgo() {
+      return hashAlgo;
+   }
+   
+   /**
+    * Get the maximum number of hashes that may be in flight at one time.
+    * 
+    * @return  the maximum number of hashes in flight.
+    */
+   public int getMaxInFlight() {
+      return maxInFlight;
+   }
+   
+   /**
+    * Get the number of hashes currently queued or running.
+    * 
+    * @return  the number of hashes in flight.
+    */
+   public int getInFlight() {
+      return maxInFlight - permits.availablePermits();
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /** -- Strings and Character Arrays ------------------------------------- */
+   
+   /**
+    * Asynchronously generates a hexadecimal hash of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return a future completed with the hexadecimal hash of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<String> createHash(final String input, final String encoding) {
+      return submit(new HashTask<String>() {
+         @Override
+         public String hash(HashGenerator generator) throws Exception {
+            return generator.createHash(input, encoding);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a {@link Digest} of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return a future completed with the {@link Digest} of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<Digest> createDigest(final String input, final String encoding) {
+      return submit(new HashTask<Digest>() {
+         @Override
+         public Digest hash(HashGenerator generator) throws Exception {
+            return generator.createDigest(input, encoding);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a hexadecimal hash of a character array.
+    * <p>
+    * The array is read when the hash is computed, so it must not be
+    * modified, or wiped, until the returned future has completed.
+    * 
+    * @param  input
+    *         char[] to be hashed.
+    * @return a future completed with the hexadecimal hash of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<String> createHash(final char[] input) {
+      return submit(new HashTask<String>() {
+         @Override
+         public String hash(HashGenerator generator) throws Exception {
+            return generator.createHash(input);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a {@link Digest} of a character array.
+    * <p>
+    * The array is read when the hash is computed, so it must not be
+    * modified, or wiped, until the returned future has completed.
+    * 
+    * @param  input
+    *         char[] to be hashed.
+    * @return a future completed with the {@link Digest} of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<Digest> createDigest(final char[] input) {
+      return submit(new HashTask<Digest>() {
+         @Override
+         public Digest hash(HashGenerator generator) throws Exception {
+            return generator.createDigest(input);
+         }
+      });
+   }
+   
+   /** -- Streams and Files ------------------------------------------------ */
+   
+   /**
+    * Asynchronously generates a hexadecimal hash of all of the bytes read from an InputStream.
+    * <p>
+    * The stream is read until its end on an executor thread, and is
+    * <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @return a future completed with the hexadecimal hash of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<String> createHash(final InputStream input) {
+      return submit(new HashTask<String>() {
+         @Override
+         public String hash(HashGenerator generator) throws Exception {
+            return generator.createHash(input);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a {@link Digest} of all of the bytes read from an InputStream.
+    * <p>
+    * The stream is read until its end on an executor thread, and is
+    * <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @return a future completed with the {@link Digest} of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<Digest> createDigest(final InputStream input) {
+      return submit(new HashTask<Digest>() {
+         @Override
+         public Digest hash(HashGenerator generator) throws Exception {
+            return generator.createDigest(input);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a hexadecimal hash of the contents of a file.
+    * <p>
+    * See {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for how
+    * the file is read.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return a future completed with the hexadecimal hash of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<String> createHash(final Path input) {
+      return submit(new HashTask<String>() {
+         @Override
+         public String hash(HashGenerator generator) throws Exception {
+            return generator.createHash(input);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a hexadecimal hash of the contents of a file, mapping at most
+    * <code>windowSize</code> bytes at a time.
+    * <p>
+    * See {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for how
+    * the file is read.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @return a future completed with the hexadecimal hash of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<String> createHash(final Path input, final int windowSize) {
+      return submit(new HashTask<String>() {
+         @Override
+         public String hash(HashGenerator generator) throws Exception {
+            return generator.createHash(input, windowSize);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a {@link Digest} of the contents of a file.
+    * <p>
+    * See {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for how
+    * the file is read.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return a future completed with the {@link Digest} of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<Digest> createDigest(final Path input) {
+      return submit(new HashTask<Digest>() {
+         @Override
+         public Digest hash(HashGenerator generator) throws Exception {
+            return generator.createDigest(input);
+         }
+      });
+   }
+   
+   /**
+    * Asynchronously generates a {@link Digest} of the contents of a file, mapping at most
+    * <code>windowSize</code> bytes at a time.
+    * <p>
+    * See {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for how
+    * the file is read.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @return a future completed with the {@link Digest} of the input data, or
+    *         exceptionally with the exception thrown while hashing it, or
+    *         with a {@link java.util.concurrent.RejectedExecutionException}
+    *         if the maximum number of hashes is already in flight.
+    */
+   public CompletableFuture<Digest> createDigest(final Path input, final int windowSize) {
+      return submit(new HashTask<Digest>() {
+         @Override
+         public Digest hash(HashGenerator generator) throws Exception {
+            return generator.createDigest(input, windowSize);
+         }
+      });
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Shuts down the default executor, if this instance created it, after the
+    * hashes already submitted have completed.  An executor supplied by the
+    * caller is not affected.
+    */
+   @Override
+   public void close() {
+      if (null != ownedExecutor) {
+         ownedExecutor.shutdown();
+      }
+   }
+   
+   /**
+    * Runs the task on the executor if a permit is available, with a
+    * generator borrowed from the pool, completing the returned future with
+    * its result.
+    */
+   private <T> CompletableFuture<T> submit(final HashTask<T> task) {
+      final CompletableFuture<T> future = new CompletableFuture<T>();
+      if (!permits.tryAcquire()) {
+         future.completeExceptionally(new RejectedExecutionException(
+               "The maximum of " + maxInFlight + " hashes are already in flight."));
+         return future;
+      }
+      
+      try {
+         executor.execute(new Runnable() {
+            @Override
+            public void run() {
+               T result = null;
+               Throwable failure = null;
+               HashGenerator generator = generators.poll();
+               try {
+                  if (null == generator) {
+                     generator = new HashGenerator(hashAlgo);
+                  }
+                  result = task.hash(generator);
+               } catch (Throwable t) {
+                  failure = t;
+               } finally {
+                  // Return the generator before releasing the permit, so
+                  // that the pool never needs more than maxInFlight.
+                  if (null != generator) {
+                     generators.offer(generator);
+                  }
+                  // Release before completing, so that dependent stages run
+                  // by this thread can submit more work.
+                  permits.release();
+               }
+               if (null == failure) {
+                  future.complete(result);
+               } else {
+                  future.completeExceptionally(failure);
+               }
+            }
+         });
+      } catch (RejectedExecutionException e) {
+         permits.release();
+         future.completeExceptionally(e);
+      }
+      return future;
+   }
+   
+   /**
+    * A hash computed with a generator borrowed from the pool.
+    */
+   private interface HashTask<T> {
+      T hash(HashGenerator generator) throws Exception;
+   }
+   
+   /**
+    * Creates a virtual thread per task executor when running on Java 21 or
+    * later, otherwise a pool with one daemon thread per processor and a
+    * queue of <code>maxInFlight</code> tasks.
+    */
+   private static ExecutorService newDefaultExecutor(int maxInFlight) {
+      try {
+         Object executor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+               .invoke(null);
+         return (ExecutorService) executor;
+      } catch (NoSuchMethodException e) {
+         // Prior to Java 21.
+      } catch (IllegalAccessException e) {
+         // Fall back to platform threads.
+      } catch (InvocationTargetException e) {
+         // Virtual threads are a disabled preview feature.
+      }
+      
+      final AtomicInteger threadCount = new AtomicInteger();
+      int numThreads = Runtime.getRuntime().availableProcessors();
+      return new ThreadPoolExecutor(numThreads, numThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<Runnable>(maxInFlight), new ThreadFactory() {
+               @Override
+               public Thread newThread(Runnable r) {
+                  Thread thread = new Thread(r, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                  thread.setDaemon(true);
+                  return thread;
+               }
+            });
+   }
+}
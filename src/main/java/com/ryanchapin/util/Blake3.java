@@ -0,0 +1,735 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A pure Java implementation of the
+ * <a href="https://github.com/BLAKE3-team/BLAKE3" target="_blank">BLAKE3</a>
+ * hash function, exposed as a {@link java.security.MessageDigest} so that it
+ * can be used wherever a {@link HashGenerator.HashAlgorithm} is accepted.
+ * <p>
+ * BLAKE3 splits its input into 1 KiB chunks that form the leaves of a binary
+ * tree.  When a single update supplies at least
+ * {@link #PARALLEL_THRESHOLD} bytes, the complete subtrees within it are
+ * hashed in parallel on the common {@link java.util.concurrent.ForkJoinPool};
+ * smaller updates are hashed on the calling thread.  The result does not
+ * depend on how the input is split across updates.
+ * <p>
+ * Besides the default hash mode, instances can be created for the keyed
+ * hash mode, with {@link #newKeyedInstance(byte[])}, and the key derivation
+ * mode, with {@link #newDeriveKeyInstance(String)}.  In every mode the
+ * default output is 32 bytes, and output of any length can be produced with
+ * {@link #digest(int)} or {@link #digestXof(byte[], int, int)}.
+ * <p>
+ * Instances are <b>NOT</b> thread safe, and support {@link #clone()}.
+ *
+ * @since   1.2.0
+ */
+public final class Blake3 extends MessageDigest implements Cloneable {
+   
+   /**
+    * Name of the algorithm, as returned by {@link #getAlgorithm()}.
+    */
+   public static final String ALGORITHM = "BLAKE3";
+   
+   /**
+    * Number of bytes in the default output, and in a key.
+    */
+   public static final int OUT_LEN = 32;
+   
+   /**
+    * Minimum number of bytes in a single update for subtrees to be hashed in
+    * parallel.
+    */
+   public static final int PARALLEL_THRESHOLD = 128 * 1024;
+   
+   /**
+    * Size of the subtrees below which a parallel task does not split its
+    * work any further.
+    */
+   private static final int MIN_TASK_LEN = 32 * 1024;
+   
+   private static final int BLOCK_LEN = 64;
+   private static final int CHUNK_LEN = 1024;
+   
+   /**
+    * Maximum depth of the tree, and so of the chaining value stack, for
+    * inputs of up to 2^64 bytes.
+    */
+   private static final int MAX_DEPTH = 54;
+   
+   private static final int CHUNK_START         = 1;
+   private static final int CHUNK_END           = 1 << 1;
+   private static final int PARENT              = 1 << 2;
+   private static final int ROOT                = 1 << 3;
+   private static final int KEYED_HASH          = 1 << 4;
+   private static final int DERIVE_KEY_CONTEXT  = 1 << 5;
+   private static final int DERIVE_KEY_MATERIAL = 1 << 6;
+   
+   private static final int[] IV = {
+      0x6A09E667, 0xBB67AE85, 0x3C6EF372, 0xA54FF53A,
+      0x510E527F, 0x9B05688C, 0x1F83D9AB, 0x5BE0CD19
+   };
+   
+   /**
+    * Key words; the IV unless in keyed or key derivation mode.
+    */
+   private final int[] key;
+   
+   /**
+    * Flags applied to every compression for the mode of this instance.
+    */
+   private final int flags;
+   
+   /**
+    * Chaining values of completed subtrees, see {@link #pushCv}.
+    */
+   private int[][] cvStack;
+   private int cvStackLen;
+   
+   // State of the chunk currently being filled.
+   private int[] chunkCv;
+   private long chunkCounter;
+   private byte[] block;
+   private int blockLen;
+   private int blocksCompressed;
+   
+   /**
+    * Scratch space for message words and compression output.
+    */
+   private int[] words;
+   
+   private byte[] singleByte;
+   
+   // -------------------------------------------------------------------------
+   // Constructors:
+   //
+   
+   /**
+    * Creates a new instance in the default hash mode.
+    */
+   public Blake3() {
+      this(IV, 0);
+   }
+   
+   private Blake3(int[] key, int flags) {
+      super(ALGORITHM);
+      this.key        = key;
+      this.flags      = flags;
+      this.cvStack    = new int[MAX_DEPTH][];
+      this.chunkCv    = key.clone();
+      this.block      = new byte[BLOCK_LEN];
+      this.words      = new int[16];
+      this.singleByte = new byte[1];
+   }
+   
+   /**
+    * Creates a new instance in the keyed hash mode, which can be used as a
+    * message authentication code.
+    * 
+    * @param  key
+    *         32 byte key, which is copied.
+    * @return a new <code>Blake3</code> instance.
+    * @throws IllegalArgumentException
+    *         if the key is not exactly 32 bytes long.
+    */
+   public static Blake3 newKeyedInstance(byte[] key) throws IllegalArgumentException {
+      if (null == key || key.length != OUT_LEN) {
+         throw new IllegalArgumentException("BLAKE3 keys must be " + OUT_LEN + " bytes long");
+      }
+      int[] keyWords = new int[8];
+      for (int i = 0; i < 8; i++) {
+         keyWords[i] = readIntLE(key, i << 2);
+      }
+      return new Blake3(keyWords, KEYED_HASH);
+   }
+   
+   /**
+    * Creates a new instance in the key derivation mode.  The key material is
+    * passed to the <code>update</code> methods, and the derived key is the
+    * output.
+    * 
+    * @param  context
+    *         hard-coded, globally unique and application specific context
+    *         string.
+    * @return a new <code>Blake3</code> instance.
+    */
+   public static Blake3 newDeriveKeyInstance(String context) {
+      Blake3 contextHasher = new Blake3(IV, DERIVE_KEY_CONTEXT);
+      contextHasher.update(context.getBytes(StandardCharsets.UTF_8));
+      byte[] contextKey = contextHasher.digest();
+      int[] keyWords = new int[8];
+      for (int i = 0; i < 8; i++) {
+         keyWords[i] = readIntLE(contextKey, i << 2);
+      }
+      return new Blake3(keyWords, DERIVE_KEY_MATERIAL);
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /**
+    * Completes the hash computation and returns <code>outputLength</code>
+    * bytes of extendable output.  The first 32 bytes are the same as those
+    * returned by {@link #digest()}.  The digest is then reset.
+    * 
+    * @param  outputLength
+    *         number of bytes of output.
+    * @return the output.
+    * @throws IllegalArgumentException
+    *         if outputLength is negative.
+    */
+   public byte[] digest(int outputLength) throws IllegalArgumentException {
+      if (outputLength < 0) {
+         throw new IllegalArgumentException("outputLength must not be negative");
+      }
+      byte[] retVal = new byte[outputLength];
+      digestXof(retVal, 0, outputLength);
+      return retVal;
+   }
+   
+   /**
+    * Completes the hash computation and writes <code>length</code> bytes of
+    * extendable output into the given array.  The digest is then reset.
+    * 
+    * @param  output
+    *         array into which the output is written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  length
+    *         number of bytes of output.
+    * @return the number of bytes written.
+    * @throws IndexOutOfBoundsException
+    *         if the range is not within the array.
+    */
+   public int digestXof(byte[] output, int offset, int length) {
+      if (offset < 0 || length < 0 || offset > output.length - length) {
+         throw new IndexOutOfBoundsException(
+               "offset " + offset + ", length " + length + ", array length " + output.length);
+      }
+      finish(output, offset, length);
+      engineReset();
+      return length;
+   }
+   
+   @Override
+   public Object clone() throws CloneNotSupportedException {
+      Blake3 copy = (Blake3) super.clone();
+      copy.cvStack = new int[MAX_DEPTH][];
+      for (int i = 0; i < cvStackLen; i++) {
+         copy.cvStack[i] = cvStack[i].clone();
+      }
+      copy.chunkCv    = chunkCv.clone();
+      copy.block      = block.clone();
+      copy.words      = new int[16];
+      copy.singleByte = new byte[1];
+      return copy;
+   }
+   
+   @Override
+   protected int engineGetDigestLength() {
+      return OUT_LEN;
+   }
+   
+   @Override
+   protected void engineUpdate(byte input) {
+      singleByte[0] = input;
+      hashInput(ByteBuffer.wrap(singleByte));
+   }
+   
+   @Override
+   protected void engineUpdate(byte[] input, int offset, int len) {
+      hashInput(ByteBuffer.wrap(input, offset, len).slice());
+   }
+   
+   /**
+    * Hashes the remaining bytes of the buffer, directly from the buffer when
+    * it is a direct or memory-mapped buffer.
+    */
+   @Override
+   protected void engineUpdate(ByteBuffer input) {
+      hashInput(input.slice());
+      input.position(input.limit());
+   }
+   
+   @Override
+   protected byte[] engineDigest() {
+      byte[] retVal = new byte[OUT_LEN];
+      finish(retVal, 0, OUT_LEN);
+      engineReset();
+      return retVal;
+   }
+   
+   @Override
+   protected void engineReset() {
+      Arrays.fill(cvStack, 0, cvStackLen, null);
+      cvStackLen = 0;
+      startChunk(0);
+   }
+   
+   // -------------------------------------------------------------------------
+   // Tree Construction:
+   //
+   
+   /**
+    * Hashes all of the remaining bytes of the given buffer, whose position is
+    * zero, following the reference incremental algorithm.
+    */
+   private void hashInput(ByteBuffer input) {
+      ByteBuffer in = input.order(ByteOrder.LITTLE_ENDIAN);
+      int pos = 0;
+      int end = in.limit();
+      
+      // Finish any partially filled chunk first.
+      if (chunkLen() > 0) {
+         pos = fillChunk(in, pos, end);
+         if (pos == end) {
+            return;
+         }
+         // The chunk is full and there is more input, so it is not the root.
+         pushCv(chunkOutputCv(), chunkCounter);
+         startChunk(chunkCounter + 1);
+      }
+      
+      // Hash as many complete, aligned subtrees as possible directly from the
+      // input, always leaving at least one byte for the chunk state.
+      while (end - pos > CHUNK_LEN) {
+         int subtreeLen = Integer.highestOneBit(end - pos);
+         long countSoFar = chunkCounter * CHUNK_LEN;
+         while (((subtreeLen - 1) & countSoFar) != 0) {
+            subtreeLen >>>= 1;
+         }
+         int subtreeChunks = subtreeLen / CHUNK_LEN;
+         if (subtreeLen == CHUNK_LEN) {
+            pushCv(chunkCv(in, pos, CHUNK_LEN, chunkCounter, key, flags, new int[16]),
+                  chunkCounter);
+         } else {
+            // Push both children rather than the subtree's own chaining
+            // value, as the subtree may turn out to be the root.
+            int half = subtreeLen >>> 1;
+            int[] left;
+            int[] right;
+            if (subtreeLen >= PARALLEL_THRESHOLD) {
+               SubtreeTask leftTask  = new SubtreeTask(in, pos, half, chunkCounter, key, flags);
+               SubtreeTask rightTask = new SubtreeTask(in, pos + half, half,
+                     chunkCounter + subtreeChunks / 2, key, flags);
+               ForkJoinPool.commonPool().invoke(new SubtreeTask(leftTask, rightTask));
+               left  = leftTask.join();
+               right = rightTask.join();
+            } else {
+               int[] scratch = new int[16];
+               left  = subtreeCv(in, pos, half, chunkCounter, key, flags, scratch);
+               right = subtreeCv(in, pos + half, half,
+                     chunkCounter + subtreeChunks / 2, key, flags, scratch);
+            }
+            pushCv(left, chunkCounter);
+            pushCv(right, chunkCounter + subtreeChunks / 2);
+         }
+         chunkCounter += subtreeChunks;
+         pos += subtreeLen;
+      }
+      
+      // What remains is at most one chunk.
+      if (pos < end) {
+         fillChunk(in, pos, end);
+         // The stack cannot now hold the root, so merge what we can.
+         mergeCvStack(chunkCounter);
+      }
+   }
+   
+   /**
+    * Merges completed subtrees on the top of the stack until it holds one
+    * chaining value per set bit of <code>totalChunks</code>.
+    */
+   private void mergeCvStack(long totalChunks) {
+      int postMergeLen = Long.bitCount(totalChunks);
+      while (cvStackLen > postMergeLen) {
+         int[] right = cvStack[--cvStackLen];
+         int[] left  = cvStack[--cvStackLen];
+         cvStack[cvStackLen++] = parentCv(left, right, key, flags, words);
+      }
+   }
+   
+   /**
+    * Pushes the chaining value of a subtree, lazily merging earlier subtrees
+    * first so that the root is never merged before all input is known.
+    */
+   private void pushCv(int[] cv, long chunkCounter) {
+      mergeCvStack(chunkCounter);
+      cvStack[cvStackLen++] = cv;
+   }
+   
+   /**
+    * Writes the root output into the given array without resetting.
+    */
+   private void finish(byte[] output, int offset, int length) {
+      // Describe the root node as the inputs to its final compression.
+      int[] rootCv;
+      int[] rootBlock = new int[16];
+      int rootBlockLen;
+      int rootFlags;
+      long rootCounter = 0;
+      int remaining = cvStackLen;
+      
+      if (0 == cvStackLen || chunkLen() > 0) {
+         rootCv = chunkCv.clone();
+         loadBlock(block, 0, blockLen, rootBlock);
+         rootBlockLen = blockLen;
+         rootFlags = flags | chunkStartFlag() | CHUNK_END;
+         rootCounter = chunkCounter;
+      } else {
+         rootCv = key;
+         System.arraycopy(cvStack[remaining - 2], 0, rootBlock, 0, 8);
+         System.arraycopy(cvStack[remaining - 1], 0, rootBlock, 8, 8);
+         rootBlockLen = BLOCK_LEN;
+         rootFlags = flags | PARENT;
+         remaining -= 2;
+      }
+      
+      int[] out = new int[16];
+      while (remaining > 0) {
+         compress(rootCv, rootBlock, rootCounter, rootBlockLen, rootFlags, out);
+         System.arraycopy(cvStack[remaining - 1], 0, rootBlock, 0, 8);
+         System.arraycopy(out, 0, rootBlock, 8, 8);
+         rootCv = key;
+         rootBlockLen = BLOCK_LEN;
+         rootFlags = flags | PARENT;
+         rootCounter = 0;
+         remaining--;
+      }
+      
+      // Produce as many output blocks as requested.
+      long outputCounter = 0;
+      int written = 0;
+      while (written < length) {
+         compress(rootCv, rootBlock, outputCounter++, rootBlockLen, rootFlags | ROOT, out);
+         for (int i = 0; i < 16 && written < length; i++) {
+            int word = out[i];
+            for (int b = 0; b < 4 && written < length; b++) {
+               output[offset + written++] = (byte) (word >>> (b << 3));
+            }
+         }
+      }
+   }
+   
+   // -------------------------------------------------------------------------
+   // Chunk State:
+   //
+   
+   private void startChunk(long counter) {
+      System.arraycopy(key, 0, chunkCv, 0, 8);
+      chunkCounter     = counter;
+      Arrays.fill(block, (byte) 0);
+      blockLen         = 0;
+      blocksCompressed = 0;
+   }
+   
+   private int chunkLen() {
+      return blocksCompressed * BLOCK_LEN + blockLen;
+   }
+   
+   private int chunkStartFlag() {
+      return 0 == blocksCompressed ? CHUNK_START : 0;
+   }
+   
+   /**
+    * Copies input into the current chunk until either the chunk is full or
+    * the input is exhausted.  The last block of a chunk is only compressed
+    * once it is known whether it is the last.
+    */
+   private int fillChunk(ByteBuffer in, int pos, int end) {
+      while (pos < end && chunkLen() < CHUNK_LEN) {
+         if (BLOCK_LEN == blockLen) {
+            loadBlock(block, 0, BLOCK_LEN, words);
+            compress(chunkCv, words, chunkCounter, BLOCK_LEN, flags | chunkStartFlag(), words);
+            System.arraycopy(words, 0, chunkCv, 0, 8);
+            blocksCompressed++;
+            Arrays.fill(block, (byte) 0);
+            blockLen = 0;
+         }
+         int take = Math.min(BLOCK_LEN - blockLen, end - pos);
+         for (int i = 0; i < take; i++) {
+            block[blockLen + i] = in.get(pos + i);
+         }
+         blockLen += take;
+         pos      += take;
+      }
+      return pos;
+   }
+   
+   /**
+    * Returns the chaining value of the current, non-root, chunk.
+    */
+   private int[] chunkOutputCv() {
+      int[] out = new int[16];
+      loadBlock(block, 0, blockLen, out);
+      compress(chunkCv, out, chunkCounter, blockLen, flags | chunkStartFlag() | CHUNK_END, out);
+      return Arrays.copyOf(out, 8);
+   }
+   
+   // -------------------------------------------------------------------------
+   // Subtrees:
+   //
+   
+   /**
+    * Returns the chaining value of a complete subtree of a power of two
+    * number of full chunks.
+    */
+   private static int[] subtreeCv(ByteBuffer in, int pos, int len, long counter,
+         int[] key, int flags, int[] scratch)
+   {
+      if (len == CHUNK_LEN) {
+         return chunkCv(in, pos, len, counter, key, flags, scratch);
+      }
+      int half = len >>> 1;
+      int[] left  = subtreeCv(in, pos, half, counter, key, flags, scratch);
+      int[] right = subtreeCv(in, pos + half, half, counter + half / CHUNK_LEN,
+            key, flags, scratch);
+      return parentCv(left, right, key, flags, scratch);
+   }
+   
+   /**
+    * Returns the chaining value of a full, non-root, chunk read directly from
+    * the input.
+    */
+   private static int[] chunkCv(ByteBuffer in, int pos, int len, long counter,
+         int[] key, int flags, int[] scratch)
+   {
+      int[] cv = key.clone();
+      int blocks = (len + BLOCK_LEN - 1) / BLOCK_LEN;
+      for (int b = 0; b < blocks; b++) {
+         int blockPos = pos + b * BLOCK_LEN;
+         if (in.hasArray()) {
+            byte[] array = in.array();
+            int arrayPos = in.arrayOffset() + blockPos;
+            for (int i = 0; i < 16; i++) {
+               scratch[i] = readIntLE(array, arrayPos + (i << 2));
+            }
+         } else {
+            for (int i = 0; i < 16; i++) {
+               scratch[i] = in.getInt(blockPos + (i << 2));
+            }
+         }
+         int blockFlags = flags
+               | (0 == b ? CHUNK_START : 0)
+               | (blocks - 1 == b ? CHUNK_END : 0);
+         compress(cv, scratch, counter, BLOCK_LEN, blockFlags, scratch);
+         System.arraycopy(scratch, 0, cv, 0, 8);
+      }
+      return cv;
+   }
+   
+   private static int[] parentCv(int[] left, int[] right, int[] key, int flags,
+         int[] scratch)
+   {
+      System.arraycopy(left, 0, scratch, 0, 8);
+      System.arraycopy(right, 0, scratch, 8, 8);
+      compress(key, scratch, 0, BLOCK_LEN, flags | PARENT, scratch);
+      return Arrays.copyOf(scratch, 8);
+   }
+   
+   /**
+    * Computes the chaining value of a complete subtree on a
+    * {@link java.util.concurrent.ForkJoinPool}, or, when constructed with
+    * two other tasks, runs them both in parallel.
+    */
+   private static final class SubtreeTask extends RecursiveTask<int[]> {
+      
+      private static final long serialVersionUID = 1L;
+      
+      private final transient ByteBuffer in;
+      private final int pos;
+      private final int len;
+      private final long counter;
+      private final int[] key;
+      private final int flags;
+      private final SubtreeTask first;
+      private final SubtreeTask second;
+      
+      SubtreeTask(ByteBuffer in, int pos, int len, long counter, int[] key, int flags) {
+         this.in      = in;
+         this.pos     = pos;
+         this.len     = len;
+         this.counter = counter;
+         this.key     = key;
+         this.flags   = flags;
+         this.first   = null;
+         this.second  = null;
+      }
+      
+      SubtreeTask(SubtreeTask first, SubtreeTask second) {
+         this.in      = null;
+         this.pos     = 0;
+         this.len     = 0;
+         this.counter = 0;
+         this.key     = null;
+         this.flags   = 0;
+         this.first   = first;
+         this.second  = second;
+      }
+      
+      @Override
+      protected int[] compute() {
+         if (null != first) {
+            invokeAll(first, second);
+            return null;
+         }
+         if (len <= MIN_TASK_LEN) {
+            return subtreeCv(in, pos, len, counter, key, flags, new int[16]);
+         }
+         int half = len >>> 1;
+         SubtreeTask left  = new SubtreeTask(in, pos, half, counter, key, flags);
+         SubtreeTask right = new SubtreeTask(in, pos + half, half,
+               counter + half / CHUNK_LEN, key, flags);
+         invokeAll(left, right);
+         return parentCv(left.join(), right.join(), key, flags, new int[16]);
+      }
+   }
+   
+   // -------------------------------------------------------------------------
+   // Compression Function:
+   //
+   
+   /**
+    * Loads a block of up to 64 bytes as little-endian words, padding with
+    * zeros.
+    */
+   private static void loadBlock(byte[] src, int offset, int len, int[] dest) {
+      Arrays.fill(dest, 0);
+      for (int i = 0; i < len; i++) {
+         dest[i >>> 2] |= (src[offset + i] & 0xFF) << ((i & 3) << 3);
+      }
+   }
+   
+   private static int readIntLE(byte[] src, int offset) {
+      return (src[offset] & 0xFF)
+            | (src[offset + 1] & 0xFF) << 8
+            | (src[offset + 2] & 0xFF) << 16
+            | (src[offset + 3] & 0xFF) << 24;
+   }
+   
+   /**
+    * The BLAKE3 compression function.  Writes all 16 output words into
+    * <code>out</code>, the first eight of which are the new chaining value.
+    * <code>out</code> may be the same array as <code>m</code>.
+    */
+   private static void compress(int[] cv, int[] m, long counter, int blockLen,
+         int flags, int[] out)
+   {
+      int v0  = cv[0], v1  = cv[1], v2  = cv[2],  v3  = cv[3];
+      int v4  = cv[4], v5  = cv[5], v6  = cv[6],  v7  = cv[7];
+      int v8  = IV[0], v9  = IV[1], v10 = IV[2],  v11 = IV[3];
+      int v12 = (int) counter, v13 = (int) (counter >>> 32), v14 = blockLen, v15 = flags;
+      
+      int m0  = m[0],  m1  = m[1],  m2  = m[2],  m3  = m[3];
+      int m4  = m[4],  m5  = m[5],  m6  = m[6],  m7  = m[7];
+      int m8  = m[8],  m9  = m[9],  m10 = m[10], m11 = m[11];
+      int m12 = m[12], m13 = m[13], m14 = m[14], m15 = m[15];
+      
+      for (int r = 0; r < 7; r++) {
+         // Mix the columns.
+         v0 = v0 + v4 + m0;   v12 = Integer.rotateRight(v12 ^ v0, 16);
+         v8 = v8 + v12;       v4  = Integer.rotateRight(v4 ^ v8, 12);
+         v0 = v0 + v4 + m1;   v12 = Integer.rotateRight(v12 ^ v0, 8);
+         v8 = v8 + v12;       v4  = Integer.rotateRight(v4 ^ v8, 7);
+         
+         v1 = v1 + v5 + m2;   v13 = Integer.rotateRight(v13 ^ v1, 16);
+         v9 = v9 + v13;       v5  = Integer.rotateRight(v5 ^ v9, 12);
+         v1 = v1 + v5 + m3;   v13 = Integer.rotateRight(v13 ^ v1, 8);
+         v9 = v9 + v13;       v5  = Integer.rotateRight(v5 ^ v9, 7);
+         
+         v2  = v2 + v6 + m4;  v14 = Integer.rotateRight(v14 ^ v2, 16);
+         v10 = v10 + v14;     v6  = Integer.rotateRight(v6 ^ v10, 12);
+         v2  = v2 + v6 + m5;  v14 = Integer.rotateRight(v14 ^ v2, 8);
+         v10 = v10 + v14;     v6  = Integer.rotateRight(v6 ^ v10, 7);
+         
+         v3  = v3 + v7 + m6;  v15 = Integer.rotateRight(v15 ^ v3, 16);
+         v11 = v11 + v15;     v7  = Integer.rotateRight(v7 ^ v11, 12);
+         v3  = v3 + v7 + m7;  v15 = Integer.rotateRight(v15 ^ v3, 8);
+         v11 = v11 + v15;     v7  = Integer.rotateRight(v7 ^ v11, 7);
+         
+         // Mix the diagonals.
+         v0  = v0 + v5 + m8;  v15 = Integer.rotateRight(v15 ^ v0, 16);
+         v10 = v10 + v15;     v5  = Integer.rotateRight(v5 ^ v10, 12);
+         v0  = v0 + v5 + m9;  v15 = Integer.rotateRight(v15 ^ v0, 8);
+         v10 = v10 + v15;     v5  = Integer.rotateRight(v5 ^ v10, 7);
+         
+         v1  = v1 + v6 + m10; v12 = Integer.rotateRight(v12 ^ v1, 16);
+         v11 = v11 + v12;     v6  = Integer.rotateRight(v6 ^ v11, 12);
+         v1  = v1 + v6 + m11; v12 = Integer.rotateRight(v12 ^ v1, 8);
+         v11 = v11 + v12;     v6  = Integer.rotateRight(v6 ^ v11, 7);
+         
+         v2  = v2 + v7 + m12; v13 = Integer.rotateRight(v13 ^ v2, 16);
+         v8  = v8 + v13;      v7  = Integer.rotateRight(v7 ^ v8, 12);
+         v2  = v2 + v7 + m13; v13 = Integer.rotateRight(v13 ^ v2, 8);
+         v8  = v8 + v13;      v7  = Integer.rotateRight(v7 ^ v8, 7);
+         
+         v3  = v3 + v4 + m14; v14 = Integer.rotateRight(v14 ^ v3, 16);
+         v9  = v9 + v14;      v4  = Integer.rotateRight(v4 ^ v9, 12);
+         v3  = v3 + v4 + m15; v14 = Integer.rotateRight(v14 ^ v3, 8);
+         v9  = v9 + v14;      v4  = Integer.rotateRight(v4 ^ v9, 7);
+         
+         // Apply the message permutation for the next round.
+         int t0 = m0, t1 = m1, t4 = m4, t5 = m5, t8 = m8, t9 = m9;
+         m0  = m2;  m1  = m6;  m2  = m3;  m3  = m10;
+         m4  = m7;  m5  = t0;  m6  = t4;  m7  = m13;
+         m8  = t1;  m9  = m11; m10 = m12; m11 = t5;
+         m12 = t9;  m13 = m14; m14 = m15; m15 = t8;
+      }
+      
+      out[0]  = v0 ^ v8;   out[8]  = v8 ^ cv[0];
+      out[1]  = v1 ^ v9;   out[9]  = v9 ^ cv[1];
+      out[2]  = v2 ^ v10;  out[10] = v10 ^ cv[2];
+      out[3]  = v3 ^ v11;  out[11] = v11 ^ cv[3];
+      out[4]  = v4 ^ v12;  out[12] = v12 ^ cv[4];
+      out[5]  = v5 ^ v13;  out[13] = v13 ^ cv[5];
+      out[6]  = v6 ^ v14;  out[14] = v14 ^ cv[6];
+      out[7]  = v7 ^ v15;  out[15] = v15 ^ cv[7];
+   }
+}
@@ -0,0 +1,790 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * Hashes every element of a large array or list, in parallel on a
+ * {@link java.util.concurrent.ForkJoinPool}, writing the results in input
+ * order as hexadecimal Strings, as packed raw digests or as
+ * <code>long</code> fingerprints.
+ * <p>
+ * The hash of each element is identical to the hash produced by the
+ * corresponding {@link HashGenerator} <code>createHash</code> method; for
+ * example element <code>i</code> of
+ * <code>createHashes(longs)</code> equals
+ * <code>HashGenerator.createHash(longs[i], hashAlgo)</code>.  The input is
+ * split into contiguous ranges, a few per pool thread, and each range is
+ * hashed with the digest cached for the pool thread by
+ * {@link HashGenerator}, so a single digest and scratch buffer is re-used
+ * for every element of a range.
+ * <p>
+ * The packed output of element <code>i</code> starts at
+ * <code>offset + i * getDigestLength()</code>, in a byte array or a heap or
+ * direct {@link java.nio.ByteBuffer}; {@link PackedDigests} provides indexed
+ * access to it.  The fingerprint of an
+ * element is the first eight bytes of its digest, read as a big-endian
+ * <code>long</code>; fingerprints are suitable as compact keys but, being
+ * truncated, are far more likely to collide than full digests.
+ * <p>
+ * The input must not be modified while it is being hashed.  Intermediate
+ * copies of the input are wiped before returning.  Instances are immutable
+ * and thread safe.
+ *
+ * @since   1.2.0
+ */
+public class BulkHasher {
+   
+   /**
+    * Number of tasks per pool thread into which the input is split, to even
+    * out the load when some threads are slower than others.
+    */
+   private static final int TASKS_PER_THREAD = 4;
+   
+   /**
+    * Minimum number of elements hashed by a single task, below which the
+    * cost of forking outweighs that of hashing.
+    */
+   private static final int MIN_ELEMENTS_PER_TASK = 256;
+   
+   private final HashAlgorithm hashAlgo;
+   
+   private final ForkJoinPool pool;
+   
+   private final int digestLength;
+   
+   // -------------------------------------------------------------------------
+   // Constructors:
+   //
+   
+   /**
+    * Creates a new bulk hasher that hashes on the common
+    * {@link java.util.concurrent.ForkJoinPool}.
+    * 
+    * @param  hashAlgo
+    *         algorithm with which elements are hashed.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is null.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is not supported by the runtime.
+    */
+   public BulkHasher(HashAlgorithm hashAlgo)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      this(hashAlgo, ForkJoinPool.commonPool());
+   }
+   
+   /**
+    * Creates a new bulk hasher.
+    * 
+    * @param  hashAlgo
+    *         algorithm with which elements are hashed.
+    * @param  pool
+    *         pool on which elements are hashed.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo or pool arguments are null.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is not supported by the runtime.
+    */
+   public BulkHasher(HashAlgorithm hashAlgo, ForkJoinPool pool)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      if (null == hashAlgo) {
+         throw new IllegalArgumentException("null HashAlgorithm passed to BulkHasher");
+      }
+      if (null == pool) {
+         throw new IllegalArgumentException("null ForkJoinPool passed to BulkHasher");
+      }
+      
+      // Fail fast, rather than from within a pool thread.
+      this.digestLength = hashAlgo.newMessageDigest().getDigestLength();
+      this.hashAlgo     = hashAlgo;
+      this.pool         = pool;
+   }
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+   
+   /**
+    * Get the algorithm with which elements are hashed.
+    * 
+    * @return the algorithm with which elements are hashed.
+    */
+   public HashAlgorithm getHashAlgo() {
+      return hashAlgo;
+   }
+   
+   /**
+    * Get the number of bytes written for each element by the
+    * <code>writeHashes</code> methods.
+    * 
+    * @return the length of each digest in bytes.
+    */
+   public int getDigestLength() {
+      return digestLength;
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /** -- Longs ------------------------------------------------------------ */
+   
+   /**
+    * Generates the hexadecimal hash of every element of a long array.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @return the hexadecimal hash of each element, in input order.
+    */
+   public String[] createHashes(long[] input) {
+      String[] output = new String[input.length];
+      createHashes(input, output);
+      return output;
+   }
+   
+   /**
+    * Writes the hexadecimal hash of every element of a long array into the
+    * corresponding element of <code>output</code>.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @param  output
+    *         array, at least as long as the input, that receives the hashes.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> is null or shorter than the input.
+    */
+   public void createHashes(long[] input, String[] output) throws IllegalArgumentException {
+      checkOutputLength(input.length, output);
+      run(new LongElements(input), new HexSink(output));
+   }
+   
+   /**
+    * Writes the raw digest of every element of a long array into a single
+    * packed array.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @param  output
+    *         array that receives the digests.
+    * @param  offset
+    *         index in <code>output</code> of the digest of the first element.
+    * @return the number of bytes written.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for all of the
+    *         digests.
+    */
+   public int writeHashes(long[] input, byte[] output, int offset)
+      throws IllegalArgumentException
+   {
+      checkPackedOutput(input.length, output, offset);
+      run(new LongElements(input), new PackedSink(output, offset, digestLength));
+      return input.length * digestLength;
+   }
+   
+   /**
+    * Writes the raw digest of every element of a long array into a buffer,
+    * packed back to back starting at its current position, and advances the
+    * position by the number of bytes written.  A direct buffer keeps the
+    * digests off the Java heap.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @param  output
+    *         buffer that receives the digests.
+    * @return the number of bytes written.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for all of the
+    *         digests.
+    * @throws java.nio.ReadOnlyBufferException
+    *         if <code>output</code> is read-only.
+    */
+   public int writeHashes(long[] input, ByteBuffer output) throws IllegalArgumentException {
+      return writeHashes(new LongElements(input), output);
+   }
+   
+   /**
+    * Generates the raw digest of every element of a long array, packed back
+    * to back into a single array.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @return a view of the digests, in input order.
+    */
+   public PackedDigests createPackedHashes(long[] input) {
+      byte[] output = new byte[checkedPackedLength(input.length)];
+      writeHashes(input, output, 0);
+      return PackedDigests.wrap(output, 0, input.length, digestLength);
+   }
+   
+   /**
+    * Generates the <code>long</code> fingerprint of every element of a long
+    * array.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @return the fingerprint of each element, in input order.
+    */
+   public long[] createFingerprints(long[] input) {
+      long[] output = new long[input.length];
+      createFingerprints(input, output);
+      return output;
+   }
+   
+   /**
+    * Writes the <code>long</code> fingerprint of every element of a long
+    * array into the corresponding element of <code>output</code>.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @param  output
+    *         array, at least as long as the input, that receives the
+    *         fingerprints.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> is null or shorter than the input.
+    */
+   public void createFingerprints(long[] input, long[] output) throws IllegalArgumentException {
+      checkOutputLength(input.length, output);
+      run(new LongElements(input), new FingerprintSink(output));
+   }
+   
+   /** -- Strings ---------------------------------------------------------- */
+   
+   /**
+    * Generates the hexadecimal hash of every element of a String array.
+    * 
+    * @param  input
+    *         Strings to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return the hexadecimal hash of each element, in input order.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    */
+   public String[] createHashes(String[] input, String encoding)
+      throws UnsupportedEncodingException
+   {
+      return createHashes(Arrays.asList(input), encoding);
+   }
+   
+   /**
+    * Generates the hexadecimal hash of every element of a list of Strings.
+    * Lists that do not implement {@link java.util.RandomAccess} are first
+    * copied into an array.
+    * 
+    * @param  input
+    *         Strings to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return the hexadecimal hash of each element, in input order.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    */
+   public String[] createHashes(List<String> input, String encoding)
+      throws UnsupportedEncodingException
+   {
+      String[] output = new String[input.size()];
+      createHashes(input, encoding, output);
+      return output;
+   }
+   
+   /**
+    * Writes the hexadecimal hash of every element of a list of Strings into
+    * the corresponding element of <code>output</code>.
+    * 
+    * @param  input
+    *         Strings to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         array, at least as long as the input, that receives the hashes.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> is null or shorter than the input.
+    */
+   public void createHashes(List<String> input, String encoding, String[] output)
+      throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      checkOutputLength(input.size(), output);
+      run(new StringElements(input, toCharset(encoding)), new HexSink(output));
+   }
+   
+   /**
+    * Writes the raw digest of every element of a list of Strings into a
+    * single packed array.
+    * 
+    * @param  input
+    *         Strings to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         array that receives the digests.
+    * @param  offset
+    *         index in <code>output</code> of the digest of the first element.
+    * @return the number of bytes written.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for all of the
+    *         digests.
+    */
+   public int writeHashes(List<String> input, String encoding, byte[] output, int offset)
+      throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      int count = input.size();
+      checkPackedOutput(count, output, offset);
+      run(new StringElements(input, toCharset(encoding)),
+            new PackedSink(output, offset, digestLength));
+      return count * digestLength;
+   }
+   
+   /**
+    * Writes the raw digest of every element of a list of Strings into a
+    * buffer, packed back to back starting at its current position, and
+    * advances the position by the number of bytes written.
+    * 
+    * @param  input
+    *         Strings to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         buffer that receives the digests.
+    * @return the number of bytes written.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for all of the
+    *         digests.
+    * @throws java.nio.ReadOnlyBufferException
+    *         if <code>output</code> is read-only.
+    */
+   public int writeHashes(List<String> input, String encoding, ByteBuffer output)
+      throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      return writeHashes(new StringElements(input, toCharset(encoding)), output);
+   }
+   
+   /**
+    * Generates the raw digest of every element of a list of Strings, packed
+    * back to back into a single array.
+    * 
+    * @param  input
+    *         Strings to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return a view of the digests, in input order.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    */
+   public PackedDigests createPackedHashes(List<String> input, String encoding)
+      throws UnsupportedEncodingException
+   {
+      int count = input.size();
+      byte[] output = new byte[checkedPackedLength(count)];
+      writeHashes(input, encoding, output, 0);
+      return PackedDigests.wrap(output, 0, count, digestLength);
+   }
+   
+   /**
+    * Generates the <code>long</code> fingerprint of every element of a list
+    * of Strings.
+    * 
+    * @param  input
+    *         Strings to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return the fingerprint of each element, in input order.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    */
+   public long[] createFingerprints(List<String> input, String encoding)
+      throws UnsupportedEncodingException
+   {
+      long[] output = new long[input.size()];
+      run(new StringElements(input, toCharset(encoding)), new FingerprintSink(output));
+      return output;
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Hashes every element into the sink, splitting the elements into a few
+    * ranges per pool thread.
+    */
+   private void run(Elements elements, Sink sink) {
+      int count = elements.size();
+      if (0 == count) {
+         return;
+      }
+      long targetTasks = (long) pool.getParallelism() * TASKS_PER_THREAD;
+      int perTask = (int) Math.max(MIN_ELEMENTS_PER_TASK, (count + targetTasks - 1) / targetTasks);
+      pool.invoke(new RangeTask(elements, sink, 0, count, perTask));
+   }
+   
+   /**
+    * Hashes every element into the buffer at its position, through its
+    * backing array when it has one.
+    */
+   private int writeHashes(Elements elements, ByteBuffer output) throws IllegalArgumentException {
+      if (null == output) {
+         throw new IllegalArgumentException("null passed as output argument");
+      }
+      if (output.isReadOnly()) {
+         throw new ReadOnlyBufferException();
+      }
+      int count  = elements.size();
+      int length = checkedPackedLength(count);
+      if (length > output.remaining()) {
+         throw new IllegalArgumentException("output does not have room for " + count
+               + " digests of " + digestLength + " bytes");
+      }
+      if (output.hasArray()) {
+         run(elements, new PackedSink(output.array(),
+               output.arrayOffset() + output.position(), digestLength));
+      } else {
+         run(elements, new BufferSink(output.duplicate(), output.position(), digestLength));
+      }
+      output.position(output.position() + length);
+      return length;
+   }
+   
+   /**
+    * Returns the number of bytes taken by the packed digests of the given
+    * number of elements.
+    */
+   private int checkedPackedLength(int count) throws IllegalArgumentException {
+      long length = (long) count * digestLength;
+      if (length > Integer.MAX_VALUE - 8) {
+         throw new IllegalArgumentException(
+               count + " digests of " + digestLength + " bytes do not fit in a single array");
+      }
+      return (int) length;
+   }
+   
+   private MessageDigest getDigest() {
+      try {
+         return HashGenerator.getThreadLocalDigest(hashAlgo);
+      } catch (NoSuchAlgorithmException e) {
+         // Already verified to be available in the constructor.
+         throw new IllegalStateException(e);
+      }
+   }
+   
+   private void checkPackedOutput(int count, byte[] output, int offset)
+      throws IllegalArgumentException
+   {
+      if (null == output || offset < 0
+            || (long) count * digestLength > (long) output.length - offset)
+      {
+         throw new IllegalArgumentException("output does not have room for " + count
+               + " digests of " + digestLength + " bytes at the given offset");
+      }
+   }
+   
+   private static void checkOutputLength(int count, String[] output)
+      throws IllegalArgumentException
+   {
+      checkOutputLength(count, null == output ? -1 : output.length);
+   }
+   
+   private static void checkOutputLength(int count, long[] output)
+      throws IllegalArgumentException
+   {
+      checkOutputLength(count, null == output ? -1 : output.length);
+   }
+   
+   private static void checkOutputLength(int count, int outputLength)
+      throws IllegalArgumentException
+   {
+      if (outputLength < count) {
+         throw new IllegalArgumentException("output must have room for " + count + " elements");
+      }
+   }
+   
+   private static Charset toCharset(String encoding) throws UnsupportedEncodingException {
+      if (null == encoding || encoding.isEmpty()) {
+         throw new IllegalArgumentException("null or empty String passed as encoding argument");
+      }
+      try {
+         return Charset.forName(encoding);
+      } catch (IllegalArgumentException e) {
+         throw new UnsupportedEncodingException(encoding);
+      }
+   }
+   
+   // -------------------------------------------------------------------------
+   // Nested Classes:
+   //
+   
+   /**
+    * Indexed input whose elements are added to a digest.
+    */
+   private abstract static class Elements {
+      
+      abstract int size();
+      
+      /**
+       * Adds the bytes of the element at the given index to the digest,
+       * using the scratch array if required.
+       */
+      abstract void update(MessageDigest md, int index, byte[] scratch);
+   }
+   
+   private static final class LongElements extends Elements {
+      
+      private final long[] input;
+      
+      LongElements(long[] input) {
+         this.input = input;
+      }
+      
+      @Override
+      int size() {
+         return input.length;
+      }
+      
+      @Override
+      void update(MessageDigest md, int index, byte[] scratch) {
+         long value = input[index];
+         for (int i = 7; i >= 0; i--) {
+            scratch[i] = (byte) value;
+            value >>>= 8;
+         }
+         md.update(scratch, 0, 8);
+      }
+   }
+   
+   private static final class StringElements extends Elements {
+      
+      private final List<String> input;
+      
+      private final Charset charset;
+      
+      StringElements(List<String> input, Charset charset) {
+         this.input   = input instanceof RandomAccess
+               ? input : Arrays.asList(input.toArray(new String[input.size()]));
+         this.charset = charset;
+      }
+      
+      @Override
+      int size() {
+         return input.size();
+      }
+      
+      @Override
+      void update(MessageDigest md, int index, byte[] scratch) {
+         byte[] bytes = input.get(index).getBytes(charset);
+         md.update(bytes);
+         Arrays.fill(bytes, (byte) 0x00);
+      }
+   }
+   
+   /**
+    * Receives the digest of each element.
+    */
+   private abstract static class Sink {
+      
+      /**
+       * Completes the digest of the element at the given index and stores
+       * it, using the scratch array if required.
+       */
+      abstract void accept(MessageDigest md, int index, byte[] scratch);
+   }
+   
+   private static final class HexSink extends Sink {
+      
+      private final String[] output;
+      
+      HexSink(String[] output) {
+         this.output = output;
+      }
+      
+      @Override
+      void accept(MessageDigest md, int index, byte[] scratch) {
+         int length = HashGenerator.digestInto(md, scratch, 0);
+         output[index] = HexEncoder.encode(scratch, 0, length);
+      }
+   }
+   
+   private static final class PackedSink extends Sink {
+      
+      private final byte[] output;
+      private final int offset;
+      private final int digestLength;
+      
+      PackedSink(byte[] output, int offset, int digestLength) {
+         this.output       = output;
+         this.offset       = offset;
+         this.digestLength = digestLength;
+      }
+      
+      @Override
+      void accept(MessageDigest md, int index, byte[] scratch) {
+         HashGenerator.digestInto(md, output, offset + index * digestLength);
+      }
+   }
+   
+   /**
+    * Writes each digest into a buffer without a backing array, such as a
+    * direct buffer, by absolute index.
+    */
+   private static final class BufferSink extends Sink {
+      
+      private final ByteBuffer output;
+      private final int position;
+      private final int digestLength;
+      
+      BufferSink(ByteBuffer output, int position, int digestLength) {
+         this.output       = output;
+         this.position     = position;
+         this.digestLength = digestLength;
+      }
+      
+      @Override
+      void accept(MessageDigest md, int index, byte[] scratch) {
+         HashGenerator.digestInto(md, scratch, 0);
+         int start = position + index * digestLength;
+         for (int i = 0; i < digestLength; i++) {
+            output.put(start + i, scratch[i]);
+         }
+      }
+   }
+   
+   private static final class FingerprintSink extends Sink {
+      
+      private final long[] output;
+      
+      FingerprintSink(long[] output) {
+         this.output = output;
+      }
+      
+      @Override
+      void accept(MessageDigest md, int index, byte[] scratch) {
+         HashGenerator.digestInto(md, scratch, 0);
+         long fingerprint = 0;
+         for (int i = 0; i < 8; i++) {
+            fingerprint = (fingerprint << 8) | (scratch[i] & 0xFF);
+         }
+         output[index] = fingerprint;
+      }
+   }
+   
+   /**
+    * Hashes a contiguous range of elements, splitting it in half until each
+    * task covers at most <code>perTask</code> elements.
+    */
+   private class RangeTask extends RecursiveAction {
+      
+      private static final long serialVersionUID = 1L;
+      
+      private final Elements elements;
+      private final Sink sink;
+      private final int from;
+      private final int to;
+      private final int perTask;
+      
+      RangeTask(Elements elements, Sink sink, int from, int to, int perTask) {
+         this.elements = elements;
+         this.sink     = sink;
+         this.from     = from;
+         this.to       = to;
+         this.perTask  = perTask;
+      }
+      
+      @Override
+      protected void compute() {
+         if (to - from > perTask) {
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                  new RangeTask(elements, sink, from, mid, perTask),
+                  new RangeTask(elements, sink, mid, to, perTask));
+            return;
+         }
+         
+         MessageDigest md = getDigest();
+         byte[] scratch   = new byte[Math.max(8, digestLength)];
+         try {
+            for (int i = from; i < to; i++) {
+               elements.update(md, i, scratch);
+               sink.accept(md, i, scratch);
+            }
+         } finally {
+            md.reset();
+            Arrays.fill(scratch, (byte) 0x00);
+         }
+      }
+   }
+}
@@ -0,0 +1,659 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+/**
+ * The <code>ChecksumGenerator</code> creates non-cryptographic checksums,
+ * for integrity checks where a {@link HashGenerator} digest is not
+ * required, with the same per-type overloads as {@link HashGenerator}.
+ * <p>
+ * Checksums are computed by the JDK's {@link java.util.zip.Checksum}
+ * implementations, which the JIT replaces with hardware accelerated
+ * intrinsics on most platforms, and are returned as primitive
+ * <code>long</code> values holding an unsigned 32-bit result, without the
+ * overhead of a {@link java.security.MessageDigest} or of hexadecimal
+ * encoding.  On Java 8, which has no <code>java.util.zip.CRC32C</code>,
+ * {@link ChecksumAlgorithm#CRC32C} falls back to a pure Java implementation.
+ * <p>
+ * Each value is encoded to bytes exactly as it is by the corresponding
+ * {@link HashGenerator} <code>createHash</code> method.  Files are
+ * memory-mapped in windows, and streams and channels are read through a
+ * re-usable buffer, as they are by {@link HashGenerator}.
+ * <p>
+ * All of the methods are static and thread safe; the
+ * {@link java.util.zip.Checksum} instances and buffers are cached per
+ * thread.
+ *
+ * @since   1.2.0
+ */
+public final class ChecksumGenerator {
+   
+   /**
+    * Number of bytes of a char array encoded at a time.
+    */
+   private static final int SCRATCH_SIZE = 512;
+   
+   /**
+    * <code>java.util.zip.CRC32C</code>, available from Java 9, or null.
+    */
+   private static final Constructor<? extends Checksum> JDK_CRC32C = findJdkCrc32c();
+   
+   /**
+    * <code>Checksum.update(ByteBuffer)</code>, available from Java 9, or
+    * null.  Bound reflectively so that the class still compiles and links
+    * against the Java 8 API.
+    */
+   private static final Method JDK_CHECKSUM_BUFFER_UPDATE = findChecksumBufferUpdate();
+   
+   private static final ThreadLocal<Map<ChecksumAlgorithm, Checksum>> THREAD_LOCAL_CHECKSUMS =
+         new ThreadLocal<Map<ChecksumAlgorithm, Checksum>>() {
+            @Override
+            protected Map<ChecksumAlgorithm, Checksum> initialValue() {
+               return new EnumMap<ChecksumAlgorithm, Checksum>(ChecksumAlgorithm.class);
+            }
+         };
+   
+   /**
+    * Per-thread buffer into which primitives and char arrays are encoded.
+    */
+   private static final ThreadLocal<ByteBuffer> THREAD_LOCAL_SCRATCH =
+         new ThreadLocal<ByteBuffer>() {
+            @Override
+            protected ByteBuffer initialValue() {
+               return ByteBuffer.allocate(SCRATCH_SIZE);
+            }
+         };
+   
+   /**
+    * Per-thread buffer through which streams and channels are read.
+    */
+   private static final ThreadLocal<ByteBuffer> THREAD_LOCAL_STREAM_BUFFER =
+         new ThreadLocal<ByteBuffer>() {
+            @Override
+            protected ByteBuffer initialValue() {
+               return ByteBuffer.allocate(HashGenerator.STREAM_BUFFER_SIZE);
+            }
+         };
+   
+   private ChecksumGenerator() {
+   }
+   
+   /** -- Primitives ------------------------------------------------------- */
+   
+   /**
+    * Generates a checksum of a byte, encoded big-endian as by the
+    * corresponding {@link HashGenerator} <code>createHash</code> method.
+    * 
+    * @param  input
+    *         byte to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(byte input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      Checksum checksum = getThreadLocalChecksum(checksumAlgorithm);
+      checksum.update(input);
+      return checksum.getValue();
+   }
+   
+   /**
+    * Generates a checksum of a char, encoded big-endian as by the
+    * corresponding {@link HashGenerator} <code>createHash</code> method.
+    * 
+    * @param  input
+    *         char to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(char input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      ByteBuffer scratch = THREAD_LOCAL_SCRATCH.get();
+      scratch.clear();
+      scratch.putChar(input);
+      return updateScratch(checksumAlgorithm, scratch);
+   }
+   
+   /**
+    * Generates a checksum of a short, encoded big-endian as by the
+    * corresponding {@link HashGenerator} <code>createHash</code> method.
+    * 
+    * @param  input
+    *         short to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(short input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      ByteBuffer scratch = THREAD_LOCAL_SCRATCH.get();
+      scratch.clear();
+      scratch.putShort(input);
+      return updateScratch(checksumAlgorithm, scratch);
+   }
+   
+   /**
+    * Generates a checksum of an int, encoded big-endian as by the
+    * corresponding {@link HashGenerator} <code>createHash</code> method.
+    * 
+    * @param  input
+    *         int to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(int input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      ByteBuffer scratch = THREAD_LOCAL_SCRATCH.get();
+      scratch.clear();
+      scratch.putInt(input);
+      return updateScratch(checksumAlgorithm, scratch);
+   }
+   
+   /**
+    * Generates a checksum of a long, encoded big-endian as by the
+    * corresponding {@link HashGenerator} <code>createHash</code> method.
+    * 
+    * @param  input
+    *         long to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(long input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      ByteBuffer scratch = THREAD_LOCAL_SCRATCH.get();
+      scratch.clear();
+      scratch.putLong(input);
+      return updateScratch(checksumAlgorithm, scratch);
+   }
+   
+   /**
+    * Generates a checksum of a float, encoded big-endian as by the
+    * corresponding {@link HashGenerator} <code>createHash</code> method.
+    * 
+    * @param  input
+    *         float to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(float input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      ByteBuffer scratch = THREAD_LOCAL_SCRATCH.get();
+      scratch.clear();
+      scratch.putFloat(input);
+      return updateScratch(checksumAlgorithm, scratch);
+   }
+   
+   /**
+    * Generates a checksum of a double, encoded big-endian as by the
+    * corresponding {@link HashGenerator} <code>createHash</code> method.
+    * 
+    * @param  input
+    *         double to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(double input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      ByteBuffer scratch = THREAD_LOCAL_SCRATCH.get();
+      scratch.clear();
+      scratch.putDouble(input);
+      return updateScratch(checksumAlgorithm, scratch);
+   }
+   
+   /** -- Byte Arrays and Buffers ------------------------------------------ */
+   
+   /**
+    * Generates a checksum of a byte array.
+    * 
+    * @param  input
+    *         byte array to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(byte[] input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      return createChecksum(input, 0, input.length, checksumAlgorithm);
+   }
+   
+   /**
+    * Generates a checksum of a range of a byte array.
+    * 
+    * @param  input
+    *         array holding the bytes to be checksummed.
+    * @param  offset
+    *         index of the first byte to be checksummed.
+    * @param  length
+    *         number of bytes to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    * @throws IndexOutOfBoundsException
+    *         if the range is not within the array.
+    */
+   public static long createChecksum(byte[] input, int offset, int length,
+         ChecksumAlgorithm checksumAlgorithm) throws IllegalArgumentException
+   {
+      Checksum checksum = getThreadLocalChecksum(checksumAlgorithm);
+      checksum.update(input, offset, length);
+      return checksum.getValue();
+   }
+   
+   /**
+    * Generates a checksum of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}.  Direct buffers are checksummed in place.
+    * Upon return, the buffer's position will be equal to its limit; its
+    * limit will not have been changed.
+    * 
+    * @param  input
+    *         buffer to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(ByteBuffer input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      Checksum checksum = getThreadLocalChecksum(checksumAlgorithm);
+      update(checksum, input);
+      return checksum.getValue();
+   }
+   
+   /** -- Strings and Character Arrays ------------------------------------- */
+   
+   /**
+    * Generates a checksum of a String.
+    * 
+    * @param  input
+    *         String to be checksummed.
+    * @param  encoding
+    *         encoding used to convert the String to bytes with
+    *         {@link java.lang.String#getBytes(String)}.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(String input, String encoding,
+         ChecksumAlgorithm checksumAlgorithm)
+      throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      checkChecksumAlgorithm(checksumAlgorithm);
+      return createChecksum(input.getBytes(encoding), checksumAlgorithm);
+   }
+   
+   /**
+    * Generates a checksum of the big-endian UTF-16 encoding of a character
+    * array.
+    * 
+    * @param  input
+    *         char[] to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(char[] input, ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      Checksum checksum  = getThreadLocalChecksum(checksumAlgorithm);
+      ByteBuffer scratch = THREAD_LOCAL_SCRATCH.get();
+      try {
+         for (int i = 0; i < input.length; ) {
+            scratch.clear();
+            while (i < input.length && scratch.remaining() >= 2) {
+               scratch.putChar(input[i++]);
+            }
+            checksum.update(scratch.array(), 0, scratch.position());
+         }
+      } finally {
+         Arrays.fill(scratch.array(), (byte) 0x00);
+      }
+      return checksum.getValue();
+   }
+   
+   /** -- Streams, Channels and Files -------------------------------------- */
+   
+   /**
+    * Generates a checksum of all of the bytes read from an InputStream until
+    * the end of the stream is reached.  The stream is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(InputStream input, ChecksumAlgorithm checksumAlgorithm)
+      throws IOException, IllegalArgumentException
+   {
+      Checksum checksum = getThreadLocalChecksum(checksumAlgorithm);
+      byte[] buffer = THREAD_LOCAL_STREAM_BUFFER.get().array();
+      int numRead;
+      while ((numRead = input.read(buffer, 0, buffer.length)) != -1) {
+         checksum.update(buffer, 0, numRead);
+      }
+      return checksum.getValue();
+   }
+   
+   /**
+    * Generates a checksum of all of the bytes read from a
+    * ReadableByteChannel until the end of the channel is reached.  The
+    * channel must be in blocking mode, and is <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(ReadableByteChannel input,
+         ChecksumAlgorithm checksumAlgorithm) throws IOException, IllegalArgumentException
+   {
+      Checksum checksum = getThreadLocalChecksum(checksumAlgorithm);
+      update(checksum, input, THREAD_LOCAL_STREAM_BUFFER.get());
+      return checksum.getValue();
+   }
+   
+   /**
+    * Generates a checksum of the contents of a file.  Regular files are
+    * memory-mapped in windows of
+    * {@link HashGenerator#DEFAULT_MAPPED_WINDOW_SIZE} bytes, and each window
+    * is checksummed in place; other files are read through a buffer.
+    * 
+    * @param  input
+    *         path of the file to be checksummed.
+    * @param  checksumAlgorithm
+    *         {@link ChecksumAlgorithm} to be used to generate the checksum.
+    * @return unsigned 32-bit checksum of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if the checksumAlgorithm argument is null.
+    */
+   public static long createChecksum(Path input, ChecksumAlgorithm checksumAlgorithm)
+      throws IOException, IllegalArgumentException
+   {
+      Checksum checksum = getThreadLocalChecksum(checksumAlgorithm);
+      try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+         long size = channel.size();
+         if (!Files.isRegularFile(input) || 0 == size) {
+            update(checksum, channel, THREAD_LOCAL_STREAM_BUFFER.get());
+            return checksum.getValue();
+         }
+         
+         int windowSize = HashGenerator.DEFAULT_MAPPED_WINDOW_SIZE;
+         for (long position = 0; position < size; position += windowSize) {
+            long windowLength = Math.min(windowSize, size - position);
+            MappedByteBuffer window =
+                  channel.map(FileChannel.MapMode.READ_ONLY, position, windowLength);
+            update(checksum, window);
+         }
+      }
+      return checksum.getValue();
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Returns the checksum of the given algorithm cached for the calling
+    * thread, reset to its initial state.
+    */
+   private static Checksum getThreadLocalChecksum(ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      checkChecksumAlgorithm(checksumAlgorithm);
+      Map<ChecksumAlgorithm, Checksum> checksums = THREAD_LOCAL_CHECKSUMS.get();
+      Checksum checksum = checksums.get(checksumAlgorithm);
+      if (null == checksum) {
+         checksum = checksumAlgorithm.newChecksum();
+         checksums.put(checksumAlgorithm, checksum);
+      } else {
+         checksum.reset();
+      }
+      return checksum;
+   }
+   
+   /**
+    * Releases the checksums and buffers cached for the calling thread.
+    */
+   public static void releaseThreadLocalState() {
+      THREAD_LOCAL_CHECKSUMS.remove();
+      THREAD_LOCAL_SCRATCH.remove();
+      THREAD_LOCAL_STREAM_BUFFER.remove();
+   }
+   
+   private static void checkChecksumAlgorithm(ChecksumAlgorithm checksumAlgorithm)
+      throws IllegalArgumentException
+   {
+      if (null == checksumAlgorithm) {
+         throw new IllegalArgumentException("No checksum algorithm was provided.");
+      }
+   }
+   
+   private static long updateScratch(ChecksumAlgorithm checksumAlgorithm, ByteBuffer scratch)
+      throws IllegalArgumentException
+   {
+      Checksum checksum = getThreadLocalChecksum(checksumAlgorithm);
+      checksum.update(scratch.array(), 0, scratch.position());
+      return checksum.getValue();
+   }
+   
+   /**
+    * Updates a checksum with the remaining bytes of a buffer, in place for
+    * direct buffers where the implementation supports it.
+    */
+   static void update(Checksum checksum, ByteBuffer buffer) {
+      if (buffer.hasArray()) {
+         checksum.update(buffer.array(), buffer.arrayOffset() + buffer.position(),
+               buffer.remaining());
+         buffer.position(buffer.limit());
+      } else if (checksum instanceof CRC32) {
+         ((CRC32) checksum).update(buffer);
+      } else if (checksum instanceof Adler32) {
+         ((Adler32) checksum).update(buffer);
+      } else if (checksum instanceof Crc32c) {
+         ((Crc32c) checksum).update(buffer);
+      } else if (null != JDK_CHECKSUM_BUFFER_UPDATE) {
+         // Only reached for java.util.zip.CRC32C, so on Java 9 or later
+         // where Checksum has a ByteBuffer update method.
+         try {
+            JDK_CHECKSUM_BUFFER_UPDATE.invoke(checksum, buffer);
+         } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+               throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+         } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+         }
+      } else {
+         byte[] chunk = THREAD_LOCAL_STREAM_BUFFER.get().array();
+         while (buffer.hasRemaining()) {
+            int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            checksum.update(chunk, 0, length);
+         }
+      }
+   }
+   
+   private static void update(Checksum checksum, ReadableByteChannel channel,
+         ByteBuffer buffer) throws IOException
+   {
+      buffer.clear();
+      while (channel.read(buffer) != -1) {
+         checksum.update(buffer.array(), 0, buffer.position());
+         buffer.clear();
+      }
+   }
+   
+   private static Constructor<? extends Checksum> findJdkCrc32c() {
+      try {
+         return Class.forName("java.util.zip.CRC32C").asSubclass(Checksum.class)
+               .getConstructor();
+      } catch (ReflectiveOperationException e) {
+         return null;
+      }
+   }
+   
+   private static Method findChecksumBufferUpdate() {
+      try {
+         return Checksum.class.getMethod("update", ByteBuffer.class);
+      } catch (NoSuchMethodException e) {
+         return null;
+      }
+   }
+   
+   /**
+    * Supported checksum algorithms.
+    * 
+    * @since  1.2.0
+    */
+   public static enum ChecksumAlgorithm {
+      /**
+       * CRC-32, as used by zip and gzip.
+       */
+      CRC32,
+      
+      /**
+       * CRC-32C (Castagnoli), as used by iSCSI, ext4 and many storage
+       * systems.
+       */
+      CRC32C,
+      
+      /**
+       * Adler-32, as used by zlib; faster than CRC-32 but weaker for short
+       * inputs.
+       */
+      ADLER32;
+      
+      /**
+       * Instantiates a new {@link java.util.zip.Checksum} for this
+       * algorithm.
+       * 
+       * @return a new {@link java.util.zip.Checksum} instance.
+       */
+      public Checksum newChecksum() {
+         switch (this) {
+            case CRC32:
+               return new CRC32();
+            case ADLER32:
+               return new Adler32();
+            default:
+               if (null != JDK_CRC32C) {
+                  try {
+                     return JDK_CRC32C.newInstance();
+                  } catch (ReflectiveOperationException e) {
+                     // Fall through to the pure Java implementation.
+                  }
+               }
+               return new Crc32c();
+         }
+      }
+   }
+}
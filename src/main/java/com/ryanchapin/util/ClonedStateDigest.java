@@ -0,0 +1,189 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * Base class for a {@link java.security.MessageDigest} that starts every
+ * hash from a digest state computed ahead of time, by cloning it, rather
+ * than by re-hashing the data that produced it.
+ * <p>
+ * Subclasses supply the initial state, and any further states they need,
+ * which must not be updated afterwards.  An instance created by a generator
+ * serves as a prototype: it is never updated itself, and each call to
+ * {@link #newHasher()} clones it into a new session.
+ *
+ * @since   1.2.0
+ */
+abstract class ClonedStateDigest extends MessageDigest implements Cloneable {
+   
+   private final HashAlgorithm hashAlgo;
+   
+   /**
+    * Digest state from which each hash starts.  Only cloned.
+    */
+   private final MessageDigest initialState;
+   
+   /**
+    * Hash of the data passed so far, started from the initial state.
+    */
+   private MessageDigest current;
+   
+   /**
+    * Creates a new digest that starts each hash from the given state.
+    * 
+    * @param algorithm
+    *        name of the digest algorithm.
+    * @param hashAlgo
+    *        {@link HashAlgorithm} of the initial state.
+    * @param initialState
+    *        digest state from which each hash starts.
+    * @throws IllegalArgumentException
+    *         if the initial state cannot be cloned.
+    */
+   ClonedStateDigest(String algorithm, HashAlgorithm hashAlgo, MessageDigest initialState)
+      throws IllegalArgumentException
+   {
+      super(algorithm);
+      this.hashAlgo     = hashAlgo;
+      this.initialState = initialState;
+      // MessageDigest.getInstance may return a wrapper that does not
+      // implement Cloneable even though the underlying digest can be
+      // cloned, so the only reliable test is to try it.
+      try {
+         this.current = (MessageDigest) initialState.clone();
+      } catch (CloneNotSupportedException e) {
+         throw new IllegalArgumentException(
+               "The " + hashAlgo.getAlgo() + " digest cannot be cloned.", e);
+      }
+   }
+   
+   /**
+    * Creates a new incremental session over a copy of this digest.
+    * 
+    * @return a new {@link Hasher} instance.
+    */
+   Hasher newHasher() {
+      try {
+         return new Hasher(hashAlgo, (MessageDigest) clone());
+      } catch (CloneNotSupportedException e) {
+         // The constructor has already cloned the initial state.
+         throw new IllegalStateException(e);
+      }
+   }
+   
+   /**
+    * Creates a per-thread session over copies of this digest.
+    * 
+    * @return a new <code>ThreadLocal</code> whose initial value is a new
+    *         {@link Hasher}.
+    */
+   ThreadLocal<Hasher> newThreadLocalHasher() {
+      return new ThreadLocal<Hasher>() {
+         @Override
+         protected Hasher initialValue() {
+            return newHasher();
+         }
+      };
+   }
+   
+   @Override
+   protected int engineGetDigestLength() {
+      return initialState.getDigestLength();
+   }
+   
+   @Override
+   protected void engineUpdate(byte input) {
+      current.update(input);
+   }
+   
+   @Override
+   protected void engineUpdate(byte[] input, int offset, int len) {
+      current.update(input, offset, len);
+   }
+   
+   @Override
+   protected void engineUpdate(ByteBuffer input) {
+      current.update(input);
+   }
+   
+   /**
+    * Completes the hash started from the initial state and starts the next
+    * one.
+    */
+   @Override
+   protected byte[] engineDigest() {
+      byte[] hash = current.digest();
+      current = copy(initialState);
+      return hash;
+   }
+   
+   @Override
+   protected void engineReset() {
+      current = copy(initialState);
+   }
+   
+   @Override
+   public Object clone() throws CloneNotSupportedException {
+      ClonedStateDigest copy = (ClonedStateDigest) super.clone();
+      copy.current = (MessageDigest) current.clone();
+      return copy;
+   }
+   
+   /**
+    * Clones a state that is known to be cloneable, as the constructor has
+    * already cloned the initial state, which comes from the same provider.
+    * 
+    * @param  state
+    *         digest state to be cloned.
+    * @return a copy of <code>state</code>.
+    */
+   static MessageDigest copy(MessageDigest state) {
+      try {
+         return (MessageDigest) state.clone();
+      } catch (CloneNotSupportedException e) {
+         throw new IllegalStateException(e);
+      }
+   }
+}
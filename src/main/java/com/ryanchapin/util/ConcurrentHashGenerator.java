@@ -0,0 +1,2427 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * A thread safe counterpart of a {@link HashGenerator} instance, with the
+ * same instance API, that can be shared by any number of threads without
+ * external synchronization.
+ * <p>
+ * A {@link HashGenerator} instance re-uses a single
+ * {@link java.security.MessageDigest} and a set of scratch buffers across
+ * calls, which is why its callers must synchronize.  A
+ * <code>ConcurrentHashGenerator</code> instead confines that state to each
+ * calling thread: every thread lazily gets its own {@link HashGenerator},
+ * configured with this instance's settings, and all calls are delegated to
+ * it.  Threads therefore never contend with each other, and throughput
+ * scales with the number of cores, while each thread keeps the
+ * allocation-free re-use of a single {@link HashGenerator}.  For example:
+ *    <blockquote><pre>
+ *    static final ConcurrentHashGenerator HASHER =
+ *          new ConcurrentHashGenerator(HashAlgorithm.SHA256SUM);
+ *    ...
+ *    String hash = HASHER.createHash(recordId);
+ * </pre></blockquote>
+ * <p>
+ * Settings changed with {@link #setHashAlgo(HashAlgorithm)},
+ * {@link #setUsePrecomputedHashes(boolean)} and
+ * {@link #setPreserveBufferPosition(boolean)} apply to subsequent calls from
+ * all threads.  Pooled threads that will no longer use an instance can
+ * release their state with {@link #releaseThreadLocalState()}.
+ *
+ * @since   1.2.0
+ */
+public class ConcurrentHashGenerator {
+   
+   private volatile HashAlgorithm hashAlgo;
+   
+   private volatile boolean usePrecomputedHashes;
+   
+   private volatile boolean preserveBufferPosition;
+   
+   /**
+    * Per-thread {@link HashGenerator} to which all calls are delegated.
+    */
+   private final ThreadLocal<HashGenerator> threadLocalGenerator =
+         new ThreadLocal<HashGenerator>() {
+            @Override
+            protected HashGenerator initialValue() {
+               return new HashGenerator(hashAlgo);
+            }
+         };
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+
+   /**
+    * Get the currently configured hash algorithm setting.
+    * 
+    * @return  the currently configured hash algorithm.
+    */
+   public HashAlgorithm getHashAlgo() {
+      return hashAlgo;
+   }
+
+   /**
+    * Sets the hash algorithm to be used, by all threads, for subsequent
+    * invocations of the overloaded createHash methods.
+    * 
+    * @param hashAlgo
+    *        new hash algorithm to be set.
+    */
+   public void setHashAlgo(HashAlgorithm hashAlgo) {
+      this.hashAlgo = hashAlgo;
+   }
+
+   /**
+    * Indicates whether the hashes of bytes, chars and shorts are looked up in
+    * the {@link PrecomputedHashes} tables.
+    * 
+    * @return <code>true</code> if precomputed hashes are used.
+    */
+   public boolean isUsePrecomputedHashes() {
+      return usePrecomputedHashes;
+   }
+   
+   /**
+    * Sets whether the hexadecimal hashes of bytes, chars and shorts, and their
+    * wrapper classes, are looked up in the shared {@link PrecomputedHashes}
+    * tables instead of being computed on each call.  Disabled by default.
+    * <p>
+    * Do not enable for instances used to hash sensitive data.
+    * 
+    * @param usePrecomputedHashes
+    *        <code>true</code> to use the precomputed hashes.
+    */
+   public void setUsePrecomputedHashes(boolean usePrecomputedHashes) {
+      this.usePrecomputedHashes = usePrecomputedHashes;
+   }
+   
+   /**
+    * Indicates whether the methods that hash a {@link java.nio.ByteBuffer}
+    * leave its position unchanged.
+    * 
+    * @return <code>true</code> if the position of input buffers is preserved.
+    */
+   public boolean isPreserveBufferPosition() {
+      return preserveBufferPosition;
+   }
+   
+   /**
+    * Sets whether the methods that hash a {@link java.nio.ByteBuffer} leave
+    * its position unchanged, rather than advancing it to its limit.  Disabled
+    * by default.
+    * 
+    * @param preserveBufferPosition
+    *        <code>true</code> to leave the position of input buffers
+    *        unchanged.
+    */
+   public void setPreserveBufferPosition(boolean preserveBufferPosition) {
+      this.preserveBufferPosition = preserveBufferPosition;
+   }
+
+   // -------------------------------------------------------------------------
+   // Constructor:
+   //
+   
+   /**
+    * Initializes a new {@code ConcurrentHashGenerator} instance such that
+    * subsequent calls, from any thread, can be made passing in only the data
+    * to be hashed.
+    * 
+    * @param hashAlgo
+    *        Hash algorithm to be used to create hashes.
+    */
+   public ConcurrentHashGenerator(HashAlgorithm hashAlgo) {
+      this.hashAlgo = hashAlgo;
+   }
+   
+   /**
+    * Default constructor.  Instantiating in this manner leaves the instance
+    * without a configured {@link HashAlgorithm} value, and subsequent calls
+    * will result in an {@link IllegalStateException}.
+    * <p>
+    * Making a subsequent, valid call to {@link #setHashAlgo(HashAlgorithm)}
+    * will properly configure the instance.
+    */
+   public ConcurrentHashGenerator() {
+      this(null);
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /**
+    * Creates a new incremental hashing session using the currently
+    * configured {@link HashAlgorithm}.
+    * <p>
+    * The returned {@link Hasher} is independent of this instance; calls to
+    * it and to this instance's <code>createHash</code> methods do not affect
+    * each other.
+    * 
+    * @return a new {@link Hasher} instance.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Hasher newHasher()
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().newHasher();
+   }
+   
+   /** -- Bytes ------------------------------------------------------------ */
+   
+   /**
+    * Generates a hexadecimal hash of a byte and/or its wrapper class.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a byte and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(byte input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a byte and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(byte input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a byte and/or its wrapper class.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Characters ------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a char and/or its wrapper class.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(char input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a char and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a char and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a char and/or its wrapper class.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(char input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Shorts ----------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a short and/or its wrapper class.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(short input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a short and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(short input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a short and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(short input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a short and/or its wrapper class.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(short input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Integers --------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a int and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(int input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a int and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(int input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a int and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(int input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a int and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(int input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Longs ------------------------------------------------------------ */
+   
+   /**
+    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(long input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a long and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(long input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a long and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(long input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(long input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Floats ----------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(float input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a float and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(float input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a float and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(float input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(float input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Doubles ---------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a double and/or its wrapper class.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(double input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a double and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(double input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a double and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(double input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a double and/or its wrapper class.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(double input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Strings ---------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return hexadecimal hash of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(String input, String encoding)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, encoding);
+   }
+   
+   /**
+    * Generates a hash of a String and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the encoding is null or empty, or if <code>output</code>
+    *         does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(String input, String encoding, byte[] output,
+         int offset)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(input, encoding, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a String and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the encoding is null or empty, or if <code>output</code>
+    *         does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(String input, String encoding, ByteBuffer output)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(input, encoding, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return {@link Digest} of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(String input, String encoding)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, encoding);
+   }
+   
+   /** -- Character Sequences ---------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a sequence of characters.
+    * <p>
+    * The characters are encoded in fixed size chunks, through a cached
+    * {@link java.nio.charset.CharsetEncoder}, straight into the digest, so no
+    * byte array the size of the encoded input is ever allocated.  Malformed
+    * and unmappable characters are replaced in the same way as
+    * {@link java.lang.String#getBytes(java.nio.charset.Charset)}, so a String
+    * produces the same hash as it does through the <code>String</code>
+    * methods.  The position of a {@link java.nio.CharBuffer} argument is not
+    * changed.  The charset comes first so that these overloads can never be
+    * confused with the <code>String</code> ones when an argument is
+    * <code>null</code>.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(Charset charset, CharSequence input)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(charset, input);
+   }
+   
+   /**
+    * Generates a hash of a sequence of characters and writes the raw digest
+    * bytes into the given array, starting at <code>offset</code>.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null, or if
+    *         <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(Charset charset, CharSequence input,
+         byte[] output, int offset)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(charset, input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a sequence of characters and writes the raw digest
+    * bytes into the given buffer at its current position, advancing the
+    * position by the number of bytes written.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null, or if
+    *         <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(Charset charset, CharSequence input,
+         ByteBuffer output)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(charset, input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a sequence of characters.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(Charset charset, CharSequence input)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(charset, input);
+   }
+   
+   /** -- Primitive Arrays ------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of an array of bytes.
+    * 
+    * @param  input
+    *         byte[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a slice of an array of bytes.
+    * 
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of an array of bytes.
+    * 
+    * @param  input
+    *         byte[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a slice of an array of bytes.
+    * 
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of shorts.
+    * 
+    * @param  input
+    *         short[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(short[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of shorts.
+    * 
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(short[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * shorts.
+    * 
+    * @param  input
+    *         short[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(short[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of shorts.
+    * 
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(short[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of ints.
+    * 
+    * @param  input
+    *         int[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(int[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of ints.
+    * 
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(int[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * ints.
+    * 
+    * @param  input
+    *         int[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(int[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of ints.
+    * 
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(int[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of longs.
+    * 
+    * @param  input
+    *         long[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(long[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of longs.
+    * 
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(long[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * longs.
+    * 
+    * @param  input
+    *         long[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(long[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of longs.
+    * 
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(long[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of floats.
+    * 
+    * @param  input
+    *         float[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(float[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of floats.
+    * 
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(float[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * floats.
+    * 
+    * @param  input
+    *         float[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(float[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of floats.
+    * 
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(float[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of doubles.
+    * 
+    * @param  input
+    *         double[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(double[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of doubles.
+    * 
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(double[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * doubles.
+    * 
+    * @param  input
+    *         double[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(double[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of doubles.
+    * 
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(double[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /** -- Character Arrays ------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(char[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of a character array and writes the raw digest bytes
+    * into the given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char[] input, byte[] output, int offset)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a character array and writes the raw digest bytes
+    * into the given buffer at its current position, advancing the position
+    * by the number of bytes written.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char[] input, ByteBuffer output)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(char[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of chars.
+    * 
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(char[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of chars.
+    * 
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(char[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /** -- Byte Buffers --------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}, from its position to its limit.
+    * <p>
+    * The bytes are passed to the digest in place; heap buffers are read
+    * through their backing array and direct buffers are never copied into
+    * an array the size of the input.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ByteBuffer input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hash of the remaining bytes of a {@link java.nio.ByteBuffer}
+    * and writes the raw digest bytes into the given array, starting at
+    * <code>offset</code>.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(ByteBuffer input, byte[] output, int offset)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(input, output, offset);
+   }
+   
+   /**
+    * Generates a hash of the remaining bytes of a {@link java.nio.ByteBuffer}
+    * and writes the raw digest bytes into the given buffer at its current
+    * position, advancing that position by the number of bytes written.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(ByteBuffer input, ByteBuffer output)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().writeHash(input, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ByteBuffer input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Segmented Input ------------------------------------------------ */
+   
+   /**
+    * Generates a hexadecimal hash of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ByteBuffer[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a range of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ByteBuffer[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ByteBuffer[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a range of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ByteBuffer[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the segments in an array of byte arrays,
+    * in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[][] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a range of the segments in an array of
+    * byte arrays, in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[][] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, offset, length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in an array of byte arrays, in
+    * order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[][] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a range of the segments in an array of byte
+    * arrays, in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[][] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, offset, length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the segments in a list of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         list of buffers whose remaining bytes are to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(List<ByteBuffer> input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in a list of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         list of buffers whose remaining bytes are to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(List<ByteBuffer> input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Streams and Channels --------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of all of the bytes read from an
+    * InputStream until the end of the stream is reached.
+    * <p>
+    * The stream is read through a re-usable, fixed size buffer owned by this
+    * instance, so memory usage does not depend on the amount of data read.
+    * The stream is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(InputStream input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of all of the bytes read from a
+    * ReadableByteChannel until the end of the channel is reached.
+    * <p>
+    * The channel is read through a re-usable, fixed size buffer owned by
+    * this instance, so memory usage does not depend on the amount of data
+    * read.  The channel must be in blocking mode, and is <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ReadableByteChannel input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of all of the bytes read from an
+    * InputStream until the end of the stream is reached.
+    * <p>
+    * The stream is read through a re-usable, fixed size buffer owned by this
+    * instance, so memory usage does not depend on the amount of data read.
+    * The stream is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(InputStream input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of all of the bytes read from a
+    * ReadableByteChannel until the end of the channel is reached.
+    * <p>
+    * The channel is read through a re-usable, fixed size buffer owned by
+    * this instance, so memory usage does not depend on the amount of data
+    * read.  The channel must be in blocking mode, and is <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ReadableByteChannel input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /** -- Files ------------------------------------------------------------ */
+   
+   /**
+    * Generates a hexadecimal hash of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped in windows of
+    * {@link HashGenerator#DEFAULT_MAPPED_WINDOW_SIZE} bytes and each window is
+    * passed directly to the digest.  See
+    * {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return hexadecimal hash of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(Path input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the contents of a file, memory-mapping
+    * regular files in windows of at most <code>windowSize</code> bytes.  See
+    * {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @return hexadecimal hash of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if windowSize is not a positive number.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(Path input, int windowSize)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createHash(input, windowSize);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped in windows of
+    * {@link HashGenerator#DEFAULT_MAPPED_WINDOW_SIZE} bytes and each window is
+    * passed directly to the digest.  See
+    * {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return {@link Digest} of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(Path input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the contents of a file, memory-mapping
+    * regular files in windows of at most <code>windowSize</code> bytes.  See
+    * {@link HashGenerator#createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @return {@link Digest} of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if windowSize is not a positive number.
+    * @throws IllegalStateException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>ConcurrentHashGenerator</code> instance has not
+    *         yet been configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(Path input, int windowSize)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return getThreadLocalGenerator().createDigest(input, windowSize);
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Returns the calling thread's {@link HashGenerator}, updated with the
+    * current settings of this instance.
+    * 
+    * @return the calling thread's {@link HashGenerator}.
+    */
+   private HashGenerator getThreadLocalGenerator() {
+      HashGenerator generator = threadLocalGenerator.get();
+      HashAlgorithm algo = hashAlgo;
+      if (generator.getHashAlgo() != algo) {
+         generator.setHashAlgo(algo);
+      }
+      generator.setUsePrecomputedHashes(usePrecomputedHashes);
+      generator.setPreserveBufferPosition(preserveBufferPosition);
+      return generator;
+   }
+   
+   /**
+    * Releases the {@link HashGenerator} held by this instance for the calling
+    * thread.  It is re-created if the thread calls this instance again.
+    */
+   public void releaseThreadLocalState() {
+      threadLocalGenerator.remove();
+   }
+}
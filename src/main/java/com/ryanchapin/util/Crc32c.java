@@ -0,0 +1,141 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * Pure Java CRC-32C (Castagnoli) checksum, used on Java 8 where
+ * <code>java.util.zip.CRC32C</code> is not available.  Processes eight bytes
+ * at a time with the "slicing-by-8" table method.
+ *
+ * @since   1.2.0
+ */
+final class Crc32c implements Checksum {
+   
+   /**
+    * Reversed Castagnoli polynomial.
+    */
+   private static final int POLYNOMIAL = 0x82F63B78;
+   
+   private static final int[][] TABLES = new int[8][256];
+   
+   static {
+      for (int n = 0; n < 256; n++) {
+         int crc = n;
+         for (int k = 0; k < 8; k++) {
+            crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+         }
+         TABLES[0][n] = crc;
+      }
+      for (int n = 0; n < 256; n++) {
+         int crc = TABLES[0][n];
+         for (int t = 1; t < 8; t++) {
+            crc = TABLES[0][crc & 0xFF] ^ (crc >>> 8);
+            TABLES[t][n] = crc;
+         }
+      }
+   }
+   
+   /**
+    * Inverted running CRC.
+    */
+   private int crc = 0xFFFFFFFF;
+   
+   @Override
+   public void update(int b) {
+      crc = TABLES[0][(crc ^ b) & 0xFF] ^ (crc >>> 8);
+   }
+   
+   @Override
+   public void update(byte[] b, int off, int len) {
+      if (off < 0 || len < 0 || off > b.length - len) {
+         throw new ArrayIndexOutOfBoundsException();
+      }
+      int c = crc;
+      int end = off + len;
+      int[] t0 = TABLES[0], t1 = TABLES[1], t2 = TABLES[2], t3 = TABLES[3];
+      int[] t4 = TABLES[4], t5 = TABLES[5], t6 = TABLES[6], t7 = TABLES[7];
+      for (; off + 8 <= end; off += 8) {
+         int lo = c ^ ((b[off] & 0xFF) | (b[off + 1] & 0xFF) << 8
+               | (b[off + 2] & 0xFF) << 16 | (b[off + 3] & 0xFF) << 24);
+         c = t7[lo & 0xFF] ^ t6[(lo >>> 8) & 0xFF]
+               ^ t5[(lo >>> 16) & 0xFF] ^ t4[lo >>> 24]
+               ^ t3[b[off + 4] & 0xFF] ^ t2[b[off + 5] & 0xFF]
+               ^ t1[b[off + 6] & 0xFF] ^ t0[b[off + 7] & 0xFF];
+      }
+      for (; off < end; off++) {
+         c = t0[(c ^ b[off]) & 0xFF] ^ (c >>> 8);
+      }
+      crc = c;
+   }
+   
+   /**
+    * Updates the checksum with the remaining bytes of the buffer.  Upon
+    * return, the buffer's position will be equal to its limit.
+    * 
+    * @param buffer
+    *        buffer to be added to the checksum.
+    */
+   public void update(ByteBuffer buffer) {
+      if (buffer.hasArray()) {
+         update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+         buffer.position(buffer.limit());
+         return;
+      }
+      byte[] chunk = new byte[Math.min(buffer.remaining(), 4096)];
+      while (buffer.hasRemaining()) {
+         int n = Math.min(chunk.length, buffer.remaining());
+         buffer.get(chunk, 0, n);
+         update(chunk, 0, n);
+      }
+   }
+   
+   @Override
+   public long getValue() {
+      return (~crc) & 0xFFFFFFFFL;
+   }
+   
+   @Override
+   public void reset() {
+      crc = 0xFFFFFFFF;
+   }
+}
@@ -0,0 +1,365 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.Serializable;
+import java.util.Base64;
+
+/**
+ * An immutable hash value, suitable for use as a key in maps and sets.
+ * <p>
+ * The bytes of the hash are packed, big-endian, into <code>long</code>
+ * values; the first 32 bytes, enough for a SHA-256 digest, are stored in
+ * fields of the instance itself and any remaining bytes in a
+ * <code>long[]</code>.  This takes a fraction of the memory of the
+ * equivalent hexadecimal <code>String</code>, and makes {@link #equals},
+ * {@link #hashCode} and {@link #compareTo} a handful of <code>long</code>
+ * operations.
+ * <p>
+ * The hexadecimal and Base64 representations are computed the first time
+ * they are requested and then cached.
+ * <p>
+ * Two instances are equal if they hold the same bytes, regardless of the
+ * algorithm that produced them.  Instances are ordered as their bytes are
+ * compared lexicographically as unsigned values, with a shorter digest
+ * ordered before a longer one of which it is a prefix.
+ * <p>
+ * Instances are returned by the {@link HashGenerator}
+ * <code>createDigest</code> methods, and can be created from raw digest
+ * bytes with {@link #of(byte[])} or from a hexadecimal hash with
+ * {@link #fromHex(CharSequence)}.
+ *
+ * @since   1.2.0
+ */
+public final class Digest implements Comparable<Digest>, Serializable {
+   
+   private static final long serialVersionUID = 1L;
+   
+   /**
+    * Number of <code>long</code> values stored in fields of the instance.
+    */
+   private static final int INLINE_WORDS = 4;
+   
+   private static final long[] NO_WORDS = new long[0];
+   
+   /**
+    * Number of bytes in the digest.
+    */
+   private final int length;
+   
+   private final long w0;
+   private final long w1;
+   private final long w2;
+   private final long w3;
+   
+   /**
+    * Words following the inline words, empty for digests of up to 32 bytes.
+    */
+   private final long[] tail;
+   
+   /**
+    * Lazily computed hexadecimal representation.  Racing threads may both
+    * compute it, which is harmless as <code>String</code> is immutable.
+    */
+   private transient String hex;
+   
+   /**
+    * Lazily computed Base64 representation.
+    */
+   private transient String base64;
+   
+   private Digest(int length, long[] words) {
+      this.length = length;
+      this.w0     = words.length > 0 ? words[0] : 0L;
+      this.w1     = words.length > 1 ? words[1] : 0L;
+      this.w2     = words.length > 2 ? words[2] : 0L;
+      this.w3     = words.length > 3 ? words[3] : 0L;
+      if (words.length > INLINE_WORDS) {
+         long[] rest = new long[words.length - INLINE_WORDS];
+         System.arraycopy(words, INLINE_WORDS, rest, 0, rest.length);
+         this.tail = rest;
+      } else {
+         this.tail = NO_WORDS;
+      }
+   }
+   
+   // -------------------------------------------------------------------------
+   // Factory Methods:
+   //
+   
+   /**
+    * Creates a <code>Digest</code> from raw digest bytes.
+    * 
+    * @param  bytes
+    *         digest bytes, which are copied.
+    * @return a new <code>Digest</code>.
+    */
+   public static Digest of(byte[] bytes) {
+      return of(bytes, 0, bytes.length);
+   }
+   
+   /**
+    * Creates a <code>Digest</code> from a range of raw digest bytes.
+    * 
+    * @param  bytes
+    *         array holding the digest bytes, which are copied.
+    * @param  offset
+    *         index of the first digest byte.
+    * @param  length
+    *         number of digest bytes.
+    * @return a new <code>Digest</code>.
+    * @throws IndexOutOfBoundsException
+    *         if the range is not within the array.
+    */
+   public static Digest of(byte[] bytes, int offset, int length) {
+      if (offset < 0 || length < 0 || offset > bytes.length - length) {
+         throw new IndexOutOfBoundsException(
+               "offset " + offset + ", length " + length + ", array length " + bytes.length);
+      }
+      
+      long[] words = new long[(length + 7) >>> 3];
+      for (int i = 0; i < length; i++) {
+         words[i >>> 3] |= (bytes[offset + i] & 0xFFL) << (56 - ((i & 7) << 3));
+      }
+      return new Digest(length, words);
+   }
+   
+   /**
+    * Creates a <code>Digest</code> from a hexadecimal hash, such as one
+    * returned by the {@link HashGenerator} <code>createHash</code> methods.
+    * 
+    * @param  hex
+    *         hexadecimal hash, in upper or lower case.
+    * @return a new <code>Digest</code>.
+    * @throws IllegalArgumentException
+    *         if the argument has an odd length or contains characters that
+    *         are not hexadecimal digits.
+    */
+   public static Digest fromHex(CharSequence hex) throws IllegalArgumentException {
+      int hexLength = hex.length();
+      if ((hexLength & 1) != 0) {
+         throw new IllegalArgumentException("hexadecimal hash must have an even length");
+      }
+      
+      int length   = hexLength >>> 1;
+      long[] words = new long[(length + 7) >>> 3];
+      for (int i = 0; i < length; i++) {
+         int hi = Character.digit(hex.charAt(i << 1), 16);
+         int lo = Character.digit(hex.charAt((i << 1) + 1), 16);
+         if (hi < 0 || lo < 0) {
+            throw new IllegalArgumentException(
+                  "invalid hexadecimal digit near index " + (i << 1));
+         }
+         words[i >>> 3] |= (long) ((hi << 4) | lo) << (56 - ((i & 7) << 3));
+      }
+      return new Digest(length, words);
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /**
+    * Get the number of bytes in the digest.
+    * 
+    * @return the number of bytes in the digest.
+    */
+   public int length() {
+      return length;
+   }
+   
+   /**
+    * Returns a single byte of the digest.
+    * 
+    * @param  index
+    *         index of the byte.
+    * @return the byte at the given index.
+    * @throws IndexOutOfBoundsException
+    *         if the index is negative or not less than {@link #length()}.
+    */
+   public byte getByte(int index) {
+      if (index < 0 || index >= length) {
+         throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+      }
+      return (byte) (word(index >>> 3) >>> (56 - ((index & 7) << 3)));
+   }
+   
+   /**
+    * Returns a copy of the digest bytes.
+    * 
+    * @return a new array holding the digest bytes.
+    */
+   public byte[] toByteArray() {
+      byte[] retVal = new byte[length];
+      writeTo(retVal, 0);
+      return retVal;
+   }
+   
+   /**
+    * Writes the digest bytes into the given array, starting at
+    * <code>offset</code>.
+    * 
+    * @param  output
+    *         array into which the digest bytes are written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of bytes written, equal to {@link #length()}.
+    * @throws IndexOutOfBoundsException
+    *         if <code>output</code> does not have room for the digest at the
+    *         given offset.
+    */
+   public int writeTo(byte[] output, int offset) {
+      if (offset < 0 || offset > output.length - length) {
+         throw new IndexOutOfBoundsException(
+               "offset " + offset + ", length " + length + ", array length " + output.length);
+      }
+      for (int i = 0; i < length; i++) {
+         output[offset + i] = (byte) (word(i >>> 3) >>> (56 - ((i & 7) << 3)));
+      }
+      return length;
+   }
+   
+   /**
+    * Returns the lowercase hexadecimal representation of the digest, as
+    * returned by the {@link HashGenerator} <code>createHash</code> methods.
+    * 
+    * @return hexadecimal representation of the digest.
+    */
+   public String toHex() {
+      String retVal = hex;
+      if (null == retVal) {
+         retVal = HexEncoder.encode(toByteArray());
+         hex = retVal;
+      }
+      return retVal;
+   }
+   
+   /**
+    * Returns the standard, padded, Base64 representation of the digest.
+    * 
+    * @return Base64 representation of the digest.
+    */
+   public String toBase64() {
+      String retVal = base64;
+      if (null == retVal) {
+         retVal = Base64.getEncoder().encodeToString(toByteArray());
+         base64 = retVal;
+      }
+      return retVal;
+   }
+   
+   @Override
+   public int compareTo(Digest other) {
+      int words = Math.max(wordCount(), other.wordCount());
+      for (int i = 0; i < words; i++) {
+         int cmp = Long.compareUnsigned(word(i), other.word(i));
+         if (cmp != 0) {
+            return cmp;
+         }
+      }
+      return Integer.compare(length, other.length);
+   }
+   
+   @Override
+   public boolean equals(Object obj) {
+      if (this == obj) {
+         return true;
+      }
+      if (!(obj instanceof Digest)) {
+         return false;
+      }
+      Digest other = (Digest) obj;
+      if (length != other.length
+            || w0 != other.w0 || w1 != other.w1
+            || w2 != other.w2 || w3 != other.w3)
+      {
+         return false;
+      }
+      for (int i = 0; i < tail.length; i++) {
+         if (tail[i] != other.tail[i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+   
+   /**
+    * Returns a hash code derived from the first eight bytes of the digest,
+    * which for any cryptographic hash are already uniformly distributed.
+    */
+   @Override
+   public int hashCode() {
+      return (int) (w0 ^ (w0 >>> 32)) ^ length;
+   }
+   
+   /**
+    * Returns the hexadecimal representation of the digest.
+    * 
+    * @return the same value as {@link #toHex()}.
+    */
+   @Override
+   public String toString() {
+      return toHex();
+   }
+   
+   private int wordCount() {
+      return (length + 7) >>> 3;
+   }
+   
+   /**
+    * Returns the word at the given index, or zero past the end of the
+    * digest.
+    */
+   private long word(int index) {
+      switch (index) {
+         case 0:
+            return w0;
+         case 1:
+            return w1;
+         case 2:
+            return w2;
+         case 3:
+            return w3;
+         default:
+            int tailIndex = index - INLINE_WORDS;
+            return tailIndex < tail.length ? tail[tailIndex] : 0L;
+      }
+   }
+}
@@ -0,0 +1,173 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selects the {@link java.security.Provider} from which
+ * {@link HashGenerator.HashAlgorithm#newMessageDigest()}, and therefore every
+ * class in this library, obtains its {@link java.security.MessageDigest}
+ * instances.
+ * <p>
+ * By default the JVM's own provider preference order is used.  Installing a
+ * provider backed by a native library, such as one built on OpenSSL or
+ * BoringSSL, and naming it here lets the digests use that library's
+ * hardware accelerated code paths while all callers keep the same API and
+ * produce the same hashes:
+ *    <blockquote><pre>
+ *    Security.addProvider(nativeProvider);
+ *    DigestProviders.setPreferredProviders(nativeProvider.getName());
+ * </pre></blockquote>
+ * <p>
+ * The preferred providers are tried in order, and the first one that is
+ * installed and supports the requested algorithm is used.  If none of them
+ * does, the digest falls back to <code>MessageDigest.getInstance</code>, so
+ * naming a provider that is absent on some hosts is safe.  The preference
+ * can also be set at start-up with the {@value #PROVIDERS_PROPERTY} system
+ * property, as a comma separated list of provider names.
+ * <p>
+ * Digests that have already been created and cached, for example by the
+ * static {@link HashGenerator} methods, are not affected by a change of
+ * preference; set it before hashing, or release the cached state with
+ * {@link HashGenerator#releaseThreadLocalState()}.  {@link Blake3} is always
+ * computed by this library's own implementation.
+ *
+ * @since   1.2.0
+ */
+public final class DigestProviders {
+   
+   /**
+    * Name of the system property from which the initial provider preference
+    * is read.
+    */
+   public static final String PROVIDERS_PROPERTY = "com.ryanchapin.util.digestProviders";
+   
+   private static final String MESSAGE_DIGEST_SERVICE = "MessageDigest";
+   
+   private static volatile List<String> preferredProviders =
+         parseProviders(readProvidersProperty());
+   
+   private DigestProviders() {
+   }
+   
+   /**
+    * Sets the names of the providers that are preferred, in order, over the
+    * JVM's default provider order.  Calling with no names restores the
+    * default.
+    * 
+    * @param  providerNames
+    *         names of the preferred providers, as returned by
+    *         {@link java.security.Provider#getName()}.
+    * @throws IllegalArgumentException
+    *         if any of the names is null or empty.
+    */
+   public static void setPreferredProviders(String... providerNames)
+      throws IllegalArgumentException
+   {
+      List<String> names = new ArrayList<String>(providerNames.length);
+      for (String name : providerNames) {
+         if (null == name || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("null or empty provider name");
+         }
+         names.add(name.trim());
+      }
+      preferredProviders = Collections.unmodifiableList(names);
+   }
+   
+   /**
+    * Get the names of the preferred providers.
+    * 
+    * @return unmodifiable list of the names of the preferred providers, empty
+    *         if the JVM's default provider order is used.
+    */
+   public static List<String> getPreferredProviders() {
+      return preferredProviders;
+   }
+   
+   /**
+    * Instantiates a new digest for the given algorithm from the first
+    * preferred provider that supports it, or from the JVM's default
+    * providers if none of them does.
+    * 
+    * @param  algo
+    *         standard name of the digest algorithm.
+    * @return a new {@link java.security.MessageDigest} instance.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    */
+   static MessageDigest newMessageDigest(String algo)
+      throws NoSuchAlgorithmException
+   {
+      for (String name : preferredProviders) {
+         Provider provider = Security.getProvider(name);
+         if (null != provider && null != provider.getService(MESSAGE_DIGEST_SERVICE, algo)) {
+            return MessageDigest.getInstance(algo, provider);
+         }
+      }
+      return MessageDigest.getInstance(algo);
+   }
+   
+   private static String readProvidersProperty() {
+      try {
+         return System.getProperty(PROVIDERS_PROPERTY);
+      } catch (SecurityException e) {
+         return null;
+      }
+   }
+   
+   private static List<String> parseProviders(String property) {
+      List<String> names = new ArrayList<String>();
+      if (null != property) {
+         for (String name : property.split(",")) {
+            if (!name.trim().isEmpty()) {
+               names.add(name.trim());
+            }
+         }
+      }
+      return Collections.unmodifiableList(names);
+   }
+}
@@ -0,0 +1,1167 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Fast, non-cryptographic, hash functions for partitioning, bucketing and
+ * de-duplication, where a cryptographic {@link HashGenerator.HashAlgorithm}
+ * is needlessly expensive.
+ * <p>
+ * The supported algorithms are listed in {@link FastHashAlgorithm}.  All of
+ * them use a seed of zero and produce the same values as their reference
+ * implementations, reading the input bytes in little-endian order.
+ * <p>
+ * Each value is encoded to bytes exactly as it is by the corresponding
+ * {@link HashGenerator} <code>createHash</code> method, so, for example,
+ * <code>hash64(42, algorithm)</code> is the hash of the four big-endian
+ * bytes of <code>42</code>.  Primitives are hashed directly from registers,
+ * and byte and char arrays in place, without allocating any objects; only
+ * Strings are first encoded to a temporary byte array.
+ * <p>
+ * 128-bit hashes are written into a caller supplied <code>long[]</code>;
+ * the <code>hash64</code> methods of a 128-bit algorithm return the first
+ * 64 bits of its hash.
+ * <p>
+ * <b>DO NOT USE</b> these hashes for passwords, message authentication or
+ * any other purpose where an adversary may choose the input.
+ * <p>
+ * All of the methods are static and thread safe.
+ *
+ * @since   1.2.0
+ */
+public final class FastHash {
+   
+   // xxHash64 primes.
+   private static final long XX_P1 = 0x9E3779B185EBCA87L;
+   private static final long XX_P2 = 0xC2B2AE3D27D4EB4FL;
+   private static final long XX_P3 = 0x165667B19E3779F9L;
+   private static final long XX_P4 = 0x85EBCA77C2B2AE63L;
+   private static final long XX_P5 = 0x27D4EB2F165667C5L;
+   
+   // MurmurHash3 x64_128 constants.
+   private static final long MURMUR_C1 = 0x87C37B91114253D5L;
+   private static final long MURMUR_C2 = 0x4CF5AD432745937FL;
+   
+   // wyhash, version 3, primes.
+   private static final long WY_P0 = 0xA0761D6478BD642FL;
+   private static final long WY_P1 = 0xE7037ED1A0B428DBL;
+   private static final long WY_P2 = 0x8EBC6AF09C88C6E3L;
+   private static final long WY_P3 = 0x589965CC75374CC3L;
+   private static final long WY_P4 = 0x1D8E4E27C47D124FL;
+   
+   private static final String NULL_ALGORITHM_ERR =
+         "No hashing algorithm was provided.";
+   
+   private FastHash() {
+   }
+   
+   /** -- Primitives ------------------------------------------------------- */
+   
+   /**
+    * Generates a 64-bit hash of a byte.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(byte input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hashWord64((long) input, 1, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of a byte and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(byte input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3Word((long) input, 1, output);
+      return output;
+   }
+   
+   /**
+    * Generates a 64-bit hash of a char.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(char input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hashWord64((long) input, 2, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of a char and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(char input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3Word((long) input, 2, output);
+      return output;
+   }
+   
+   /**
+    * Generates a 64-bit hash of a short.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(short input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hashWord64((long) input, 2, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of a short and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(short input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3Word((long) input, 2, output);
+      return output;
+   }
+   
+   /**
+    * Generates a 64-bit hash of an int.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(int input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hashWord64((long) input, 4, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of an int and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(int input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3Word((long) input, 4, output);
+      return output;
+   }
+   
+   /**
+    * Generates a 64-bit hash of a long.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(long input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hashWord64(input, 8, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of a long and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(long input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3Word(input, 8, output);
+      return output;
+   }
+   
+   /**
+    * Generates a 64-bit hash of a float.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(float input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hashWord64((long) Float.floatToRawIntBits(input), 4, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of a float and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(float input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3Word((long) Float.floatToRawIntBits(input), 4, output);
+      return output;
+   }
+   
+   /**
+    * Generates a 64-bit hash of a double.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(double input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hashWord64(Double.doubleToRawLongBits(input), 8, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of a double and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(double input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3Word(Double.doubleToRawLongBits(input), 8, output);
+      return output;
+   }
+   
+   /** -- Byte Arrays ------------------------------------------------------ */
+   
+   /**
+    * Generates a 64-bit hash of a byte array.
+    * 
+    * @param  input
+    *         byte array to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(byte[] input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hash64(input, 0, input.length, algorithm);
+   }
+   
+   /**
+    * Generates a 64-bit hash of a range of a byte array.
+    * 
+    * @param  input
+    *         array holding the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    * @throws IndexOutOfBoundsException
+    *         if the range is not within the array.
+    */
+   public static long hash64(byte[] input, int offset, int length,
+         FastHashAlgorithm algorithm) throws IllegalArgumentException
+   {
+      checkRange(input, offset, length);
+      switch (checkAlgorithm(algorithm)) {
+         case XXHASH64:
+            return xxHash64(input, offset, length);
+         case MURMUR3_X64_128:
+            return murmur3(input, offset, length, null);
+         default:
+            return wyhash(input, offset, length);
+      }
+   }
+   
+   /**
+    * Generates a 128-bit hash of a byte array and writes it into the first
+    * two elements of <code>output</code>.
+    * 
+    * @param  input
+    *         byte array to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(byte[] input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      return hash128(input, 0, input.length, output, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of a range of a byte array and writes it into
+    * the first two elements of <code>output</code>.
+    * 
+    * @param  input
+    *         array holding the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    * @throws IndexOutOfBoundsException
+    *         if the range is not within the array.
+    */
+   public static long[] hash128(byte[] input, int offset, int length,
+         long[] output, FastHashAlgorithm algorithm) throws IllegalArgumentException
+   {
+      checkRange(input, offset, length);
+      checkHash128(output, algorithm);
+      murmur3(input, offset, length, output);
+      return output;
+   }
+   
+   /** -- Strings and Character Arrays ------------------------------------- */
+   
+   /**
+    * Generates a 64-bit hash of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         encoding used to convert the String to bytes with
+    *         {@link java.lang.String#getBytes(String)}.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(String input, String encoding, FastHashAlgorithm algorithm)
+      throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      checkAlgorithm(algorithm);
+      return hash64(input.getBytes(encoding), algorithm);
+   }
+   
+   /**
+    * Generates a 64-bit hash of the big-endian UTF-16 encoding of a
+    * character array.
+    * 
+    * @param  input
+    *         char[] to be hashed.
+    * @param  algorithm
+    *         {@link FastHashAlgorithm} to be used to generate the hash.
+    * @return 64-bit hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null.
+    */
+   public static long hash64(char[] input, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      int length = input.length << 1;
+      switch (checkAlgorithm(algorithm)) {
+         case XXHASH64:
+            return xxHash64(input, 0, length);
+         case MURMUR3_X64_128:
+            return murmur3(input, 0, length, null);
+         default:
+            return wyhash(input, 0, length);
+      }
+   }
+   
+   /**
+    * Generates a 128-bit hash of a String and writes it into the first two
+    * elements of <code>output</code>.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         encoding used to convert the String to bytes with
+    *         {@link java.lang.String#getBytes(String)}.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(String input, String encoding, long[] output,
+         FastHashAlgorithm algorithm)
+      throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      return hash128(input.getBytes(encoding), output, algorithm);
+   }
+   
+   /**
+    * Generates a 128-bit hash of the big-endian UTF-16 encoding of a
+    * character array and writes it into the first two elements of
+    * <code>output</code>.
+    * 
+    * @param  input
+    *         char[] to be hashed.
+    * @param  output
+    *         array of at least two elements into which the hash is written.
+    * @param  algorithm
+    *         128-bit {@link FastHashAlgorithm} to be used to generate the
+    *         hash.
+    * @return the <code>output</code> argument.
+    * @throws IllegalArgumentException
+    *         if the algorithm argument is null or does not produce 128-bit
+    *         hashes, or if <code>output</code> has fewer than two elements.
+    */
+   public static long[] hash128(char[] input, long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      checkHash128(output, algorithm);
+      murmur3(input, 0, input.length << 1, output);
+      return output;
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   private static FastHashAlgorithm checkAlgorithm(FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      if (null == algorithm) {
+         throw new IllegalArgumentException(NULL_ALGORITHM_ERR);
+      }
+      return algorithm;
+   }
+   
+   private static void checkHash128(long[] output, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      if (checkAlgorithm(algorithm).getBits() != 128) {
+         throw new IllegalArgumentException(algorithm + " does not produce 128-bit hashes");
+      }
+      if (null == output || output.length < 2) {
+         throw new IllegalArgumentException("output must have at least two elements");
+      }
+   }
+   
+   private static void checkRange(byte[] input, int offset, int length) {
+      if (offset < 0 || length < 0 || offset > input.length - length) {
+         throw new IndexOutOfBoundsException(
+               "offset " + offset + ", length " + length + ", array length " + input.length);
+      }
+   }
+   
+   /**
+    * Hashes the <code>length</code> big-endian bytes held in the low order
+    * bytes of <code>value</code>.
+    */
+   private static long hashWord64(long value, int length, FastHashAlgorithm algorithm)
+      throws IllegalArgumentException
+   {
+      // The bytes of the value as they would be read, little-endian, from
+      // its big-endian encoding.
+      long word = Long.reverseBytes(value) >>> (64 - (length << 3));
+      switch (checkAlgorithm(algorithm)) {
+         case XXHASH64:
+            return xxHash64Word(word, length);
+         case MURMUR3_X64_128:
+            return murmur3Word(value, length, null);
+         default:
+            return wyhashWord(word, length);
+      }
+   }
+   
+   private static long readLong(byte[] b, int i) {
+      return (b[i] & 0xFFL)
+            | (b[i + 1] & 0xFFL) << 8
+            | (b[i + 2] & 0xFFL) << 16
+            | (b[i + 3] & 0xFFL) << 24
+            | (b[i + 4] & 0xFFL) << 32
+            | (b[i + 5] & 0xFFL) << 40
+            | (b[i + 6] & 0xFFL) << 48
+            | (b[i + 7] & 0xFFL) << 56;
+   }
+   
+   private static long readInt(byte[] b, int i) {
+      return (b[i] & 0xFFL)
+            | (b[i + 1] & 0xFFL) << 8
+            | (b[i + 2] & 0xFFL) << 16
+            | (b[i + 3] & 0xFFL) << 24;
+   }
+   
+   /**
+    * Returns the byte at byte index <code>i</code> of the big-endian
+    * encoding of a char array.
+    */
+   private static long byteAt(char[] c, int i) {
+      char ch = c[i >>> 1];
+      return ((i & 1) == 0 ? ch >>> 8 : ch) & 0xFFL;
+   }
+   
+   /**
+    * Reads eight bytes, little-endian, from the big-endian encoding of a char
+    * array, starting at the even byte index <code>i</code>.
+    */
+   private static long readLong(char[] c, int i) {
+      int j = i >>> 1;
+      return (Character.reverseBytes(c[j]) & 0xFFFFL)
+            | (Character.reverseBytes(c[j + 1]) & 0xFFFFL) << 16
+            | (Character.reverseBytes(c[j + 2]) & 0xFFFFL) << 32
+            | (Character.reverseBytes(c[j + 3]) & 0xFFFFL) << 48;
+   }
+   
+   /**
+    * Reads four bytes, little-endian, from the big-endian encoding of a char
+    * array, starting at the even byte index <code>i</code>.
+    */
+   private static long readInt(char[] c, int i) {
+      int j = i >>> 1;
+      return (Character.reverseBytes(c[j]) & 0xFFFFL)
+            | (Character.reverseBytes(c[j + 1]) & 0xFFFFL) << 16;
+   }
+   
+   /** -- xxHash64 --------------------------------------------------------- */
+   
+   private static long xxHash64(byte[] b, int off, int len) {
+      int end = off + len;
+      int i   = off;
+      long h;
+      if (len >= 32) {
+         long v1 = XX_P1 + XX_P2;
+         long v2 = XX_P2;
+         long v3 = 0;
+         long v4 = -XX_P1;
+         int limit = end - 32;
+         do {
+            v1 = xxRound(v1, readLong(b, i));
+            v2 = xxRound(v2, readLong(b, i + 8));
+            v3 = xxRound(v3, readLong(b, i + 16));
+            v4 = xxRound(v4, readLong(b, i + 24));
+            i += 32;
+         } while (i <= limit);
+         h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+               + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+         h = xxMergeRound(h, v1);
+         h = xxMergeRound(h, v2);
+         h = xxMergeRound(h, v3);
+         h = xxMergeRound(h, v4);
+      } else {
+         h = XX_P5;
+      }
+      h += len;
+      
+      for (; i + 8 <= end; i += 8) {
+         h ^= xxRound(0, readLong(b, i));
+         h  = Long.rotateLeft(h, 27) * XX_P1 + XX_P4;
+      }
+      if (i + 4 <= end) {
+         h ^= readInt(b, i) * XX_P1;
+         h  = Long.rotateLeft(h, 23) * XX_P2 + XX_P3;
+         i += 4;
+      }
+      for (; i < end; i++) {
+         h ^= (b[i] & 0xFFL) * XX_P5;
+         h  = Long.rotateLeft(h, 11) * XX_P1;
+      }
+      return xxAvalanche(h);
+   }
+   
+   /**
+    * xxHash64 of the big-endian UTF-16 encoding of a char array, reading
+    * each char as two bytes in place.  <code>off</code> and
+    * <code>len</code> are in bytes.
+    */
+   private static long xxHash64(char[] b, int off, int len) {
+      int end = off + len;
+      int i   = off;
+      long h;
+      if (len >= 32) {
+         long v1 = XX_P1 + XX_P2;
+         long v2 = XX_P2;
+         long v3 = 0;
+         long v4 = -XX_P1;
+         int limit = end - 32;
+         do {
+            v1 = xxRound(v1, readLong(b, i));
+            v2 = xxRound(v2, readLong(b, i + 8));
+            v3 = xxRound(v3, readLong(b, i + 16));
+            v4 = xxRound(v4, readLong(b, i + 24));
+            i += 32;
+         } while (i <= limit);
+         h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7)
+               + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+         h = xxMergeRound(h, v1);
+         h = xxMergeRound(h, v2);
+         h = xxMergeRound(h, v3);
+         h = xxMergeRound(h, v4);
+      } else {
+         h = XX_P5;
+      }
+      h += len;
+      
+      for (; i + 8 <= end; i += 8) {
+         h ^= xxRound(0, readLong(b, i));
+         h  = Long.rotateLeft(h, 27) * XX_P1 + XX_P4;
+      }
+      if (i + 4 <= end) {
+         h ^= readInt(b, i) * XX_P1;
+         h  = Long.rotateLeft(h, 23) * XX_P2 + XX_P3;
+         i += 4;
+      }
+      for (; i < end; i++) {
+         h ^= byteAt(b, i) * XX_P5;
+         h  = Long.rotateLeft(h, 11) * XX_P1;
+      }
+      return xxAvalanche(h);
+   }
+   
+   private static long xxHash64Word(long word, int len) {
+      long h = XX_P5 + len;
+      int i  = 0;
+      if (len == 8) {
+         h ^= xxRound(0, word);
+         h  = Long.rotateLeft(h, 27) * XX_P1 + XX_P4;
+         i  = 8;
+      } else if (len >= 4) {
+         h ^= (word & 0xFFFFFFFFL) * XX_P1;
+         h  = Long.rotateLeft(h, 23) * XX_P2 + XX_P3;
+         i  = 4;
+      }
+      for (; i < len; i++) {
+         h ^= ((word >>> (i << 3)) & 0xFFL) * XX_P5;
+         h  = Long.rotateLeft(h, 11) * XX_P1;
+      }
+      return xxAvalanche(h);
+   }
+   
+   private static long xxRound(long acc, long lane) {
+      acc += lane * XX_P2;
+      acc  = Long.rotateLeft(acc, 31);
+      return acc * XX_P1;
+   }
+   
+   private static long xxMergeRound(long acc, long val) {
+      acc ^= xxRound(0, val);
+      return acc * XX_P1 + XX_P4;
+   }
+   
+   private static long xxAvalanche(long h) {
+      h ^= h >>> 33;
+      h *= XX_P2;
+      h ^= h >>> 29;
+      h *= XX_P3;
+      h ^= h >>> 32;
+      return h;
+   }
+   
+   /** -- MurmurHash3 x64_128 ---------------------------------------------- */
+   
+   /**
+    * Computes the MurmurHash3 x64_128 hash of the given bytes, writing both
+    * halves into <code>output</code> if it is not null, and returns the
+    * first half.
+    */
+   private static long murmur3(byte[] b, int off, int len, long[] output) {
+      long h1 = 0;
+      long h2 = 0;
+      int i   = off;
+      int blockEnd = off + (len & ~15);
+      for (; i < blockEnd; i += 16) {
+         h1 ^= murmurMixK1(readLong(b, i));
+         h1  = Long.rotateLeft(h1, 27) + h2;
+         h1  = h1 * 5 + 0x52DCE729;
+         
+         h2 ^= murmurMixK2(readLong(b, i + 8));
+         h2  = Long.rotateLeft(h2, 31) + h1;
+         h2  = h2 * 5 + 0x38495AB5;
+      }
+      
+      int tail = len & 15;
+      long k1 = 0;
+      long k2 = 0;
+      for (int j = tail - 1; j >= 8; j--) {
+         k2 |= (b[i + j] & 0xFFL) << ((j - 8) << 3);
+      }
+      for (int j = Math.min(tail, 8) - 1; j >= 0; j--) {
+         k1 |= (b[i + j] & 0xFFL) << (j << 3);
+      }
+      if (tail > 8) {
+         h2 ^= murmurMixK2(k2);
+      }
+      if (tail > 0) {
+         h1 ^= murmurMixK1(k1);
+      }
+      return murmurFinish(h1, h2, len, output);
+   }
+   
+   /**
+    * MurmurHash3 x64_128 of the big-endian UTF-16 encoding of a char array,
+    * reading each char as two bytes in place.  <code>off</code> and
+    * <code>len</code> are in bytes.
+    */
+   private static long murmur3(char[] b, int off, int len, long[] output) {
+      long h1 = 0;
+      long h2 = 0;
+      int i   = off;
+      int blockEnd = off + (len & ~15);
+      for (; i < blockEnd; i += 16) {
+         h1 ^= murmurMixK1(readLong(b, i));
+         h1  = Long.rotateLeft(h1, 27) + h2;
+         h1  = h1 * 5 + 0x52DCE729;
+         
+         h2 ^= murmurMixK2(readLong(b, i + 8));
+         h2  = Long.rotateLeft(h2, 31) + h1;
+         h2  = h2 * 5 + 0x38495AB5;
+      }
+      
+      int tail = len & 15;
+      long k1 = 0;
+      long k2 = 0;
+      for (int j = tail - 1; j >= 8; j--) {
+         k2 |= byteAt(b, i + j) << ((j - 8) << 3);
+      }
+      for (int j = Math.min(tail, 8) - 1; j >= 0; j--) {
+         k1 |= byteAt(b, i + j) << (j << 3);
+      }
+      if (tail > 8) {
+         h2 ^= murmurMixK2(k2);
+      }
+      if (tail > 0) {
+         h1 ^= murmurMixK1(k1);
+      }
+      return murmurFinish(h1, h2, len, output);
+   }
+   
+   /**
+    * Computes the MurmurHash3 x64_128 hash of the <code>length</code>
+    * big-endian bytes held in the low order bytes of <code>value</code>.
+    */
+   private static long murmur3Word(long value, int len, long[] output) {
+      long h1 = murmurMixK1(Long.reverseBytes(value) >>> (64 - (len << 3)));
+      return murmurFinish(h1, 0, len, output);
+   }
+   
+   private static long murmurMixK1(long k1) {
+      k1 *= MURMUR_C1;
+      k1  = Long.rotateLeft(k1, 31);
+      return k1 * MURMUR_C2;
+   }
+   
+   private static long murmurMixK2(long k2) {
+      k2 *= MURMUR_C2;
+      k2  = Long.rotateLeft(k2, 33);
+      return k2 * MURMUR_C1;
+   }
+   
+   private static long murmurFinish(long h1, long h2, int len, long[] output) {
+      h1 ^= len;
+      h2 ^= len;
+      h1 += h2;
+      h2 += h1;
+      h1  = murmurFmix(h1);
+      h2  = murmurFmix(h2);
+      h1 += h2;
+      h2 += h1;
+      if (null != output) {
+         output[0] = h1;
+         output[1] = h2;
+      }
+      return h1;
+   }
+   
+   private static long murmurFmix(long k) {
+      k ^= k >>> 33;
+      k *= 0xFF51AFD7ED558CCDL;
+      k ^= k >>> 33;
+      k *= 0xC4CEB9FE1A85EC53L;
+      k ^= k >>> 33;
+      return k;
+   }
+   
+   /** -- wyhash ----------------------------------------------------------- */
+   
+   private static long wyhash(byte[] b, int off, int len) {
+      if (len <= 0) {
+         return 0;
+      } else if (len < 4) {
+         return wyMum(wyMum(wyRead3(b, off, len) ^ WY_P0, WY_P1), len ^ WY_P4);
+      } else if (len <= 8) {
+         return wyMum(wyMum(readInt(b, off) ^ WY_P0, readInt(b, off + len - 4) ^ WY_P1),
+               len ^ WY_P4);
+      } else if (len <= 16) {
+         return wyMum(wyMum(wyRead8Swapped(b, off) ^ WY_P0,
+               wyRead8Swapped(b, off + len - 8) ^ WY_P1), len ^ WY_P4);
+      } else if (len <= 24) {
+         return wyMum(wyMum(wyRead8Swapped(b, off) ^ WY_P0, wyRead8Swapped(b, off + 8) ^ WY_P1)
+               ^ wyMum(wyRead8Swapped(b, off + len - 8) ^ WY_P2, WY_P3), len ^ WY_P4);
+      } else if (len <= 32) {
+         return wyMum(wyMum(wyRead8Swapped(b, off) ^ WY_P0, wyRead8Swapped(b, off + 8) ^ WY_P1)
+               ^ wyMum(wyRead8Swapped(b, off + 16) ^ WY_P2,
+                     wyRead8Swapped(b, off + len - 8) ^ WY_P3), len ^ WY_P4);
+      }
+      
+      long seed = 0;
+      long see1 = 0;
+      int i = len;
+      int p = off;
+      for (; i > 256; i -= 256, p += 256) {
+         for (int j = p; j < p + 256; j += 64) {
+            seed = wyMum(readLong(b, j) ^ seed ^ WY_P0, readLong(b, j + 8) ^ seed ^ WY_P1)
+                  ^ wyMum(readLong(b, j + 16) ^ seed ^ WY_P2, readLong(b, j + 24) ^ seed ^ WY_P3);
+            see1 = wyMum(readLong(b, j + 32) ^ see1 ^ WY_P1, readLong(b, j + 40) ^ see1 ^ WY_P2)
+                  ^ wyMum(readLong(b, j + 48) ^ see1 ^ WY_P3, readLong(b, j + 56) ^ see1 ^ WY_P0);
+         }
+      }
+      for (; i > 32; i -= 32, p += 32) {
+         seed = wyMum(readLong(b, p) ^ seed ^ WY_P0, readLong(b, p + 8) ^ seed ^ WY_P1);
+         see1 = wyMum(readLong(b, p + 16) ^ see1 ^ WY_P2, readLong(b, p + 24) ^ see1 ^ WY_P3);
+      }
+      
+      if (i < 4) {
+         seed = wyMum(wyRead3(b, p, i) ^ seed ^ WY_P0, seed ^ WY_P1);
+      } else if (i <= 8) {
+         seed = wyMum(readInt(b, p) ^ seed ^ WY_P0, readInt(b, p + i - 4) ^ seed ^ WY_P1);
+      } else if (i <= 16) {
+         seed = wyMum(wyRead8Swapped(b, p) ^ seed ^ WY_P0,
+               wyRead8Swapped(b, p + i - 8) ^ seed ^ WY_P1);
+      } else if (i <= 24) {
+         seed = wyMum(wyRead8Swapped(b, p) ^ seed ^ WY_P0,
+               wyRead8Swapped(b, p + 8) ^ seed ^ WY_P1);
+         see1 = wyMum(wyRead8Swapped(b, p + i - 8) ^ see1 ^ WY_P2, see1 ^ WY_P3);
+      } else {
+         seed = wyMum(wyRead8Swapped(b, p) ^ seed ^ WY_P0,
+               wyRead8Swapped(b, p + 8) ^ seed ^ WY_P1);
+         see1 = wyMum(wyRead8Swapped(b, p + 16) ^ see1 ^ WY_P2,
+               wyRead8Swapped(b, p + i - 8) ^ see1 ^ WY_P3);
+      }
+      return wyMum(seed ^ see1, len ^ WY_P4);
+   }
+   
+   /**
+    * wyhash of the big-endian UTF-16 encoding of a char array, reading each
+    * char as two bytes in place.  <code>off</code> and <code>len</code> are
+    * in bytes.
+    */
+   private static long wyhash(char[] b, int off, int len) {
+      if (len <= 0) {
+         return 0;
+      } else if (len < 4) {
+         return wyMum(wyMum(wyRead3(b, off, len) ^ WY_P0, WY_P1), len ^ WY_P4);
+      } else if (len <= 8) {
+         return wyMum(wyMum(readInt(b, off) ^ WY_P0, readInt(b, off + len - 4) ^ WY_P1),
+               len ^ WY_P4);
+      } else if (len <= 16) {
+         return wyMum(wyMum(wyRead8Swapped(b, off) ^ WY_P0,
+               wyRead8Swapped(b, off + len - 8) ^ WY_P1), len ^ WY_P4);
+      } else if (len <= 24) {
+         return wyMum(wyMum(wyRead8Swapped(b, off) ^ WY_P0, wyRead8Swapped(b, off + 8) ^ WY_P1)
+               ^ wyMum(wyRead8Swapped(b, off + len - 8) ^ WY_P2, WY_P3), len ^ WY_P4);
+      } else if (len <= 32) {
+         return wyMum(wyMum(wyRead8Swapped(b, off) ^ WY_P0, wyRead8Swapped(b, off + 8) ^ WY_P1)
+               ^ wyMum(wyRead8Swapped(b, off + 16) ^ WY_P2,
+                     wyRead8Swapped(b, off + len - 8) ^ WY_P3), len ^ WY_P4);
+      }
+      
+      long seed = 0;
+      long see1 = 0;
+      int i = len;
+      int p = off;
+      for (; i > 256; i -= 256, p += 256) {
+         for (int j = p; j < p + 256; j += 64) {
+            seed = wyMum(readLong(b, j) ^ seed ^ WY_P0, readLong(b, j + 8) ^ seed ^ WY_P1)
+                  ^ wyMum(readLong(b, j + 16) ^ seed ^ WY_P2, readLong(b, j + 24) ^ seed ^ WY_P3);
+            see1 = wyMum(readLong(b, j + 32) ^ see1 ^ WY_P1, readLong(b, j + 40) ^ see1 ^ WY_P2)
+                  ^ wyMum(readLong(b, j + 48) ^ see1 ^ WY_P3, readLong(b, j + 56) ^ see1 ^ WY_P0);
+         }
+      }
+      for (; i > 32; i -= 32, p += 32) {
+         seed = wyMum(readLong(b, p) ^ seed ^ WY_P0, readLong(b, p + 8) ^ seed ^ WY_P1);
+         see1 = wyMum(readLong(b, p + 16) ^ see1 ^ WY_P2, readLong(b, p + 24) ^ see1 ^ WY_P3);
+      }
+      
+      if (i < 4) {
+         seed = wyMum(wyRead3(b, p, i) ^ seed ^ WY_P0, seed ^ WY_P1);
+      } else if (i <= 8) {
+         seed = wyMum(readInt(b, p) ^ seed ^ WY_P0, readInt(b, p + i - 4) ^ seed ^ WY_P1);
+      } else if (i <= 16) {
+         seed = wyMum(wyRead8Swapped(b, p) ^ seed ^ WY_P0,
+               wyRead8Swapped(b, p + i - 8) ^ seed ^ WY_P1);
+      } else if (i <= 24) {
+         seed = wyMum(wyRead8Swapped(b, p) ^ seed ^ WY_P0,
+               wyRead8Swapped(b, p + 8) ^ seed ^ WY_P1);
+         see1 = wyMum(wyRead8Swapped(b, p + i - 8) ^ see1 ^ WY_P2, see1 ^ WY_P3);
+      } else {
+         seed = wyMum(wyRead8Swapped(b, p) ^ seed ^ WY_P0,
+               wyRead8Swapped(b, p + 8) ^ seed ^ WY_P1);
+         see1 = wyMum(wyRead8Swapped(b, p + 16) ^ see1 ^ WY_P2,
+               wyRead8Swapped(b, p + i - 8) ^ see1 ^ WY_P3);
+      }
+      return wyMum(seed ^ see1, len ^ WY_P4);
+   }
+   
+   private static long wyhashWord(long word, int len) {
+      if (len < 4) {
+         long read3 = (word & 0xFFL) << 16
+               | ((word >>> ((len >>> 1) << 3)) & 0xFFL) << 8
+               | ((word >>> ((len - 1) << 3)) & 0xFFL);
+         return wyMum(wyMum(read3 ^ WY_P0, WY_P1), len ^ WY_P4);
+      }
+      return wyMum(wyMum((word & 0xFFFFFFFFL) ^ WY_P0,
+            ((word >>> ((len - 4) << 3)) & 0xFFFFFFFFL) ^ WY_P1), len ^ WY_P4);
+   }
+   
+   private static long wyRead3(byte[] b, int i, int k) {
+      return (b[i] & 0xFFL) << 16
+            | (b[i + (k >>> 1)] & 0xFFL) << 8
+            | (b[i + k - 1] & 0xFFL);
+   }
+   
+   private static long wyRead3(char[] b, int i, int k) {
+      return byteAt(b, i) << 16
+            | byteAt(b, i + (k >>> 1)) << 8
+            | byteAt(b, i + k - 1);
+   }
+   
+   /**
+    * Reads eight bytes as two little-endian ints, the first in the high
+    * order half.
+    */
+   private static long wyRead8Swapped(byte[] b, int i) {
+      return readInt(b, i) << 32 | readInt(b, i + 4);
+   }
+   
+   private static long wyRead8Swapped(char[] b, int i) {
+      return readInt(b, i) << 32 | readInt(b, i + 4);
+   }
+   
+   /**
+    * Folds the unsigned 128-bit product of the arguments to 64 bits.
+    */
+   private static long wyMum(long a, long b) {
+      return (a * b) ^ unsignedMultiplyHigh(a, b);
+   }
+   
+   /**
+    * Returns the high 64 bits of the unsigned 128-bit product of the
+    * arguments.
+    */
+   static long unsignedMultiplyHigh(long x, long y) {
+      long x0 = x & 0xFFFFFFFFL;
+      long x1 = x >>> 32;
+      long y0 = y & 0xFFFFFFFFL;
+      long y1 = y >>> 32;
+      long p01 = x0 * y1;
+      long p10 = x1 * y0;
+      long middle = p10 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+      return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+   }
+   
+   /**
+    * Supported fast hash algorithms.
+    * 
+    * @since  1.2.0
+    */
+   public static enum FastHashAlgorithm {
+      /**
+       * xxHash64, seed 0.
+       */
+      XXHASH64(64),
+      
+      /**
+       * MurmurHash3 x64_128, seed 0.  <code>hash64</code> returns the first
+       * 64 bits.
+       */
+      MURMUR3_X64_128(128),
+      
+      /**
+       * wyhash, version 3, seed 0.
+       */
+      WYHASH(64);
+      
+      private final int bits;
+      
+      private FastHashAlgorithm(int bits) {
+         this.bits = bits;
+      }
+      
+      /**
+       * Get the number of bits in the hashes of this algorithm.
+       * 
+       * @return 64 or 128.
+       */
+      public int getBits() {
+         return bits;
+      }
+   }
+}
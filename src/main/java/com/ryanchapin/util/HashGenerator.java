@@ -39,11 +39,32 @@
 
 package com.ryanchapin.util;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -67,14 +88,26 @@ import java.util.Map;
  *    <li>double</li>
  *    <li>{@link java.lang.Double}</li>
  *    <li>String</li>
- *    <li>char[]</li>
+ *    <li>{@link java.lang.CharSequence}, with a
+ *        {@link java.nio.charset.Charset}</li>
+ *    <li>byte[], short[], int[], long[], float[], double[] and char[], whole
+ *        or a slice</li>
+ *    <li>{@link java.nio.ByteBuffer}, heap or direct</li>
+ *    <li>{@link java.nio.ByteBuffer}[], byte[][] and
+ *        {@link java.util.List} of {@link java.nio.ByteBuffer} segments,
+ *        hashed as one contiguous input</li>
+ *    <li>{@link java.io.InputStream}</li>
+ *    <li>{@link java.nio.channels.ReadableByteChannel}</li>
+ *    <li>{@link java.nio.file.Path}</li>
  * </ul>
  * <p>
  * It supports any of the hash algorithms that are supported by the Java SE 8
  * {@link java.security.MessageDigest#digest()} class/method.  See the
  * MessageDigest section in the
  * <a href="http://docs.oracle.com/javase/8/docs/technotes/guides/security/StandardNames.html#MessageDigest" target="_blank">Java Cryptography Architecture Standard Algorithm Name Documentation</a>
- * for information about standard algorithm names.
+ * for information about standard algorithm names.  In addition,
+ * {@link HashAlgorithm#BLAKE3} is provided by the pure Java {@link Blake3}
+ * implementation.
  * <p>
  * NOTE: that the unit tests in this project <b>DO NOT</b> test the usage of the
  * <code>MD2</code> digest algorithm as it has not been included in openssl
@@ -104,6 +137,13 @@ import java.util.Map;
  * "built-in" synchronization (usage of the static methods), or optimize for
  * fewer Objects on the heap to be garbage collected.
  * <p>
+ * The static methods keep a per-thread cache of
+ * {@link java.security.MessageDigest} instances, one per
+ * {@link HashAlgorithm}, so that repeated calls from the same thread do not
+ * pay for a provider lookup each time.  Threads that are pooled, and that
+ * will no longer be hashing data, can release that cached state by calling
+ * {@link #releaseThreadLocalState()}.
+ * <p>
  * In the case where there is a high rate and volume of calls to the
  * <code>HashGenerator</code> static methods, resulting in garbage collection
  * causing performance issues, the programmer can opt to instantiate a
@@ -156,6 +196,88 @@ public class HashGenerator {
    private static final String EMPTY_OR_NULL_ENCODING_ERR =
          "null or empty String passed as encoding argument";
    
+   private static final String NULL_CHARSET_ERR =
+         "null passed as charset argument";
+   
+   private static final String NULL_OUTPUT_ERR =
+         "null passed as output argument";
+   
+   private static final String OUTPUT_TOO_SMALL_ERR =
+         "output does not have enough room for the digest at the given offset";
+   
+   private static final String INPUT_OUT_OF_BOUNDS_ERR =
+         "offset and length describe a slice outside of the input array";
+
+   /**
+    * Per-thread cache of {@link java.security.MessageDigest} instances used
+    * by the static <code>createHash</code> methods.  Each thread holds at most
+    * one instance per {@link HashAlgorithm}, so the size of the cache is
+    * bounded by the number of supported algorithms.
+    */
+   private static final ThreadLocal<Map<HashAlgorithm, MessageDigest>> THREAD_LOCAL_DIGESTS =
+         new ThreadLocal<Map<HashAlgorithm, MessageDigest>>() {
+            @Override
+            protected Map<HashAlgorithm, MessageDigest> initialValue() {
+               return new EnumMap<HashAlgorithm, MessageDigest>(HashAlgorithm.class);
+            }
+         };
+   
+   /**
+    * Size, in bytes, of the buffers through which streams and channels are
+    * read.
+    */
+   static final int STREAM_BUFFER_SIZE = 8192;
+   
+   /**
+    * Default maximum number of bytes of a file that are memory-mapped at one
+    * time when hashing a {@link java.nio.file.Path}.
+    */
+   public static final int DEFAULT_MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+   
+   /**
+    * Per-thread buffer through which the static <code>createHash</code>
+    * methods read streams and channels.
+    */
+   private static final ThreadLocal<ByteBuffer> THREAD_LOCAL_STREAM_BUFFER =
+         new ThreadLocal<ByteBuffer>() {
+            @Override
+            protected ByteBuffer initialValue() {
+               return ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+            }
+         };
+   
+   /**
+    * Number of chars that are encoded at one time when hashing a
+    * {@link java.lang.CharSequence}.
+    */
+   static final int CHAR_CHUNK_SIZE = 1024;
+   
+   /**
+    * Per-thread buffer into which the static <code>createHash</code>
+    * methods copy each chunk of a {@link java.lang.CharSequence} before
+    * encoding it.
+    */
+   private static final ThreadLocal<CharBuffer> THREAD_LOCAL_CHAR_BUFFER =
+         new ThreadLocal<CharBuffer>() {
+            @Override
+            protected CharBuffer initialValue() {
+               return CharBuffer.allocate(CHAR_CHUNK_SIZE);
+            }
+         };
+   
+   /**
+    * Per-thread cache of {@link java.nio.charset.CharsetEncoder} instances
+    * used by the static <code>createHash</code> methods, one per
+    * {@link java.nio.charset.Charset}.
+    */
+   private static final ThreadLocal<Map<Charset, CharsetEncoder>> THREAD_LOCAL_ENCODERS =
+         new ThreadLocal<Map<Charset, CharsetEncoder>>() {
+            @Override
+            protected Map<Charset, CharsetEncoder> initialValue() {
+               return new HashMap<Charset, CharsetEncoder>();
+            }
+         };
+   
    /**
     * Map of ByteBuffer instances that will be re-used during the life cycle
     * of the HashGenerator instance.  They will NOT be used when the static members
@@ -170,6 +292,37 @@ public class HashGenerator {
     */
    private Map<DataType, byte[]> byteArrayMap;
    
+   /**
+    * Buffer through which streams and channels are read by the instance
+    * methods.  Allocated the first time it is needed.
+    */
+   private ByteBuffer streamBuffer;
+   
+   /**
+    * Buffer into which the instance methods copy each chunk of a
+    * {@link java.lang.CharSequence} before encoding it.  Allocated the first
+    * time it is needed.
+    */
+   private CharBuffer charBuffer;
+   
+   /**
+    * Encoder used by the instance methods for the most recently used
+    * {@link java.nio.charset.Charset}.
+    */
+   private CharsetEncoder encoder;
+   
+   /**
+    * Whether the hashes of bytes, chars and shorts are looked up in the
+    * {@link PrecomputedHashes} tables instead of being computed.
+    */
+   private boolean usePrecomputedHashes;
+   
+   /**
+    * Whether the instance methods that hash a {@link java.nio.ByteBuffer}
+    * restore its position after reading it.
+    */
+   private boolean preserveBufferPosition;
+   
    // -------------------------------------------------------------------------
    // Accessor/Mutators:
    //
@@ -199,6 +352,54 @@ public class HashGenerator {
       md = null;
    }
 
+   /**
+    * Indicates whether the hashes of bytes, chars and shorts are looked up in
+    * the {@link PrecomputedHashes} tables.
+    * 
+    * @return <code>true</code> if precomputed hashes are used.
+    */
+   public boolean isUsePrecomputedHashes() {
+      return usePrecomputedHashes;
+   }
+   
+   /**
+    * Sets whether the hexadecimal hashes of bytes, chars and shorts, and their
+    * wrapper classes, are looked up in the shared {@link PrecomputedHashes}
+    * tables instead of being computed on each call.  Disabled by default.
+    * <p>
+    * Do not enable for instances used to hash sensitive data.
+    * 
+    * @param usePrecomputedHashes
+    *        <code>true</code> to use the precomputed hashes.
+    */
+   public void setUsePrecomputedHashes(boolean usePrecomputedHashes) {
+      this.usePrecomputedHashes = usePrecomputedHashes;
+   }
+   
+   /**
+    * Indicates whether the instance methods that hash a
+    * {@link java.nio.ByteBuffer} leave its position unchanged.
+    * 
+    * @return <code>true</code> if the position of input buffers is preserved.
+    */
+   public boolean isPreserveBufferPosition() {
+      return preserveBufferPosition;
+   }
+   
+   /**
+    * Sets whether the instance methods that hash a {@link java.nio.ByteBuffer}
+    * leave its position unchanged, rather than advancing it to its limit as
+    * {@link java.security.MessageDigest#update(ByteBuffer)} does.  Disabled by
+    * default.
+    * 
+    * @param preserveBufferPosition
+    *        <code>true</code> to leave the position of input buffers
+    *        unchanged.
+    */
+   public void setPreserveBufferPosition(boolean preserveBufferPosition) {
+      this.preserveBufferPosition = preserveBufferPosition;
+   }
+
    // -------------------------------------------------------------------------
    // Constructor:
    //
@@ -273,6 +474,29 @@ public class HashGenerator {
       }
    }
    
+   /**
+    * Creates a new incremental hashing session using the currently
+    * configured {@link HashAlgorithm}.
+    * <p>
+    * The returned {@link Hasher} is independent of this instance; calls to
+    * it and to this instance's <code>createHash</code> methods do not affect
+    * each other.
+    * 
+    * @return a new {@link Hasher} instance.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Hasher newHasher()
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      return hashAlgo.newHasher();
+   }
+   
    /** -- Bytes ------------------------------------------------------------ */
    
    /**
@@ -292,7 +516,7 @@ public class HashGenerator {
       throws NoSuchAlgorithmException, IllegalArgumentException
    {
       checkHashAlgoInput(hashAlgorithm);
-      byte[] byteArray = new byte[] {input};
+      byte[] byteArray = toByteArray(input);
       
       String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
       clearByteArray(byteArray);
@@ -316,115 +540,120 @@ public class HashGenerator {
       throws NoSuchAlgorithmException, IllegalStateException
    {
       checkHashAlgoField();
-      byte[] byteArray = getByteArray(DataType.BYTE, 1);
-      byteArray[0] = input;
+      if (usePrecomputedHashes) {
+         return PrecomputedHashes.getHash(input, hashAlgo);
+      }
+      byte[] byteArray = getInputBytes(input);
       
       String retVal = bytesToHex(computeHashBytes(byteArray));
       clearByteArray(DataType.BYTE);
       return retVal;
    }
    
-   /** -- Characters ------------------------------------------------------- */
-   
    /**
-    * Generates a hexadecimal hash of a char and/or its wrapper class.
+    * Generates a hash of a byte and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
     * 
     * @param  input
-    *         char to be hashed.
+    *         byte to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
     * @param  hashAlgorithm
     *         {@link HashAlgorithm} to be used to generate the hash.
-    * @return hexadecimal hash of the input data.
+    * @return the number of digest bytes written to <code>output</code>.
     * @throws IllegalArgumentException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
     * @throws NoSuchAlgorithmException
     *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     */
-   public static String createHash(char input, HashAlgorithm hashAlgorithm)
+   public static int writeHash(byte input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
       throws NoSuchAlgorithmException, IllegalArgumentException
    {
       checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
       
-      // Extract the byte array of the long
-      ByteBuffer byteBuffer = ByteBuffer.allocate(CHAR_BYTES_SIZE);
-      byteBuffer.putChar(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = new byte[CHAR_BYTES_SIZE];
-      byteBuffer.get(byteArray);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
       clearByteArray(byteArray);
       return retVal;
    }
    
    /**
-    * Generates a hexadecimal hash of a char and/or its wrapper class.
+    * Generates a hash of a byte and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
     * 
     * @param  input
-    *         char to be hashed.
-    * @return hexadecimal hash of the input data.
-    * @throws IllegalStateException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
+    *         byte to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
     * @throws NoSuchAlgorithmException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     */
-   public String createHash(char input)
-      throws NoSuchAlgorithmException, IllegalStateException
+   public static int writeHash(byte input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
    {
-      checkHashAlgoField();
-      ByteBuffer byteBuffer = getByteBuffer(DataType.CHARACTER, CHAR_BYTES_SIZE);
-      byteBuffer.putChar(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = getByteArray(DataType.CHARACTER, CHAR_BYTES_SIZE);
-      byteBuffer.get(byteArray);
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
       
-      String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(DataType.CHARACTER);
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
       return retVal;
    }
-
-   /** -- Shorts ----------------------------------------------------------- */
    
    /**
-    * Generates a hexadecimal hash of a short and/or its wrapper class.
+    * Generates a hash of a byte and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
     * 
     * @param  input
-    *         short to be hashed.
-    * @param  hashAlgorithm
-    *         {@link HashAlgorithm} to be used to generate the hash.
-    * @return hexadecimal hash of the input data.
+    *         byte to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
     * @throws IllegalArgumentException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
     * @throws NoSuchAlgorithmException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
     */
-   public static String createHash(short input, HashAlgorithm hashAlgorithm)
-      throws NoSuchAlgorithmException, IllegalArgumentException
+   public int writeHash(byte input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
    {
-      checkHashAlgoInput(hashAlgorithm);
-      
-      // Extract the byte array of the long
-      ByteBuffer byteBuffer = ByteBuffer.allocate(SHORT_BYTES_SIZE);
-      byteBuffer.putShort(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = new byte[SHORT_BYTES_SIZE];
-      byteBuffer.get(byteArray);
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
       
-      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
-      clearByteArray(byteArray);
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(DataType.BYTE);
       return retVal;
    }
    
    /**
-    * Generates a hexadecimal hash of a short and/or its wrapper class.
+    * Generates a hash of a byte and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
     * 
     * @param  input
-    *         short to be hashed.
-    * @return hexadecimal hash of the input data.
+    *         byte to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
     * @throws IllegalStateException
     *         if the <code>HashGenerator</code> instance has not yet been
     *         configured with a valid {@link HashAlgorithm} enum.
@@ -432,61 +661,47 @@ public class HashGenerator {
     *         if the <code>HashGenerator</code> instance has not yet been
     *         configured with a valid {@link HashAlgorithm} enum.
     */
-   public String createHash(short input)
+   public int writeHash(byte input, ByteBuffer output)
       throws NoSuchAlgorithmException, IllegalStateException
    {
       checkHashAlgoField();
-      ByteBuffer byteBuffer = getByteBuffer(DataType.SHORT, SHORT_BYTES_SIZE);
-      byteBuffer.putShort(input);
-      byteBuffer.rewind();
+      byte[] byteArray = getInputBytes(input);
       
-      byte[] byteArray = getByteArray(DataType.SHORT, SHORT_BYTES_SIZE);
-      byteBuffer.get(byteArray);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(DataType.SHORT);
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(DataType.BYTE);
       return retVal;
    }
    
-   /** -- Integers --------------------------------------------------------- */
-   
    /**
-    * Generates a hexadecimal hash of a int and/or its wrapper class.
+    * Generates a {@link Digest} of a byte.
     * 
     * @param  input
-    *         int to be hashed.
+    *         byte to be hashed.
     * @param  hashAlgorithm
-    *         {@link HashAlgorithm} to be used to generate the hash.
-    * @return hexadecimal hash of the input data.
+    *         {@link HashAlgorithm} to be used to generate the hash. 
+    * @return {@link Digest} of the input data.
     * @throws IllegalArgumentException
     *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     * @throws NoSuchAlgorithmException
     *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     */
-   public static String createHash(int input, HashAlgorithm hashAlgorithm)
+   public static Digest createDigest(byte input, HashAlgorithm hashAlgorithm)
       throws NoSuchAlgorithmException, IllegalArgumentException
    {
       checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
       
-      // Extract the byte array of the long
-      ByteBuffer byteBuffer = ByteBuffer.allocate(INTEGER_BYTES_SIZE);
-      byteBuffer.putInt(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = new byte[INTEGER_BYTES_SIZE];
-      byteBuffer.get(byteArray);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
       clearByteArray(byteArray);
       return retVal;
    }
    
    /**
-    * Generates a hexadecimal hash of a int and/or its wrapper class.
+    * Generates a {@link Digest} of a byte and/or its wrapper class.
     * 
     * @param  input
-    *         int to be hashed.
-    * @return hexadecimal hash of the input data.
+    *         byte to be hashed.
+    * @return {@link Digest} of the input data.
     * @throws IllegalStateException
     *         if the <code>HashGenerator</code> instance has not yet been
     *         configured with a valid {@link HashAlgorithm} enum.
@@ -494,29 +709,24 @@ public class HashGenerator {
     *         if the <code>HashGenerator</code> instance has not yet been
     *         configured with a valid {@link HashAlgorithm} enum.
     */
-   public String createHash(int input)
+   public Digest createDigest(byte input)
       throws NoSuchAlgorithmException, IllegalStateException
    {
       checkHashAlgoField();
-      ByteBuffer byteBuffer = getByteBuffer(DataType.INTEGER, INTEGER_BYTES_SIZE);
-      byteBuffer.putInt(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = getByteArray(DataType.INTEGER, INTEGER_BYTES_SIZE);
-      byteBuffer.get(byteArray);
+      byte[] byteArray = getInputBytes(input);
       
-      String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(DataType.INTEGER);
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(DataType.BYTE);
       return retVal;
    }
    
-   /** -- Longs ------------------------------------------------------------ */
+   /** -- Characters ------------------------------------------------------- */
    
    /**
-    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * Generates a hexadecimal hash of a char and/or its wrapper class.
     * 
     * @param  input
-    *         int to be hashed.
+    *         char to be hashed.
     * @param  hashAlgorithm
     *         {@link HashAlgorithm} to be used to generate the hash.
     * @return hexadecimal hash of the input data.
@@ -525,18 +735,12 @@ public class HashGenerator {
     * @throws NoSuchAlgorithmException
     *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     */
-   public static String createHash(long input, HashAlgorithm hashAlgorithm)
+   public static String createHash(char input, HashAlgorithm hashAlgorithm)
       throws NoSuchAlgorithmException, IllegalArgumentException
    {
       checkHashAlgoInput(hashAlgorithm);
       
-      // Extract the byte array of the long
-      ByteBuffer byteBuffer = ByteBuffer.allocate(LONG_BYTES_SIZE);
-      byteBuffer.putLong(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = new byte[LONG_BYTES_SIZE];
-      byteBuffer.get(byteArray);
+      byte[] byteArray = toByteArray(input);
       
       String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
       clearByteArray(byteArray);
@@ -544,10 +748,10 @@ public class HashGenerator {
    }
    
    /**
-    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * Generates a hexadecimal hash of a char and/or its wrapper class.
     * 
     * @param  input
-    *         int to be hashed.
+    *         char to be hashed.
     * @return hexadecimal hash of the input data.
     * @throws IllegalStateException
     *         if the <code>HashGenerator</code> instance has not yet been
@@ -556,111 +760,212 @@ public class HashGenerator {
     *         if the <code>HashGenerator</code> instance has not yet been
     *         configured with a valid {@link HashAlgorithm} enum.
     */
-   public String createHash(long input)
+   public String createHash(char input)
       throws NoSuchAlgorithmException, IllegalStateException
    {
       checkHashAlgoField();
-      ByteBuffer byteBuffer = getByteBuffer(DataType.LONG, LONG_BYTES_SIZE);
-      byteBuffer.putLong(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = getByteArray(DataType.LONG, LONG_BYTES_SIZE);
-      byteBuffer.get(byteArray);
+      if (usePrecomputedHashes) {
+         return PrecomputedHashes.getHash(input, hashAlgo);
+      }
+      byte[] byteArray = getInputBytes(input);
       
       String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(DataType.LONG);
+      clearByteArray(DataType.CHARACTER);
       return retVal;
    }
 
-   /** -- Floats ----------------------------------------------------------- */
-   
    /**
-    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * Generates a hash of a char and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
     * 
     * @param  input
-    *         long to be hashed.
+    *         char to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
     * @param  hashAlgorithm
     *         {@link HashAlgorithm} to be used to generate the hash.
-    * @return hexadecimal hash of the input data.
+    * @return the number of digest bytes written to <code>output</code>.
     * @throws IllegalArgumentException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
     * @throws NoSuchAlgorithmException
     *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     */
-   public static String createHash(float input, HashAlgorithm hashAlgorithm)
+   public static int writeHash(char input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
       throws NoSuchAlgorithmException, IllegalArgumentException
    {
       checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
       
-      // Extract the byte array of the long
-      ByteBuffer byteBuffer = ByteBuffer.allocate(FLOAT_BYTES_SIZE);
-      byteBuffer.putFloat(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = new byte[FLOAT_BYTES_SIZE];
-      byteBuffer.get(byteArray);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
       clearByteArray(byteArray);
       return retVal;
    }
    
    /**
-    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * Generates a hash of a char and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
     * 
     * @param  input
-    *         long to be hashed.
-    * @return hexadecimal hash of the input data.
-    * @throws IllegalStateException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
+    *         char to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
     * @throws NoSuchAlgorithmException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     */
-   public String createHash(float input)
-      throws NoSuchAlgorithmException, IllegalStateException
+   public static int writeHash(char input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
    {
-      checkHashAlgoField();
-      ByteBuffer byteBuffer = getByteBuffer(DataType.FLOAT, FLOAT_BYTES_SIZE);
-      byteBuffer.putFloat(input);
-      byteBuffer.rewind();
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
       
-      byte[] byteArray = getByteArray(DataType.FLOAT, FLOAT_BYTES_SIZE);
-      byteBuffer.get(byteArray);
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a char and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
       
-      String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(DataType.FLOAT);
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(DataType.CHARACTER);
       return retVal;
    }
    
-   /** -- Doubles ---------------------------------------------------------- */
+   /**
+    * Generates a hash of a char and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(DataType.CHARACTER);
+      return retVal;
+   }
    
    /**
-    * Generates a hexadecimal hash of a double and/or its wrapper class.
+    * Generates a {@link Digest} of a char and/or its wrapper class.
     * 
     * @param  input
-    *         double to be hashed.
+    *         char to be hashed.
     * @param  hashAlgorithm
     *         {@link HashAlgorithm} to be used to generate the hash.
-    * @return hexadecimal hash of the input data.
+    * @return {@link Digest} of the input data.
     * @throws IllegalArgumentException
     *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     * @throws NoSuchAlgorithmException
     *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
     */
-   public static String createHash(double input, HashAlgorithm hashAlgorithm)
+   public static Digest createDigest(char input, HashAlgorithm hashAlgorithm)
       throws NoSuchAlgorithmException, IllegalArgumentException
    {
       checkHashAlgoInput(hashAlgorithm);
       
-      // Extract the byte array of the long
-      ByteBuffer byteBuffer = ByteBuffer.allocate(DOUBLE_BYTES_SIZE);
-      byteBuffer.putDouble(input);
-      byteBuffer.rewind();
+      byte[] byteArray = toByteArray(input);
       
-      byte[] byteArray = new byte[DOUBLE_BYTES_SIZE];
-      byteBuffer.get(byteArray);
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a char and/or its wrapper class.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(char input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(DataType.CHARACTER);
+      return retVal;
+   }
+   
+   /** -- Shorts ----------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a short and/or its wrapper class.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(short input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
       
       String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
       clearByteArray(byteArray);
@@ -668,10 +973,10 @@ public class HashGenerator {
    }
    
    /**
-    * Generates a hexadecimal hash of a double and/or its wrapper class.
+    * Generates a hexadecimal hash of a short and/or its wrapper class.
     * 
     * @param  input
-    *         double to be hashed.
+    *         short to be hashed.
     * @return hexadecimal hash of the input data.
     * @throws IllegalStateException
     *         if the <code>HashGenerator</code> instance has not yet been
@@ -680,180 +985,5359 @@ public class HashGenerator {
     *         if the <code>HashGenerator</code> instance has not yet been
     *         configured with a valid {@link HashAlgorithm} enum.
     */
-   public String createHash(double input)
+   public String createHash(short input)
       throws NoSuchAlgorithmException, IllegalStateException
    {
       checkHashAlgoField();
-      ByteBuffer byteBuffer = getByteBuffer(DataType.DOUBLE, DOUBLE_BYTES_SIZE);
-      byteBuffer.putDouble(input);
-      byteBuffer.rewind();
-      
-      byte[] byteArray = getByteArray(DataType.DOUBLE, DOUBLE_BYTES_SIZE);
-      byteBuffer.get(byteArray);
+      if (usePrecomputedHashes) {
+         return PrecomputedHashes.getHash(input, hashAlgo);
+      }
+      byte[] byteArray = getInputBytes(input);
       
       String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(DataType.DOUBLE);
+      clearByteArray(DataType.SHORT);
       return retVal;
    }
    
-   /** -- Strings ---------------------------------------------------------- */
+   /**
+    * Generates a hash of a short and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(short input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
    
    /**
-    * Generates a hexadecimal hash of a double and/or its wrapper class.
+    * Generates a hash of a short and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
     * 
     * @param  input
-    *         String to be hashed.
-    * @param  encoding
-    *         valid {@link java.nio.charset.StandardCharsets} constant to be
-    *         used when generating byte array from the
-    *         {@link java.lang.String#getBytes(String)} method.
+    *         short to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(short input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a short and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(short input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(DataType.SHORT);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a short and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(short input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(DataType.SHORT);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a short and/or its wrapper class.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(short input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a short and/or its wrapper class.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(short input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(DataType.SHORT);
+      return retVal;
+   }
+   
+   /** -- Integers --------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a int and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
     * @param  hashAlgorithm
     *         {@link HashAlgorithm} to be used to generate the hash.
     * @return hexadecimal hash of the input data.
-    * @throws UnsupportedEncodingException
-    *         if the encoding <code>String</code> argument is not a valid
-    *         encoding.
     * @throws IllegalArgumentException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
-    * @throws NoSuchAlgorithmException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(int input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a int and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(int input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray));
+      clearByteArray(DataType.INTEGER);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a int and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(int input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a int and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(int input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a int and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(int input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(DataType.INTEGER);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a int and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(int input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(DataType.INTEGER);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a int and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(int input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a int and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(int input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(DataType.INTEGER);
+      return retVal;
+   }
+   
+   /** -- Longs ------------------------------------------------------------ */
+   
+   /**
+    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(long input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(long input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray));
+      clearByteArray(DataType.LONG);
+      return retVal;
+   }
+
+   /**
+    * Generates a hash of a long and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(long input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a long and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(long input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a long and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(long input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(DataType.LONG);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a long and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(long input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(DataType.LONG);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(long input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(long input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(DataType.LONG);
+      return retVal;
+   }
+   
+   /** -- Floats ----------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(float input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(float input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray));
+      clearByteArray(DataType.FLOAT);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a float and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(float input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a float and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(float input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a float and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(float input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(DataType.FLOAT);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a float and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(float input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(DataType.FLOAT);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(float input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a long and/or its wrapper class.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(float input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(DataType.FLOAT);
+      return retVal;
+   }
+   
+   /** -- Doubles ---------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a double and/or its wrapper class.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(double input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a double and/or its wrapper class.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(double input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray));
+      clearByteArray(DataType.DOUBLE);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a double and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(double input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a double and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(double input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = toByteArray(input);
+      
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a double and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(double input, byte[] output, int offset)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(DataType.DOUBLE);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a double and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(double input, ByteBuffer output)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(DataType.DOUBLE);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a double and/or its wrapper class.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(double input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      
+      byte[] byteArray = toByteArray(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a double and/or its wrapper class.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(double input)
+      throws NoSuchAlgorithmException, IllegalStateException
+   {
+      checkHashAlgoField();
+      byte[] byteArray = getInputBytes(input);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(DataType.DOUBLE);
+      return retVal;
+   }
+   
+   /** -- Strings ---------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.StandardCharsets} constant to be
+    *         used when generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(String input,
+         String encoding, HashAlgorithm hashAlgorithm)
+         throws UnsupportedEncodingException, IllegalArgumentException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+
+      // Generate a byte array from the input String.
+      byte[] byteArray = input.getBytes(encoding);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+
+   /**
+    * Generates a hexadecimal hash of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return hexadecimal hash of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(String input, String encoding)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      if (null == encoding || encoding.isEmpty()) {
+         throw new IllegalArgumentException(EMPTY_OR_NULL_ENCODING_ERR);
+      }
+
+      // Generate a byte array from the input String.
+      byte[] byteArray = input.getBytes(encoding);
+      
+      String retVal = bytesToHex(computeHashBytes(byteArray));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a String and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.StandardCharsets} constant to be
+    *         used when generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(String input, String encoding,
+         byte[] output, int offset, HashAlgorithm hashAlgorithm)
+         throws UnsupportedEncodingException, IllegalArgumentException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = input.getBytes(encoding);
+      
+      int retVal = computeHashBytes(byteArray, output, offset, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a String and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.StandardCharsets} constant to be
+    *         used when generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(String input, String encoding,
+         ByteBuffer output, HashAlgorithm hashAlgorithm)
+         throws UnsupportedEncodingException, IllegalArgumentException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      byte[] byteArray = input.getBytes(encoding);
+      
+      int retVal = computeHashBytes(byteArray, output, hashAlgorithm);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a String and writes the raw digest bytes into the
+    * given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the encoding is null or empty, or if <code>output</code>
+    *         does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(String input, String encoding, byte[] output,
+         int offset)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      if (null == encoding || encoding.isEmpty()) {
+         throw new IllegalArgumentException(EMPTY_OR_NULL_ENCODING_ERR);
+      }
+      byte[] byteArray = input.getBytes(encoding);
+      
+      int retVal = computeHashBytes(byteArray, output, offset);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a hash of a String and writes the raw digest bytes into the
+    * given buffer at its current position, advancing the position by the
+    * number of bytes written.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the encoding is null or empty, or if <code>output</code>
+    *         does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(String input, String encoding, ByteBuffer output)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      if (null == encoding || encoding.isEmpty()) {
+         throw new IllegalArgumentException(EMPTY_OR_NULL_ENCODING_ERR);
+      }
+      byte[] byteArray = input.getBytes(encoding);
+      
+      int retVal = computeHashBytes(byteArray, output);
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.StandardCharsets} constant to be
+    *         used when generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(String input,
+         String encoding, HashAlgorithm hashAlgorithm)
+         throws UnsupportedEncodingException, IllegalArgumentException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+
+      // Generate a byte array from the input String.
+      byte[] byteArray = input.getBytes(encoding);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray, hashAlgorithm));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /**
+    * Generates a {@link Digest} of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return {@link Digest} of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(String input, String encoding)
+         throws UnsupportedEncodingException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      if (null == encoding || encoding.isEmpty()) {
+         throw new IllegalArgumentException(EMPTY_OR_NULL_ENCODING_ERR);
+      }
+
+      // Generate a byte array from the input String.
+      byte[] byteArray = input.getBytes(encoding);
+      
+      Digest retVal = Digest.of(computeHashBytes(byteArray));
+      clearByteArray(byteArray);
+      return retVal;
+   }
+   
+   /** -- Character Sequences ---------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a sequence of characters.
+    * <p>
+    * The characters are encoded in fixed size chunks, through a cached
+    * {@link java.nio.charset.CharsetEncoder}, straight into the digest, so no
+    * byte array the size of the encoded input is ever allocated.  Malformed
+    * and unmappable characters are replaced in the same way as
+    * {@link java.lang.String#getBytes(java.nio.charset.Charset)}, so a String
+    * produces the same hash as it does through the <code>String</code>
+    * methods.  The position of a {@link java.nio.CharBuffer} argument is not
+    * changed.  The charset comes first so that these overloads can never be
+    * confused with the <code>String</code> ones when an argument is
+    * <code>null</code>.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>charset</code> is null.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(Charset charset, CharSequence input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, getThreadLocalEncoder(charset),
+            THREAD_LOCAL_CHAR_BUFFER.get(), THREAD_LOCAL_STREAM_BUFFER.get());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hash of a sequence of characters and writes the raw digest
+    * bytes into the given array, starting at <code>offset</code>.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>charset</code> is null, or if
+    *         <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(Charset charset, CharSequence input,
+         byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, getThreadLocalEncoder(charset),
+            THREAD_LOCAL_CHAR_BUFFER.get(), THREAD_LOCAL_STREAM_BUFFER.get());
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a sequence of characters and writes the raw digest
+    * bytes into the given buffer at its current position, advancing the
+    * position by the number of bytes written.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>charset</code> is null, or if
+    *         <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(Charset charset, CharSequence input,
+         ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, getThreadLocalEncoder(charset),
+            THREAD_LOCAL_CHAR_BUFFER.get(), THREAD_LOCAL_STREAM_BUFFER.get());
+      return digestInto(msgDigest, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a sequence of characters.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>charset</code> is null.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(Charset charset, CharSequence input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, getThreadLocalEncoder(charset),
+            THREAD_LOCAL_CHAR_BUFFER.get(), THREAD_LOCAL_STREAM_BUFFER.get());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a sequence of characters.
+    * <p>
+    * The characters are encoded in fixed size chunks, through a cached
+    * {@link java.nio.charset.CharsetEncoder}, straight into the digest, so no
+    * byte array the size of the encoded input is ever allocated.  Malformed
+    * and unmappable characters are replaced in the same way as
+    * {@link java.lang.String#getBytes(java.nio.charset.Charset)}, so a String
+    * produces the same hash as it does through the <code>String</code>
+    * methods.  The position of a {@link java.nio.CharBuffer} argument is not
+    * changed.  The charset comes first so that these overloads can never be
+    * confused with the <code>String</code> ones when an argument is
+    * <code>null</code>.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(Charset charset, CharSequence input)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getEncoder(charset), getCharBuffer(),
+            getStreamBuffer());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hash of a sequence of characters and writes the raw digest
+    * bytes into the given array, starting at <code>offset</code>.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null, or if
+    *         <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(Charset charset, CharSequence input,
+         byte[] output, int offset)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getEncoder(charset), getCharBuffer(),
+            getStreamBuffer());
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a sequence of characters and writes the raw digest
+    * bytes into the given buffer at its current position, advancing the
+    * position by the number of bytes written.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null, or if
+    *         <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(Charset charset, CharSequence input,
+         ByteBuffer output)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getEncoder(charset), getCharBuffer(),
+            getStreamBuffer());
+      return digestInto(msgDigest, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a sequence of characters.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} used to encode the characters.
+    * @param  input
+    *         characters to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(Charset charset, CharSequence input)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getEncoder(charset), getCharBuffer(),
+            getStreamBuffer());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /** -- Primitive Arrays ------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of an array of bytes.
+    * 
+    * @param  input
+    *         byte[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(byte[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a slice of an array of bytes.
+    * 
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(byte[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of an array of bytes.
+    * 
+    * @param  input
+    *         byte[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a slice of an array of bytes.
+    * 
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of an array of bytes.
+    * 
+    * @param  input
+    *         byte[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(byte[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a slice of an array of bytes.
+    * 
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(byte[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of an array of bytes.
+    * 
+    * @param  input
+    *         byte[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a slice of an array of bytes.
+    * 
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of shorts.
+    * 
+    * @param  input
+    *         short[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(short[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of shorts.
+    * 
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(short[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of shorts.
+    * 
+    * @param  input
+    *         short[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(short[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of shorts.
+    * 
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(short[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * shorts.
+    * 
+    * @param  input
+    *         short[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(short[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of shorts.
+    * 
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(short[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * shorts.
+    * 
+    * @param  input
+    *         short[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(short[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of shorts.
+    * 
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(short[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of ints.
+    * 
+    * @param  input
+    *         int[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(int[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of ints.
+    * 
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(int[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of ints.
+    * 
+    * @param  input
+    *         int[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(int[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of ints.
+    * 
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(int[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * ints.
+    * 
+    * @param  input
+    *         int[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(int[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of ints.
+    * 
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(int[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * ints.
+    * 
+    * @param  input
+    *         int[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(int[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of ints.
+    * 
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(int[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of longs.
+    * 
+    * @param  input
+    *         long[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(long[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of longs.
+    * 
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(long[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of longs.
+    * 
+    * @param  input
+    *         long[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(long[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of longs.
+    * 
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(long[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * longs.
+    * 
+    * @param  input
+    *         long[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(long[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of longs.
+    * 
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(long[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * longs.
+    * 
+    * @param  input
+    *         long[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(long[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of longs.
+    * 
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(long[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of floats.
+    * 
+    * @param  input
+    *         float[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(float[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of floats.
+    * 
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(float[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of floats.
+    * 
+    * @param  input
+    *         float[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(float[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of floats.
+    * 
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(float[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * floats.
+    * 
+    * @param  input
+    *         float[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(float[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of floats.
+    * 
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(float[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * floats.
+    * 
+    * @param  input
+    *         float[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(float[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of floats.
+    * 
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(float[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of doubles.
+    * 
+    * @param  input
+    *         double[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(double[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of doubles.
+    * 
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(double[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of an array
+    * of doubles.
+    * 
+    * @param  input
+    *         double[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(double[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of doubles.
+    * 
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(double[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * doubles.
+    * 
+    * @param  input
+    *         double[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(double[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of doubles.
+    * 
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(double[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of an array of
+    * doubles.
+    * 
+    * @param  input
+    *         double[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(double[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of doubles.
+    * 
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(double[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /** -- Character Arrays ------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(char[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, 0, input.length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(char[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, 0, input.length,
+            getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hash of a character array and writes the raw digest bytes
+    * into the given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(char[] input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, 0, input.length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a character array and writes the raw digest bytes
+    * into the given buffer at its current position, advancing the position
+    * by the number of bytes written.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(char[] input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, 0, input.length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return digestInto(msgDigest, output);
+   }
+   
+   /**
+    * Generates a hash of a character array and writes the raw digest bytes
+    * into the given array, starting at <code>offset</code>.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char[] input, byte[] output, int offset)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, 0, input.length,
+            getStreamBuffer().array());
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Generates a hash of a character array and writes the raw digest bytes
+    * into the given buffer at its current position, advancing the position
+    * by the number of bytes written.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(char[] input, ByteBuffer output)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, 0, input.length,
+            getStreamBuffer().array());
+      return digestInto(msgDigest, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(char[] input, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, 0, input.length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(char[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, 0, input.length,
+            getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of chars.
+    * 
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(char[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the big-endian representation of a slice
+    * of an array of chars.
+    * 
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(char[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of chars.
+    * 
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the slice falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(char[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length,
+            THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the big-endian representation of a slice of
+    * an array of chars.
+    * 
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(char[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length,
+            getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /** -- Byte Buffers --------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}, from its position to its limit.
+    * <p>
+    * The bytes are passed to the digest in place; heap buffers are read
+    * through their backing array and direct buffers are never copied into
+    * an array the size of the input.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit;
+    * hash <code>input.duplicate()</code> to leave the position unchanged.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(ByteBuffer input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      msgDigest.update(input);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hash of the remaining bytes of a {@link java.nio.ByteBuffer}
+    * and writes the raw digest bytes into the given array, starting at
+    * <code>offset</code>.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit;
+    * hash <code>input.duplicate()</code> to leave the position unchanged.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(ByteBuffer input, byte[] output, int offset,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      msgDigest.update(input);
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Generates a hash of the remaining bytes of a {@link java.nio.ByteBuffer}
+    * and writes the raw digest bytes into the given buffer at its current
+    * position, advancing that position by the number of bytes written.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit;
+    * hash <code>input.duplicate()</code> to leave the position unchanged.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if <code>output</code> does not have room for the digest.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static int writeHash(ByteBuffer input, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      msgDigest.update(input);
+      return digestInto(msgDigest, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit;
+    * hash <code>input.duplicate()</code> to leave the position unchanged.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(ByteBuffer input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      msgDigest.update(input);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}, from its position to its limit.
+    * <p>
+    * The bytes are passed to the digest in place; heap buffers are read
+    * through their backing array and direct buffers are never copied into
+    * an array the size of the input.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ByteBuffer input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, preserveBufferPosition);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hash of the remaining bytes of a {@link java.nio.ByteBuffer}
+    * and writes the raw digest bytes into the given array, starting at
+    * <code>offset</code>.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(ByteBuffer input, byte[] output, int offset)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, preserveBufferPosition);
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Generates a hash of the remaining bytes of a {@link java.nio.ByteBuffer}
+    * and writes the raw digest bytes into the given buffer at its current
+    * position, advancing that position by the number of bytes written.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written to <code>output</code>.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public int writeHash(ByteBuffer input, ByteBuffer output)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, preserveBufferPosition);
+      return digestInto(msgDigest, output);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}.
+    * <p>
+    * Upon return the input buffer's position will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         buffer whose remaining bytes are to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ByteBuffer input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, preserveBufferPosition);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /** -- Segmented Input ------------------------------------------------ */
+   
+   /**
+    * Generates a hexadecimal hash of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(ByteBuffer[] input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a range of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the range falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(ByteBuffer[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length, false);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ByteBuffer[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a range of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ByteBuffer[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length, preserveBufferPosition);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(ByteBuffer[] input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a range of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the range falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(ByteBuffer[] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length, false);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ByteBuffer[] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a range of the segments in an array of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ByteBuffer[] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length, preserveBufferPosition);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the segments in an array of byte arrays,
+    * in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(byte[][] input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a range of the segments in an array of
+    * byte arrays, in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the range falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(byte[][] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the segments in an array of byte arrays,
+    * in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[][] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a range of the segments in an array of
+    * byte arrays, in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(byte[][] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in an array of byte arrays, in
+    * order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(byte[][] input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a range of the segments in an array of byte
+    * arrays, in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm},
+    *         or if the range falls outside of the array.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(byte[][] input, int offset, int length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, offset, length);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in an array of byte arrays, in
+    * order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[][] input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, 0, input.length);
+   }
+   
+   /**
+    * Generates a {@link Digest} of a range of the segments in an array of byte
+    * arrays, in order, as if they were a single, contiguous input.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first segment to be hashed.
+    * @param  length
+    *         number of segments to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(byte[][] input, int offset, int length)
+         throws IllegalArgumentException, IllegalStateException,
+         NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, offset, length);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the segments in a list of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit.
+    * 
+    * @param  input
+    *         list of buffers whose remaining bytes are to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(List<ByteBuffer> input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, false);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the segments in a list of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         list of buffers whose remaining bytes are to be hashed.
+    * @return hexadecimal hash of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(List<ByteBuffer> input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, preserveBufferPosition);
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in a list of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit.
+    * 
+    * @param  input
+    *         list of buffers whose remaining bytes are to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(List<ByteBuffer> input,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, false);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the segments in a list of
+    * {@link java.nio.ByteBuffer}s, in order, as if they were a single,
+    * contiguous input.
+    * <p>
+    * Upon return the position of each buffer will be equal to its limit,
+    * unless {@link #setPreserveBufferPosition(boolean)} has been enabled.
+    * 
+    * @param  input
+    *         list of buffers whose remaining bytes are to be hashed.
+    * @return {@link Digest} of the concatenated segments.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(List<ByteBuffer> input)
+         throws IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, preserveBufferPosition);
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /** -- Streams and Channels --------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal hash of all of the bytes read from an
+    * InputStream until the end of the stream is reached.
+    * <p>
+    * The stream is read through a re-usable, fixed size buffer that is cached
+    * for the calling thread, so memory usage does not depend on the amount of
+    * data read.  The stream is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(InputStream input, HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of all of the bytes read from an
+    * InputStream until the end of the stream is reached.
+    * <p>
+    * The stream is read through a re-usable, fixed size buffer owned by this
+    * instance, so memory usage does not depend on the amount of data read.
+    * The stream is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(InputStream input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getStreamBuffer().array());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of all of the bytes read from a
+    * ReadableByteChannel until the end of the channel is reached.
+    * <p>
+    * The channel is read through a re-usable, fixed size buffer that is
+    * cached for the calling thread, so memory usage does not depend on the
+    * amount of data read.  The channel must be in blocking mode, and is
+    * <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(ReadableByteChannel input,
+         HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, THREAD_LOCAL_STREAM_BUFFER.get());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of all of the bytes read from a
+    * ReadableByteChannel until the end of the channel is reached.
+    * <p>
+    * The channel is read through a re-usable, fixed size buffer owned by
+    * this instance, so memory usage does not depend on the amount of data
+    * read.  The channel must be in blocking mode, and is <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be hashed.
+    * @return hexadecimal hash of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(ReadableByteChannel input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getStreamBuffer());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of all of the bytes read from an
+    * InputStream until the end of the stream is reached.
+    * <p>
+    * The stream is read through a re-usable, fixed size buffer that is cached
+    * for the calling thread, so memory usage does not depend on the amount of
+    * data read.  The stream is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(InputStream input, HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, THREAD_LOCAL_STREAM_BUFFER.get().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of all of the bytes read from an
+    * InputStream until the end of the stream is reached.
+    * <p>
+    * The stream is read through a re-usable, fixed size buffer owned by this
+    * instance, so memory usage does not depend on the amount of data read.
+    * The stream is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(InputStream input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getStreamBuffer().array());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of all of the bytes read from a
+    * ReadableByteChannel until the end of the channel is reached.
+    * <p>
+    * The channel is read through a re-usable, fixed size buffer that is
+    * cached for the calling thread, so memory usage does not depend on the
+    * amount of data read.  The channel must be in blocking mode, and is
+    * <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(ReadableByteChannel input,
+         HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, THREAD_LOCAL_STREAM_BUFFER.get());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of all of the bytes read from a
+    * ReadableByteChannel until the end of the channel is reached.
+    * <p>
+    * The channel is read through a re-usable, fixed size buffer owned by
+    * this instance, so memory usage does not depend on the amount of data
+    * read.  The channel must be in blocking mode, and is <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be hashed.
+    * @return {@link Digest} of the input data.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(ReadableByteChannel input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, getStreamBuffer());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /** -- Files ------------------------------------------------------------ */
+   
+   /**
+    * Generates a hexadecimal hash of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped in windows of
+    * {@link #DEFAULT_MAPPED_WINDOW_SIZE} bytes and each window is passed
+    * directly to the digest.  See
+    * {@link #createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(Path input, HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createHash(input, DEFAULT_MAPPED_WINDOW_SIZE, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped, read-only, in consecutive windows of at
+    * most <code>windowSize</code> bytes, and each
+    * {@link java.nio.MappedByteBuffer} is passed directly to the digest
+    * without first being copied into a heap array.  Remapping in windows
+    * enables hashing files larger than 2 GB, and bounds the amount of address
+    * space mapped at any one time.
+    * <p>
+    * Special files, such as pipes and devices, as well as files that report
+    * a size of zero, such as those in <code>/proc</code>, cannot be mapped and
+    * are instead read through a re-usable buffer cached for the calling
+    * thread.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}, or
+    *         if windowSize is not a positive number.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String createHash(Path input, int windowSize,
+         HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      checkWindowSize(windowSize);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, windowSize, THREAD_LOCAL_STREAM_BUFFER.get());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped in windows of
+    * {@link #DEFAULT_MAPPED_WINDOW_SIZE} bytes and each window is passed
+    * directly to the digest.  See
+    * {@link #createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return hexadecimal hash of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(Path input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return createHash(input, DEFAULT_MAPPED_WINDOW_SIZE);
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the contents of a file, memory-mapping
+    * regular files in windows of at most <code>windowSize</code> bytes.  See
+    * {@link #createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @return hexadecimal hash of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if windowSize is not a positive number.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public String createHash(Path input, int windowSize)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      checkWindowSize(windowSize);
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, windowSize, getStreamBuffer());
+      return bytesToHex(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped in windows of
+    * {@link #DEFAULT_MAPPED_WINDOW_SIZE} bytes and each window is passed
+    * directly to the digest.  See
+    * {@link #createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(Path input, HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return createDigest(input, DEFAULT_MAPPED_WINDOW_SIZE, hashAlgorithm);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped, read-only, in consecutive windows of at
+    * most <code>windowSize</code> bytes, and each
+    * {@link java.nio.MappedByteBuffer} is passed directly to the digest
+    * without first being copied into a heap array.  Remapping in windows
+    * enables hashing files larger than 2 GB, and bounds the amount of address
+    * space mapped at any one time.
+    * <p>
+    * Special files, such as pipes and devices, as well as files that report
+    * a size of zero, such as those in <code>/proc</code>, cannot be mapped and
+    * are instead read through a re-usable buffer cached for the calling
+    * thread.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}, or
+    *         if windowSize is not a positive number.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static Digest createDigest(Path input, int windowSize,
+         HashAlgorithm hashAlgorithm)
+      throws IOException, IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkHashAlgoInput(hashAlgorithm);
+      checkWindowSize(windowSize);
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, input, windowSize, THREAD_LOCAL_STREAM_BUFFER.get());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /**
+    * Generates a {@link Digest} of the contents of a file.
+    * <p>
+    * Regular files are memory-mapped in windows of
+    * {@link #DEFAULT_MAPPED_WINDOW_SIZE} bytes and each window is passed
+    * directly to the digest.  See
+    * {@link #createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return {@link Digest} of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(Path input)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      return createDigest(input, DEFAULT_MAPPED_WINDOW_SIZE);
+   }
+   
+   /**
+    * Generates a {@link Digest} of the contents of a file, memory-mapping
+    * regular files in windows of at most <code>windowSize</code> bytes.  See
+    * {@link #createHash(Path, int, HashAlgorithm)} for details.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @return {@link Digest} of the contents of the file.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    * @throws IllegalArgumentException
+    *         if windowSize is not a positive number.
+    * @throws IllegalStateException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   public Digest createDigest(Path input, int windowSize)
+      throws IOException, IllegalStateException, NoSuchAlgorithmException
+   {
+      checkHashAlgoField();
+      checkWindowSize(windowSize);
+      MessageDigest msgDigest = getMessageDigest();
+      updateDigest(msgDigest, input, windowSize, getStreamBuffer());
+      return Digest.of(msgDigest.digest());
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Returns a newly allocated byte array containing the given byte.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return byte array representation of the input.
+    */
+   private static byte[] toByteArray(byte input) {
+      return new byte[] {input};
+   }
+
+   /**
+    * Returns a newly allocated byte array containing the big-endian
+    * representation of the given char.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return byte array representation of the input.
+    */
+   private static byte[] toByteArray(char input) {
+      ByteBuffer byteBuffer = ByteBuffer.allocate(CHAR_BYTES_SIZE);
+      byteBuffer.putChar(input);
+      return byteBuffer.array();
+   }
+
+   /**
+    * Returns a newly allocated byte array containing the big-endian
+    * representation of the given short.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return byte array representation of the input.
+    */
+   private static byte[] toByteArray(short input) {
+      ByteBuffer byteBuffer = ByteBuffer.allocate(SHORT_BYTES_SIZE);
+      byteBuffer.putShort(input);
+      return byteBuffer.array();
+   }
+
+   /**
+    * Returns a newly allocated byte array containing the big-endian
+    * representation of the given int.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return byte array representation of the input.
+    */
+   private static byte[] toByteArray(int input) {
+      ByteBuffer byteBuffer = ByteBuffer.allocate(INTEGER_BYTES_SIZE);
+      byteBuffer.putInt(input);
+      return byteBuffer.array();
+   }
+
+   /**
+    * Returns a newly allocated byte array containing the big-endian
+    * representation of the given long.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return byte array representation of the input.
+    */
+   private static byte[] toByteArray(long input) {
+      ByteBuffer byteBuffer = ByteBuffer.allocate(LONG_BYTES_SIZE);
+      byteBuffer.putLong(input);
+      return byteBuffer.array();
+   }
+
+   /**
+    * Returns a newly allocated byte array containing the big-endian
+    * representation of the given float.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return byte array representation of the input.
+    */
+   private static byte[] toByteArray(float input) {
+      ByteBuffer byteBuffer = ByteBuffer.allocate(FLOAT_BYTES_SIZE);
+      byteBuffer.putFloat(input);
+      return byteBuffer.array();
+   }
+
+   /**
+    * Returns a newly allocated byte array containing the big-endian
+    * representation of the given double.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return byte array representation of the input.
+    */
+   private static byte[] toByteArray(double input) {
+      ByteBuffer byteBuffer = ByteBuffer.allocate(DOUBLE_BYTES_SIZE);
+      byteBuffer.putDouble(input);
+      return byteBuffer.array();
+   }
+
+   /**
+    * Passes a slice of an array of bytes to the given digest.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, byte[] input, int offset,
+         int length) throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      msgDigest.update(input, offset, length);
+   }
+   
+   /**
+    * Passes the big-endian representation of a slice of an array of shorts to
+    * the given digest.  The values are encoded into the given scratch array
+    * one chunk at a time, so no copy of the entire slice is made.  The scratch
+    * array is wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @param  scratch
+    *         array into which each chunk is encoded.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, short[] input, int offset,
+         int length, byte[] scratch) throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      ShortBuffer view = ByteBuffer.wrap(scratch).asShortBuffer();
+      int maxWritten = 0;
+      try {
+         int end = offset + length;
+         while (offset < end) {
+            int count = Math.min(view.capacity(), end - offset);
+            view.clear();
+            view.put(input, offset, count);
+            msgDigest.update(scratch, 0, count * SHORT_BYTES_SIZE);
+            maxWritten = Math.max(maxWritten, count * SHORT_BYTES_SIZE);
+            offset += count;
+         }
+      } finally {
+         Arrays.fill(scratch, 0, maxWritten, (byte) 0x00);
+      }
+   }
+   
+   /**
+    * Passes the big-endian representation of a slice of an array of ints to
+    * the given digest.  The values are encoded into the given scratch array
+    * one chunk at a time, so no copy of the entire slice is made.  The scratch
+    * array is wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @param  scratch
+    *         array into which each chunk is encoded.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, int[] input, int offset,
+         int length, byte[] scratch) throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      IntBuffer view = ByteBuffer.wrap(scratch).asIntBuffer();
+      int maxWritten = 0;
+      try {
+         int end = offset + length;
+         while (offset < end) {
+            int count = Math.min(view.capacity(), end - offset);
+            view.clear();
+            view.put(input, offset, count);
+            msgDigest.update(scratch, 0, count * INTEGER_BYTES_SIZE);
+            maxWritten = Math.max(maxWritten, count * INTEGER_BYTES_SIZE);
+            offset += count;
+         }
+      } finally {
+         Arrays.fill(scratch, 0, maxWritten, (byte) 0x00);
+      }
+   }
+   
+   /**
+    * Passes the big-endian representation of a slice of an array of longs to
+    * the given digest.  The values are encoded into the given scratch array
+    * one chunk at a time, so no copy of the entire slice is made.  The scratch
+    * array is wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @param  scratch
+    *         array into which each chunk is encoded.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, long[] input, int offset,
+         int length, byte[] scratch) throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      LongBuffer view = ByteBuffer.wrap(scratch).asLongBuffer();
+      int maxWritten = 0;
+      try {
+         int end = offset + length;
+         while (offset < end) {
+            int count = Math.min(view.capacity(), end - offset);
+            view.clear();
+            view.put(input, offset, count);
+            msgDigest.update(scratch, 0, count * LONG_BYTES_SIZE);
+            maxWritten = Math.max(maxWritten, count * LONG_BYTES_SIZE);
+            offset += count;
+         }
+      } finally {
+         Arrays.fill(scratch, 0, maxWritten, (byte) 0x00);
+      }
+   }
+   
+   /**
+    * Passes the big-endian representation of a slice of an array of floats to
+    * the given digest.  The values are encoded into the given scratch array
+    * one chunk at a time, so no copy of the entire slice is made.  The scratch
+    * array is wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @param  scratch
+    *         array into which each chunk is encoded.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, float[] input, int offset,
+         int length, byte[] scratch) throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      FloatBuffer view = ByteBuffer.wrap(scratch).asFloatBuffer();
+      int maxWritten = 0;
+      try {
+         int end = offset + length;
+         while (offset < end) {
+            int count = Math.min(view.capacity(), end - offset);
+            view.clear();
+            view.put(input, offset, count);
+            msgDigest.update(scratch, 0, count * FLOAT_BYTES_SIZE);
+            maxWritten = Math.max(maxWritten, count * FLOAT_BYTES_SIZE);
+            offset += count;
+         }
+      } finally {
+         Arrays.fill(scratch, 0, maxWritten, (byte) 0x00);
+      }
+   }
+   
+   /**
+    * Passes the big-endian representation of a slice of an array of doubles to
+    * the given digest.  The values are encoded into the given scratch array
+    * one chunk at a time, so no copy of the entire slice is made.  The scratch
+    * array is wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @param  scratch
+    *         array into which each chunk is encoded.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, double[] input, int offset,
+         int length, byte[] scratch) throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      DoubleBuffer view = ByteBuffer.wrap(scratch).asDoubleBuffer();
+      int maxWritten = 0;
+      try {
+         int end = offset + length;
+         while (offset < end) {
+            int count = Math.min(view.capacity(), end - offset);
+            view.clear();
+            view.put(input, offset, count);
+            msgDigest.update(scratch, 0, count * DOUBLE_BYTES_SIZE);
+            maxWritten = Math.max(maxWritten, count * DOUBLE_BYTES_SIZE);
+            offset += count;
+         }
+      } finally {
+         Arrays.fill(scratch, 0, maxWritten, (byte) 0x00);
+      }
+   }
+   
+   /**
+    * Passes the big-endian representation of a slice of an array of chars to
+    * the given digest.  The values are encoded into the given scratch array
+    * one chunk at a time, so no copy of the entire slice is made.  The scratch
+    * array is wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @param  scratch
+    *         array into which each chunk is encoded.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, char[] input, int offset,
+         int length, byte[] scratch) throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      CharBuffer view = ByteBuffer.wrap(scratch).asCharBuffer();
+      int maxWritten = 0;
+      try {
+         int end = offset + length;
+         while (offset < end) {
+            int count = Math.min(view.capacity(), end - offset);
+            view.clear();
+            view.put(input, offset, count);
+            msgDigest.update(scratch, 0, count * CHAR_BYTES_SIZE);
+            maxWritten = Math.max(maxWritten, count * CHAR_BYTES_SIZE);
+            offset += count;
+         }
+      } finally {
+         Arrays.fill(scratch, 0, maxWritten, (byte) 0x00);
+      }
+   }
+   
+   /**
+    * Writes the given byte into the re-usable byte array for the
+    * {@link DataType#BYTE} type.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return reference to the re-usable byte array containing the input.
+    */
+   private byte[] getInputBytes(byte input) {
+      byte[] byteArray = getByteArray(DataType.BYTE, 1);
+      byteArray[0] = input;
+      return byteArray;
+   }
+
+   /**
+    * Writes the big-endian representation of the given char into the
+    * re-usable byte array for the {@link DataType#CHARACTER} type.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return reference to the re-usable byte array containing the input.
+    */
+   private byte[] getInputBytes(char input) {
+      ByteBuffer byteBuffer = getByteBuffer(DataType.CHARACTER, CHAR_BYTES_SIZE);
+      byteBuffer.putChar(input);
+      byteBuffer.rewind();
+      
+      byte[] byteArray = getByteArray(DataType.CHARACTER, CHAR_BYTES_SIZE);
+      byteBuffer.get(byteArray);
+      return byteArray;
+   }
+
+   /**
+    * Writes the big-endian representation of the given short into the
+    * re-usable byte array for the {@link DataType#SHORT} type.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return reference to the re-usable byte array containing the input.
+    */
+   private byte[] getInputBytes(short input) {
+      ByteBuffer byteBuffer = getByteBuffer(DataType.SHORT, SHORT_BYTES_SIZE);
+      byteBuffer.putShort(input);
+      byteBuffer.rewind();
+      
+      byte[] byteArray = getByteArray(DataType.SHORT, SHORT_BYTES_SIZE);
+      byteBuffer.get(byteArray);
+      return byteArray;
+   }
+
+   /**
+    * Writes the big-endian representation of the given int into the
+    * re-usable byte array for the {@link DataType#INTEGER} type.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return reference to the re-usable byte array containing the input.
+    */
+   private byte[] getInputBytes(int input) {
+      ByteBuffer byteBuffer = getByteBuffer(DataType.INTEGER, INTEGER_BYTES_SIZE);
+      byteBuffer.putInt(input);
+      byteBuffer.rewind();
+      
+      byte[] byteArray = getByteArray(DataType.INTEGER, INTEGER_BYTES_SIZE);
+      byteBuffer.get(byteArray);
+      return byteArray;
+   }
+
+   /**
+    * Writes the big-endian representation of the given long into the
+    * re-usable byte array for the {@link DataType#LONG} type.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return reference to the re-usable byte array containing the input.
+    */
+   private byte[] getInputBytes(long input) {
+      ByteBuffer byteBuffer = getByteBuffer(DataType.LONG, LONG_BYTES_SIZE);
+      byteBuffer.putLong(input);
+      byteBuffer.rewind();
+      
+      byte[] byteArray = getByteArray(DataType.LONG, LONG_BYTES_SIZE);
+      byteBuffer.get(byteArray);
+      return byteArray;
+   }
+
+   /**
+    * Writes the big-endian representation of the given float into the
+    * re-usable byte array for the {@link DataType#FLOAT} type.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return reference to the re-usable byte array containing the input.
+    */
+   private byte[] getInputBytes(float input) {
+      ByteBuffer byteBuffer = getByteBuffer(DataType.FLOAT, FLOAT_BYTES_SIZE);
+      byteBuffer.putFloat(input);
+      byteBuffer.rewind();
+      
+      byte[] byteArray = getByteArray(DataType.FLOAT, FLOAT_BYTES_SIZE);
+      byteBuffer.get(byteArray);
+      return byteArray;
+   }
+
+   /**
+    * Writes the big-endian representation of the given double into the
+    * re-usable byte array for the {@link DataType#DOUBLE} type.
+    * 
+    * @param  input
+    *         value to be converted.
+    * @return reference to the re-usable byte array containing the input.
+    */
+   private byte[] getInputBytes(double input) {
+      ByteBuffer byteBuffer = getByteBuffer(DataType.DOUBLE, DOUBLE_BYTES_SIZE);
+      byteBuffer.putDouble(input);
+      byteBuffer.rewind();
+      
+      byte[] byteArray = getByteArray(DataType.DOUBLE, DOUBLE_BYTES_SIZE);
+      byteBuffer.get(byteArray);
+      return byteArray;
+   }
+
+   /**
+    * Returns the instance's re-usable stream buffer, allocating it if this
+    * is the first call.
+    * 
+    * @return a cleared ByteBuffer of {@link #STREAM_BUFFER_SIZE} bytes.
+    */
+   private ByteBuffer getStreamBuffer() {
+      if (null == streamBuffer) {
+         streamBuffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+      }
+      streamBuffer.clear();
+      return streamBuffer;
+   }
+   
+   /**
+    * Returns the instance's re-usable char buffer, allocating it if this is
+    * the first call.
+    * 
+    * @return a cleared CharBuffer of {@link #CHAR_CHUNK_SIZE} chars.
+    */
+   private CharBuffer getCharBuffer() {
+      if (null == charBuffer) {
+         charBuffer = CharBuffer.allocate(CHAR_CHUNK_SIZE);
+      }
+      charBuffer.clear();
+      return charBuffer;
+   }
+   
+   /**
+    * Returns an encoder for the given charset, re-using the instance's
+    * encoder when it was created for the same charset.
+    * 
+    * @param  charset
+    *         charset for which an encoder is required.
+    * @return encoder for <code>charset</code>.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null.
+    */
+   private CharsetEncoder getEncoder(Charset charset)
+      throws IllegalArgumentException
+   {
+      if (null == charset) {
+         throw new IllegalArgumentException(NULL_CHARSET_ERR);
+      }
+      if (null == encoder || !encoder.charset().equals(charset)) {
+         encoder = newEncoder(charset);
+      }
+      return encoder;
+   }
+   
+   /**
+    * Returns the calling thread's cached encoder for the given charset,
+    * creating and caching it if this is the first request for that charset
+    * on this thread.
+    * 
+    * @param  charset
+    *         charset for which an encoder is required.
+    * @return encoder for <code>charset</code>.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null.
+    */
+   private static CharsetEncoder getThreadLocalEncoder(Charset charset)
+      throws IllegalArgumentException
+   {
+      if (null == charset) {
+         throw new IllegalArgumentException(NULL_CHARSET_ERR);
+      }
+      Map<Charset, CharsetEncoder> encoders = THREAD_LOCAL_ENCODERS.get();
+      CharsetEncoder retVal = encoders.get(charset);
+      if (null == retVal) {
+         retVal = newEncoder(charset);
+         encoders.put(charset, retVal);
+      }
+      return retVal;
+   }
+   
+   /**
+    * Creates an encoder that replaces malformed and unmappable characters,
+    * as {@link java.lang.String#getBytes(java.nio.charset.Charset)} does.
+    * 
+    * @param  charset
+    *         charset for which an encoder is required.
+    * @return a new encoder for <code>charset</code>.
+    */
+   static CharsetEncoder newEncoder(Charset charset) {
+      return charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+   }
+   
+   /**
+    * Encodes the given characters with the given encoder, one chunk at a
+    * time, passing the encoded bytes to the given digest.  Both buffers are
+    * wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         characters to be hashed.
+    * @param  encoder
+    *         encoder for the charset of the hash.
+    * @param  chars
+    *         heap buffer into which each chunk of characters is copied.
+    * @param  bytes
+    *         heap buffer into which each chunk of characters is encoded.
+    */
+   static void updateDigest(MessageDigest msgDigest, CharSequence input,
+         CharsetEncoder encoder, CharBuffer chars, ByteBuffer bytes)
+   {
+      encoder.reset();
+      chars.clear();
+      bytes.clear();
+      int maxRead    = 0;
+      int maxWritten = 0;
+      try {
+         int length = input.length();
+         int next   = 0;
+         while (true) {
+            // Any chars left in the buffer are the first half of a surrogate
+            // pair that straddles the end of the previous chunk.
+            int count = Math.min(chars.remaining(), length - next);
+            copyChars(input, next, count, chars.array(), chars.position());
+            chars.position(chars.position() + count);
+            next += count;
+            chars.flip();
+            maxRead = Math.max(maxRead, chars.limit());
+            
+            boolean endOfInput = (next == length);
+            while (encoder.encode(chars, bytes, endOfInput).isOverflow()) {
+               maxWritten = Math.max(maxWritten, flushBytes(msgDigest, bytes));
+            }
+            if (endOfInput) {
+               break;
+            }
+            chars.compact();
+         }
+         while (encoder.flush(bytes).isOverflow()) {
+            maxWritten = Math.max(maxWritten, flushBytes(msgDigest, bytes));
+         }
+         maxWritten = Math.max(maxWritten, flushBytes(msgDigest, bytes));
+      } finally {
+         Arrays.fill(chars.array(), 0, maxRead, (char) 0);
+         Arrays.fill(bytes.array(), 0, Math.max(maxWritten, bytes.position()),
+               (byte) 0x00);
+         chars.clear();
+         bytes.clear();
+      }
+   }
+   
+   /**
+    * Passes the bytes written to the given heap buffer to the digest and
+    * clears the buffer.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  bytes
+    *         buffer containing the bytes to be passed to the digest.
+    * @return the number of bytes passed to the digest.
+    */
+   private static int flushBytes(MessageDigest msgDigest, ByteBuffer bytes) {
+      int count = bytes.position();
+      msgDigest.update(bytes.array(), 0, count);
+      bytes.clear();
+      return count;
+   }
+   
+   /**
+    * Copies a range of a CharSequence into a char array, using a bulk copy
+    * for the common implementations.
+    * 
+    * @param  input
+    *         source of the chars.
+    * @param  from
+    *         index in <code>input</code> of the first char to be copied.
+    * @param  count
+    *         number of chars to be copied.
+    * @param  dest
+    *         array into which the chars are copied.
+    * @param  destPos
+    *         index in <code>dest</code> at which to start writing.
+    */
+   private static void copyChars(CharSequence input, int from, int count,
+         char[] dest, int destPos)
+   {
+      if (input instanceof String) {
+         ((String) input).getChars(from, from + count, dest, destPos);
+      } else if (input instanceof StringBuilder) {
+         ((StringBuilder) input).getChars(from, from + count, dest, destPos);
+      } else if (input instanceof StringBuffer) {
+         ((StringBuffer) input).getChars(from, from + count, dest, destPos);
+      } else if (input instanceof CharBuffer && ((CharBuffer) input).hasArray()) {
+         CharBuffer buffer = (CharBuffer) input;
+         System.arraycopy(buffer.array(),
+               buffer.arrayOffset() + buffer.position() + from, dest, destPos, count);
+      } else {
+         for (int i = 0; i < count; i++) {
+            dest[destPos + i] = input.charAt(from + i);
+         }
+      }
+   }
+   
+   /**
+    * Passes the remaining bytes of the given buffer to the given digest,
+    * then either leaves the buffer's position at its limit or restores it.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         buffer to be hashed.
+    * @param  preservePosition
+    *         <code>true</code> to restore the buffer's original position.
+    */
+   static void updateDigest(MessageDigest msgDigest, ByteBuffer input,
+         boolean preservePosition)
+   {
+      int position = input.position();
+      msgDigest.update(input);
+      if (preservePosition) {
+         input.position(position);
+      }
+   }
+   
+   /**
+    * Passes the remaining bytes of a range of the given buffers to the given
+    * digest, in order.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array of buffers to be hashed.
+    * @param  offset
+    *         index of the first buffer to be hashed.
+    * @param  length
+    *         number of buffers to be hashed.
+    * @param  preservePositions
+    *         <code>true</code> to restore the original position of each
+    *         buffer.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    */
+   static void updateDigest(MessageDigest msgDigest, ByteBuffer[] input,
+         int offset, int length, boolean preservePositions)
+      throws IllegalArgumentException
+   {
+      checkInputBounds(input.length, offset, length);
+      for (int i = offset; i < offset + length; i++) {
+         updateDigest(msgDigest, input[i], preservePositions);
+      }
+   }
+   
+   /**
+    * Passes a range of the given byte arrays to the given digest, in order.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first byte array to be hashed.
+    * @param  length
+    *         number of byte arrays to be hashed.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
     */
-   public static String createHash(String input,
-         String encoding, HashAlgorithm hashAlgorithm)
-         throws UnsupportedEncodingException, IllegalArgumentException,
-         NoSuchAlgorithmException
+   static void updateDigest(MessageDigest msgDigest, byte[][] input,
+         int offset, int length) throws IllegalArgumentException
    {
-      checkHashAlgoInput(hashAlgorithm);
-
-      // Generate a byte array from the input String.
-      byte[] byteArray = input.getBytes(encoding);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
-      clearByteArray(byteArray);
-      return retVal;
+      checkInputBounds(input.length, offset, length);
+      for (int i = offset; i < offset + length; i++) {
+         msgDigest.update(input[i]);
+      }
    }
-
+   
    /**
-    * Generates a hexadecimal hash of a double and/or its wrapper class.
+    * Passes the remaining bytes of each of the given buffers to the given
+    * digest, in order.
     * 
+    * @param  msgDigest
+    *         digest to be updated.
     * @param  input
-    *         String to be hashed.
-    * @param  encoding
-    *         valid {@link java.nio.charset.Charset} to be used when
-    *         generating byte array from the
-    *         {@link java.lang.String#getBytes(String)} method.
-    * @return hexadecimal hash of the input data.
-    * @throws UnsupportedEncodingException
-    *         if the encoding <code>String</code> argument is not a valid
-    *         encoding.
-    * @throws IllegalStateException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
-    * @throws NoSuchAlgorithmException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
+    *         list of buffers to be hashed.
+    * @param  preservePositions
+    *         <code>true</code> to restore the original position of each
+    *         buffer.
     */
-   public String createHash(String input, String encoding)
-         throws UnsupportedEncodingException, IllegalStateException,
-         NoSuchAlgorithmException
+   static void updateDigest(MessageDigest msgDigest, List<ByteBuffer> input,
+         boolean preservePositions)
    {
-      checkHashAlgoField();
-      if (null == encoding || encoding.isEmpty()) {
-         throw new IllegalArgumentException(EMPTY_OR_NULL_ENCODING_ERR);
+      for (ByteBuffer segment : input) {
+         updateDigest(msgDigest, segment, preservePositions);
       }
-
-      // Generate a byte array from the input String.
-      byte[] byteArray = input.getBytes(encoding);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(byteArray);
-      return retVal;
    }
    
-   /** -- Character Arrays ------------------------------------------------- */
+   /**
+    * Reads the given InputStream until the end of the stream, passing all of
+    * the bytes read to the given digest.  Any data left in the buffer is
+    * wiped before returning.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  input
+    *         stream to be read.
+    * @param  buffer
+    *         buffer through which the stream is read.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    */
+   static void updateDigest(MessageDigest msgDigest, InputStream input,
+         byte[] buffer) throws IOException
+   {
+      int maxRead = 0;
+      try {
+         int numRead = 0;
+         while ((numRead = input.read(buffer, 0, buffer.length)) != -1) {
+            msgDigest.update(buffer, 0, numRead);
+            maxRead = Math.max(maxRead, numRead);
+         }
+      } finally {
+         Arrays.fill(buffer, 0, maxRead, (byte) 0x00);
+      }
+   }
    
    /**
-    * Generates a hexadecimal hash of a character array.
+    * Reads the given ReadableByteChannel until the end of the channel,
+    * passing all of the bytes read to the given digest.  Any data left in the
+    * buffer is wiped before returning.
     * 
+    * @param  msgDigest
+    *         digest to be updated.
     * @param  input
-    *         char[] to be hashed
-    * @param  hashAlgorithm
-    *         {@link HashAlgorithm} to be used to generate the hash.
-    * @return hexadecimal hash of the input data.
-    * @throws IllegalArgumentException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
-    * @throws NoSuchAlgorithmException
-    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    *         channel to be read.
+    * @param  buffer
+    *         heap buffer through which the channel is read.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
     */
-   public static String createHash(char[] input, HashAlgorithm hashAlgorithm)
-      throws IllegalArgumentException, NoSuchAlgorithmException
+   static void updateDigest(MessageDigest msgDigest,
+         ReadableByteChannel input, ByteBuffer buffer) throws IOException
    {
-      checkHashAlgoInput(hashAlgorithm);
-      
-      // Calculate the length of the required ByteBuffer
-      int elementLength = input.length * CHAR_BYTES_SIZE;
-      ByteBuffer byteBuffer = ByteBuffer.allocate(elementLength);
-      
-      // For each char in the input array, add it's bytes to the buffer
-      for (int i = 0; i < input.length; i++) {
-         byteBuffer.putChar(input[i]);
+      buffer.clear();
+      int maxRead = 0;
+      try {
+         while (input.read(buffer) != -1) {
+            buffer.flip();
+            maxRead = Math.max(maxRead, buffer.limit());
+            msgDigest.update(buffer);
+            buffer.clear();
+         }
+      } finally {
+         Arrays.fill(buffer.array(), 0, maxRead, (byte) 0x00);
+         buffer.clear();
       }
-      
-      byteBuffer.rewind();
-
-      byte[] byteArray = new byte[elementLength];
-      byteBuffer.get(byteArray);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray, hashAlgorithm));
-      clearByteArray(byteArray);
-      return retVal;
    }
    
    /**
-    * Generates a hexadecimal hash of a character array.
+    * Passes the contents of the given file to the given digest, mapping
+    * regular files in windows of at most <code>windowSize</code> bytes and
+    * reading all other files through the given buffer.
     * 
+    * @param  msgDigest
+    *         digest to be updated.
     * @param  input
-    *         char[] to be hashed
-    * @return hexadecimal hash of the input data.
-    * @throws IllegalStateException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
-    * @throws NoSuchAlgorithmException
-    *         if the <code>HashGenerator</code> instance has not yet been
-    *         configured with a valid {@link HashAlgorithm} enum.
+    *         path of the file to be read.
+    * @param  windowSize
+    *         maximum number of bytes mapped at one time.
+    * @param  buffer
+    *         heap buffer through which files that cannot be mapped are read.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
     */
-   public String createHash(char[] input)
-         throws IllegalStateException, NoSuchAlgorithmException
+   static void updateDigest(MessageDigest msgDigest, Path input,
+         int windowSize, ByteBuffer buffer) throws IOException
    {
-      checkHashAlgoField();
-
-      // Calculate the length of the required ByteBuffer
-      int elementLength = input.length * CHAR_BYTES_SIZE;
-      
-      // We cannot reuse any existing array as each call to this
-      // method can pass in a different sized array.  We could always
-      // extend the class and add a method that takes a size argument
-      // but that can wait for future development as needed.
-      ByteBuffer byteBuffer = ByteBuffer.allocate(elementLength);
-      
-      // For each char in the input array, add it's bytes to the buffer
-      for (int i = 0; i < input.length; i++) {
-         byteBuffer.putChar(input[i]);
+      try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+         long size = channel.size();
+         if (!Files.isRegularFile(input) || 0 == size) {
+            updateDigest(msgDigest, channel, buffer);
+            return;
+         }
+         
+         long position = 0;
+         while (position < size) {
+            long windowLength = Math.min(windowSize, size - position);
+            MappedByteBuffer window =
+                  channel.map(FileChannel.MapMode.READ_ONLY, position, windowLength);
+            msgDigest.update(window);
+            position += windowLength;
+         }
       }
-      
-      byteBuffer.rewind();
-      
-      // We will not be re-using the byte[] for the same reason that we are not
-      // re-using the ByteBuffer instance above.
-      byte[] byteArray = new byte[elementLength];
-      byteBuffer.get(byteArray);
-      
-      String retVal = bytesToHex(computeHashBytes(byteArray));
-      clearByteArray(byteArray);
-      return retVal;
    }
    
-   /** -- Utility Methods -------------------------------------------------- */
+   /**
+    * Validates a memory-mapping window size.
+    * 
+    * @param  windowSize
+    *         window size to be validated.
+    * @throws IllegalArgumentException
+    *         if windowSize is not a positive number.
+    */
+   private static void checkWindowSize(int windowSize)
+      throws IllegalArgumentException
+   {
+      if (windowSize <= 0) {
+         throw new IllegalArgumentException("windowSize must be a positive number");
+      }
+   }
    
    /**
     * Returns a reference to a ByteBuffer instance stored in the
@@ -912,6 +6396,25 @@ public class HashGenerator {
       return byteArray;
    }
       
+   /**
+    * Returns the instance's {@link java.security.MessageDigest}, ready to
+    * accept input, instantiating it if this is the first call since the
+    * {@link HashAlgorithm} was set.
+    * 
+    * @return the instance's {@link java.security.MessageDigest}.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   private MessageDigest getMessageDigest() throws NoSuchAlgorithmException {
+      if (null == md) {
+         md = hashAlgo.newMessageDigest();
+      } else {
+         md.reset();
+      }
+      return md;
+   }
+   
    /**
     * Computes the hashed bytes for the byte array representation of the input
     * data.  Enables the usage of an existing instance of a
@@ -927,13 +6430,55 @@ public class HashGenerator {
     *         configured with a valid {@link HashAlgorithm} enum.
     */
    private byte[] computeHashBytes(byte[] inputBytes) throws NoSuchAlgorithmException {
-      if (null == md) {
-         md = MessageDigest.getInstance(hashAlgo.getAlgo());
-      } else {
-         md.reset();
-      }
-      md.update(inputBytes);
-      return md.digest();
+      MessageDigest msgDigest = getMessageDigest();
+      msgDigest.update(inputBytes);
+      return msgDigest.digest();
+   }
+   
+   /**
+    * Computes the hashed bytes for the byte array representation of the input
+    * data with the instance's {@link java.security.MessageDigest} and writes
+    * them into the given array.
+    * 
+    * @param  inputBytes
+    *         byte array of the data to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   private int computeHashBytes(byte[] inputBytes, byte[] output, int offset)
+      throws NoSuchAlgorithmException
+   {
+      MessageDigest msgDigest = getMessageDigest();
+      msgDigest.update(inputBytes);
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Computes the hashed bytes for the byte array representation of the input
+    * data with the instance's {@link java.security.MessageDigest} and writes
+    * them into the given buffer.
+    * 
+    * @param  inputBytes
+    *         byte array of the data to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written.
+    * @throws NoSuchAlgorithmException
+    *         if the <code>HashGenerator</code> instance has not yet been
+    *         configured with a valid {@link HashAlgorithm} enum.
+    */
+   private int computeHashBytes(byte[] inputBytes, ByteBuffer output)
+      throws NoSuchAlgorithmException
+   {
+      MessageDigest msgDigest = getMessageDigest();
+      msgDigest.update(inputBytes);
+      return digestInto(msgDigest, output);
    }
    
    /**
@@ -951,14 +6496,238 @@ public class HashGenerator {
    private static byte[] computeHashBytes(byte[] inputBytes, HashAlgorithm hashAlgorithm)
       throws NoSuchAlgorithmException
    {
-      // Instantiate a MessageDigest instance configured with the desired
-      // algorithm.
-      MessageDigest msgDigest = MessageDigest.getInstance(hashAlgorithm.getAlgo());
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
       return msgDigest.digest(inputBytes);
    }
+
+   /**
+    * Computes the hashed bytes for the byte array representation of the input
+    * data and writes them into the given array.
+    * 
+    * @param  inputBytes
+    *         byte array of the data to be hashed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @param  hashAlgorithm
+    *         algorithm to be used to calculate the hash.
+    * @return the number of digest bytes written.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   private static int computeHashBytes(byte[] inputBytes, byte[] output,
+         int offset, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException
+   {
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      msgDigest.update(inputBytes);
+      return digestInto(msgDigest, output, offset);
+   }
+   
+   /**
+    * Computes the hashed bytes for the byte array representation of the input
+    * data and writes them into the given buffer.
+    * 
+    * @param  inputBytes
+    *         byte array of the data to be hashed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @param  hashAlgorithm
+    *         algorithm to be used to calculate the hash.
+    * @return the number of digest bytes written.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   private static int computeHashBytes(byte[] inputBytes, ByteBuffer output,
+         HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException
+   {
+      MessageDigest msgDigest = getThreadLocalDigest(hashAlgorithm);
+      msgDigest.update(inputBytes);
+      return digestInto(msgDigest, output);
+   }
+   
+   /**
+    * Completes the digest computation of the given
+    * {@link java.security.MessageDigest}, writing the result directly into
+    * the given array without allocating an intermediate array.
+    * 
+    * @param  msgDigest
+    *         digest, already updated with the input data, to be completed.
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    */
+   static int digestInto(MessageDigest msgDigest, byte[] output, int offset)
+      throws IllegalArgumentException
+   {
+      int digestLength = msgDigest.getDigestLength();
+      if (0 == digestLength) {
+         // The provider does not report its digest length up front, so we
+         // have no choice but to let it allocate the result.
+         byte[] hashBytes = msgDigest.digest();
+         checkOutputBounds(output, offset, hashBytes.length);
+         System.arraycopy(hashBytes, 0, output, offset, hashBytes.length);
+         return hashBytes.length;
+      }
+      
+      checkOutputBounds(output, offset, digestLength);
+      try {
+         return msgDigest.digest(output, offset, digestLength);
+      } catch (DigestException e) {
+         throw new IllegalArgumentException(OUTPUT_TOO_SMALL_ERR, e);
+      }
+   }
+   
+   /**
+    * Completes the digest computation of the given
+    * {@link java.security.MessageDigest}, writing the result into the given
+    * buffer at its current position and advancing the position by the number
+    * of bytes written.
+    * 
+    * @param  msgDigest
+    *         digest, already updated with the input data, to be completed.
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    */
+   static int digestInto(MessageDigest msgDigest, ByteBuffer output)
+      throws IllegalArgumentException
+   {
+      if (null == output) {
+         throw new IllegalArgumentException(NULL_OUTPUT_ERR);
+      }
+      
+      int retVal       = 0;
+      int digestLength = msgDigest.getDigestLength();
+      if (output.hasArray() && digestLength > 0) {
+         // Write straight into the backing array of heap buffers.
+         int position = output.position();
+         if (output.remaining() < digestLength) {
+            throw new IllegalArgumentException(OUTPUT_TOO_SMALL_ERR);
+         }
+         retVal = digestInto(msgDigest, output.array(),
+               output.arrayOffset() + position);
+         output.position(position + retVal);
+      } else {
+         byte[] hashBytes = msgDigest.digest();
+         if (output.remaining() < hashBytes.length) {
+            throw new IllegalArgumentException(OUTPUT_TOO_SMALL_ERR);
+         }
+         output.put(hashBytes);
+         retVal = hashBytes.length;
+      }
+      return retVal;
+   }
+   
+   /**
+    * Validates that the given array has room for <code>length</code> bytes
+    * starting at <code>offset</code>.
+    * 
+    * @param  output
+    *         array to be validated.
+    * @param  offset
+    *         index in <code>output</code> at which writing will start.
+    * @param  length
+    *         number of bytes that will be written.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> is null or does not have room for
+    *         <code>length</code> bytes at <code>offset</code>.
+    */
+   private static void checkOutputBounds(byte[] output, int offset, int length)
+      throws IllegalArgumentException
+   {
+      if (null == output) {
+         throw new IllegalArgumentException(NULL_OUTPUT_ERR);
+      }
+      if (offset < 0 || output.length - offset < length) {
+         throw new IllegalArgumentException(OUTPUT_TOO_SMALL_ERR);
+      }
+   }
+
+   /**
+    * Validates that a slice described by an offset and a length falls within
+    * an array of the given length.
+    * 
+    * @param  arrayLength
+    *         length of the array.
+    * @param  offset
+    *         index of the first element of the slice.
+    * @param  length
+    *         number of elements in the slice.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   private static void checkInputBounds(int arrayLength, int offset, int length)
+      throws IllegalArgumentException
+   {
+      if (offset < 0 || length < 0 || offset > arrayLength - length) {
+         throw new IllegalArgumentException(INPUT_OUT_OF_BOUNDS_ERR);
+      }
+   }
+
+   /**
+    * Returns the calling thread's cached {@link java.security.MessageDigest}
+    * instance for the given algorithm, instantiating and caching it if this
+    * is the first request for that algorithm on this thread.  The returned
+    * instance has been reset and is ready to accept input.
+    * <p>
+    * The instance must not escape the calling thread, and must not be held
+    * across calls that may themselves request the same digest.
+    *
+    * @param  hashAlgorithm
+    *         algorithm for which to return a digest.
+    * @return this thread's {@link java.security.MessageDigest} instance for
+    *         the given algorithm.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   static MessageDigest getThreadLocalDigest(HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException
+   {
+      Map<HashAlgorithm, MessageDigest> digests = THREAD_LOCAL_DIGESTS.get();
+      MessageDigest msgDigest = digests.get(hashAlgorithm);
+      if (null == msgDigest) {
+         msgDigest = hashAlgorithm.newMessageDigest();
+         digests.put(hashAlgorithm, msgDigest);
+      } else {
+         // A previous call may have failed part way through an update, so
+         // always start from a clean state.
+         msgDigest.reset();
+      }
+      return msgDigest;
+   }
+
+   /**
+    * Releases all of the state cached for the calling thread by the static
+    * <code>createHash</code> methods.
+    * <p>
+    * Subsequent static calls from the same thread will transparently
+    * re-create whatever state they need.  Intended to be called by pooled
+    * threads, for example at the end of a task, so that long lived thread
+    * pools do not retain the cached instances.
+    */
+   public static void releaseThreadLocalState() {
+      THREAD_LOCAL_DIGESTS.remove();
+      THREAD_LOCAL_STREAM_BUFFER.remove();
+      THREAD_LOCAL_CHAR_BUFFER.remove();
+      THREAD_LOCAL_ENCODERS.remove();
+   }
    
    /**
     * Generates a hexadecimal String representation of the hashed bytes.
+    * <p>
+    * See {@link HexEncoder} for overloads that write the hexadecimal
+    * characters into a caller supplied <code>char[]</code>,
+    * <code>byte[]</code>, {@link java.lang.StringBuilder} or
+    * {@link java.lang.Appendable}.
     *
     * @param  hashBytes
     *         byte[] output from the
@@ -966,24 +6735,7 @@ public class HashGenerator {
     * @return hexadecimal representation of the hashed bytes.
     */
    public static String bytesToHex(byte[] hashBytes) {
-      
-      // Convert the hashBytes to a String of hex values
-      StringBuilder retVal   = new StringBuilder();
-      StringBuilder hexValue = new StringBuilder();
-      
-      for (byte hashByte : hashBytes) {
-         // Flush our StringBuilder to be used as a container for the
-         // hex value for each byte as it is read.
-         hexValue.delete(0, hexValue.length());
-         hexValue.append(Integer.toHexString(0xFF & hashByte));
-         
-         // Add a trailing '0' if our hexValue is only 1 char long
-         if (hexValue.length() == 1) {
-            hexValue.insert(0, '0');
-         }
-         retVal.append(hexValue);
-      }
-      return retVal.toString();
+      return HexEncoder.encode(hashBytes);
    }
    
    /**
@@ -1036,21 +6788,72 @@ public class HashGenerator {
     * @since  1.0.0
     */
    public static enum HashAlgorithm {
-      MD2SUM("MD2"),
-      MD5SUM("MD5"),
-      SHA1SUM("SHA-1"),
-      SHA256SUM("SHA-256"),
-      SHA384SUM("SHA-384"),
-      SHA512SUM("SHA-512");
+      MD2SUM("MD2", 16),
+      MD5SUM("MD5", 64),
+      SHA1SUM("SHA-1", 64),
+      SHA256SUM("SHA-256", 64),
+      SHA384SUM("SHA-384", 128),
+      SHA512SUM("SHA-512", 128),
+      
+      /**
+       * BLAKE3, computed by the pure Java {@link Blake3} implementation
+       * rather than by a {@link java.security.Provider}.
+       * 
+       * @since 1.2.0
+       */
+      BLAKE3(Blake3.ALGORITHM, 64);
       
       private String algo;
       
+      private int blockSize;
+      
       public String getAlgo() {
          return algo;
       }
       
-      private HashAlgorithm(String algo) {
-         this.algo = algo;
+      /**
+       * Get the size, in bytes, of the blocks processed by this algorithm's
+       * compression function, as used to pad HMAC keys.
+       * 
+       * @return the block size in bytes.
+       * @since  1.2.0
+       */
+      public int getBlockSize() {
+         return blockSize;
+      }
+
+      /**
+       * Instantiates a new {@link java.security.MessageDigest} for this
+       * algorithm, from the first of the
+       * {@link DigestProviders#setPreferredProviders(String...) preferred
+       * providers} that supports it, or else from the JVM's default
+       * providers.
+       *
+       * @return a new {@link java.security.MessageDigest} instance.
+       * @throws NoSuchAlgorithmException
+       *         if no provider supports this algorithm.
+       */
+      public MessageDigest newMessageDigest() throws NoSuchAlgorithmException {
+         if (BLAKE3 == this) {
+            return new Blake3();
+         }
+         return DigestProviders.newMessageDigest(algo);
+      }
+
+      /**
+       * Creates a new incremental hashing session for this algorithm.
+       *
+       * @return a new {@link Hasher} instance.
+       * @throws NoSuchAlgorithmException
+       *         if no provider supports this algorithm.
+       */
+      public Hasher newHasher() throws NoSuchAlgorithmException {
+         return new Hasher(this, newMessageDigest());
+      }
+      
+      private HashAlgorithm(String algo, int blockSize) {
+         this.algo      = algo;
+         this.blockSize = blockSize;
       }
    }
 }
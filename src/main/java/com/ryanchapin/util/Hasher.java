@@ -0,0 +1,876 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.security.MessageDigest;
+import java.util.List;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * A <code>Hasher</code> is an incremental hashing session that computes a
+ * single digest over any number of values passed to its overloaded
+ * <code>update</code> methods.
+ * <p>
+ * Each value is encoded exactly as it is by the corresponding
+ * {@link HashGenerator} <code>createHash</code> method, so hashing a single
+ * value with a <code>Hasher</code> produces the same hash as
+ * <code>createHash</code>, and hashing several values produces the same hash
+ * as <code>createHash</code> over their concatenation.  For example:
+ *    <blockquote><pre>
+ *    Hasher hasher = HashAlgorithm.SHA256SUM.newHasher();
+ *    String hash = hasher.update(recordId).update(name, "UTF-8").finish();
+ * </pre></blockquote>
+ * <p>
+ * Once one of the <code>finish</code> methods has been called the session
+ * is reset and can be re-used to compute another digest.
+ * <p>
+ * Instances are obtained via {@link HashAlgorithm#newHasher()} or
+ * {@link HashGenerator#newHasher()}, and are <b>NOT</b> thread safe.
+ *
+ * @since   1.2.0
+ */
+public class Hasher {
+   
+   /**
+    * Size of the chunks in which arrays of multi-byte values are encoded
+    * before being passed to the digest.
+    */
+   private static final int CHUNK_BYTES_SIZE  = 512;
+   
+   private static final String EMPTY_OR_NULL_ENCODING_ERR =
+         "null or empty String passed as encoding argument";
+   
+   private static final String NULL_CHARSET_ERR =
+         "null passed as charset argument";
+   
+   /**
+    * Algorithm with which this session was created.
+    */
+   private final HashAlgorithm hashAlgo;
+   
+   /**
+    * {@link java.security.MessageDigest} into which all of the input for
+    * this session is accumulated.
+    */
+   private final MessageDigest md;
+   
+   /**
+    * Scratch buffer into which single primitive values are encoded, backed
+    * by an array large enough for the largest primitive.
+    */
+   private final ByteBuffer scratch;
+   
+   /**
+    * Scratch buffer into which arrays of multi-byte values are encoded in
+    * chunks.  Allocated the first time it is needed.
+    */
+   private ByteBuffer chunk;
+   
+   /**
+    * Buffer through which streams and channels are read.  Allocated the first
+    * time it is needed.
+    */
+   private ByteBuffer streamBuffer;
+   
+   /**
+    * Buffer into which CharSequences are copied, one chunk at a time, to be
+    * encoded.  Allocated the first time it is needed.
+    */
+   private CharBuffer charBuffer;
+   
+   /**
+    * Encoder for the charset most recently passed to
+    * {@link #update(Charset, CharSequence)}.
+    */
+   private CharsetEncoder encoder;
+   
+   // -------------------------------------------------------------------------
+   // Constructor:
+   //
+   
+   /**
+    * Creates a new session that accumulates its input into the given
+    * {@link java.security.MessageDigest}.
+    * 
+    * @param hashAlgo
+    *        algorithm of the digest.
+    * @param md
+    *        digest, in its initial state, owned by this session.
+    */
+   Hasher(HashAlgorithm hashAlgo, MessageDigest md) {
+      this.hashAlgo = hashAlgo;
+      this.md       = md;
+      this.scratch  = ByteBuffer.allocate(Long.SIZE/8);
+   }
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+   
+   /**
+    * Get the hash algorithm of this session.
+    * 
+    * @return  the hash algorithm of this session.
+    */
+   public HashAlgorithm getHashAlgo() {
+      return hashAlgo;
+   }
+   
+   /**
+    * Get the length, in bytes, of the digest produced by this session.
+    * 
+    * @return  the length of the digest in bytes.
+    */
+   public int getDigestLength() {
+      return md.getDigestLength();
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /** -- Scalars ---------------------------------------------------------- */
+   
+   /**
+    * Adds a byte to the data being hashed.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(byte input) {
+      md.update(input);
+      return this;
+   }
+   
+   /**
+    * Adds the big-endian representation of a char to the data being hashed.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(char input) {
+      scratch.clear();
+      scratch.putChar(input);
+      return updateScratch();
+   }
+   
+   /**
+    * Adds the big-endian representation of a short to the data being hashed.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(short input) {
+      scratch.clear();
+      scratch.putShort(input);
+      return updateScratch();
+   }
+   
+   /**
+    * Adds the big-endian representation of an int to the data being hashed.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(int input) {
+      scratch.clear();
+      scratch.putInt(input);
+      return updateScratch();
+   }
+   
+   /**
+    * Adds the big-endian representation of a long to the data being hashed.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(long input) {
+      scratch.clear();
+      scratch.putLong(input);
+      return updateScratch();
+   }
+   
+   /**
+    * Adds the big-endian IEEE 754 representation of a float to the data
+    * being hashed.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(float input) {
+      scratch.clear();
+      scratch.putFloat(input);
+      return updateScratch();
+   }
+   
+   /**
+    * Adds the big-endian IEEE 754 representation of a double to the data
+    * being hashed.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(double input) {
+      scratch.clear();
+      scratch.putDouble(input);
+      return updateScratch();
+   }
+   
+   /** -- Strings ---------------------------------------------------------- */
+   
+   /**
+    * Adds the bytes of a String, in the given encoding, to the data being
+    * hashed.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return this <code>Hasher</code>.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the encoding argument is null or empty.
+    */
+   public Hasher update(String input, String encoding)
+         throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      if (null == encoding || encoding.isEmpty()) {
+         throw new IllegalArgumentException(EMPTY_OR_NULL_ENCODING_ERR);
+      }
+      byte[] byteArray = input.getBytes(encoding);
+      md.update(byteArray);
+      clearByteArray(byteArray, byteArray.length);
+      return this;
+   }
+   
+   /**
+    * Adds the bytes of a CharSequence, in the given charset, to the data
+    * being hashed.
+    * <p>
+    * The characters are encoded in fixed size chunks, so no String or byte
+    * array copy of the entire input is made.  Malformed and unmappable
+    * characters are replaced, as by
+    * {@link java.lang.String#getBytes(java.nio.charset.Charset)}.
+    * 
+    * @param  charset
+    *         {@link java.nio.charset.Charset} in which to encode the input.
+    * @param  input
+    *         characters to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the charset argument is null.
+    */
+   public Hasher update(Charset charset, CharSequence input)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, getEncoder(charset), getCharBuffer(),
+            getStreamBuffer());
+      return this;
+   }
+   
+   /** -- Arrays ----------------------------------------------------------- */
+   
+   /**
+    * Adds all of the bytes in an array to the data being hashed.
+    * 
+    * @param  input
+    *         bytes to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(byte[] input) {
+      md.update(input);
+      return this;
+   }
+   
+   /**
+    * Adds a slice of a byte array to the data being hashed.
+    * 
+    * @param  input
+    *         array containing the bytes to be hashed.
+    * @param  offset
+    *         index of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   public Hasher update(byte[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length);
+      return this;
+   }
+   
+   /**
+    * Adds the big-endian representation of each char in an array to the
+    * data being hashed.
+    * 
+    * @param  input
+    *         chars to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(char[] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds the big-endian representation of each char in a slice of an array
+    * to the data being hashed.
+    * <p>
+    * The chars are encoded in fixed size chunks, so no copy of the entire
+    * slice is made.
+    * 
+    * @param  input
+    *         array containing the chars to be hashed.
+    * @param  offset
+    *         index of the first char to be hashed.
+    * @param  length
+    *         number of chars to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   public Hasher update(char[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length, getChunk().array());
+      return this;
+   }
+   
+   /**
+    * Adds the big-endian representation of each short in an array to the
+    * data being hashed.
+    * 
+    * @param  input
+    *         shorts to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(short[] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds the big-endian representation of each short in a slice of an array
+    * to the data being hashed.
+    * <p>
+    * The shorts are encoded in fixed size chunks, so no copy of the entire
+    * slice is made.
+    * 
+    * @param  input
+    *         array containing the shorts to be hashed.
+    * @param  offset
+    *         index of the first short to be hashed.
+    * @param  length
+    *         number of shorts to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   public Hasher update(short[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length, getChunk().array());
+      return this;
+   }
+   
+   /**
+    * Adds the big-endian representation of each int in an array to the
+    * data being hashed.
+    * 
+    * @param  input
+    *         ints to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(int[] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds the big-endian representation of each int in a slice of an array
+    * to the data being hashed.
+    * <p>
+    * The ints are encoded in fixed size chunks, so no copy of the entire
+    * slice is made.
+    * 
+    * @param  input
+    *         array containing the ints to be hashed.
+    * @param  offset
+    *         index of the first int to be hashed.
+    * @param  length
+    *         number of ints to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   public Hasher update(int[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length, getChunk().array());
+      return this;
+   }
+   
+   /**
+    * Adds the big-endian representation of each long in an array to the
+    * data being hashed.
+    * 
+    * @param  input
+    *         longs to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(long[] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds the big-endian representation of each long in a slice of an array
+    * to the data being hashed.
+    * <p>
+    * The longs are encoded in fixed size chunks, so no copy of the entire
+    * slice is made.
+    * 
+    * @param  input
+    *         array containing the longs to be hashed.
+    * @param  offset
+    *         index of the first long to be hashed.
+    * @param  length
+    *         number of longs to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   public Hasher update(long[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length, getChunk().array());
+      return this;
+   }
+   
+   /**
+    * Adds the big-endian IEEE 754 representation of each float in an array to the
+    * data being hashed.
+    * 
+    * @param  input
+    *         floats to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(float[] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds the big-endian IEEE 754 representation of each float in a slice of an array
+    * to the data being hashed.
+    * <p>
+    * The floats are encoded in fixed size chunks, so no copy of the entire
+    * slice is made.
+    * 
+    * @param  input
+    *         array containing the floats to be hashed.
+    * @param  offset
+    *         index of the first float to be hashed.
+    * @param  length
+    *         number of floats to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   public Hasher update(float[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length, getChunk().array());
+      return this;
+   }
+   
+   /**
+    * Adds the big-endian IEEE 754 representation of each double in an array to the
+    * data being hashed.
+    * 
+    * @param  input
+    *         doubles to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(double[] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds the big-endian IEEE 754 representation of each double in a slice of an array
+    * to the data being hashed.
+    * <p>
+    * The doubles are encoded in fixed size chunks, so no copy of the entire
+    * slice is made.
+    * 
+    * @param  input
+    *         array containing the doubles to be hashed.
+    * @param  offset
+    *         index of the first double to be hashed.
+    * @param  length
+    *         number of doubles to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the slice falls outside of the array.
+    */
+   public Hasher update(double[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length, getChunk().array());
+      return this;
+   }
+   
+   /** -- Buffers and Streams ---------------------------------------------- */
+   
+   /**
+    * Adds the remaining bytes of a ByteBuffer, from its position to its
+    * limit, to the data being hashed.  Upon return the buffer's position will
+    * be equal to its limit.
+    * 
+    * @param  input
+    *         buffer containing the bytes to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(ByteBuffer input) {
+      HashGenerator.updateDigest(md, input, false);
+      return this;
+   }
+   
+   /**
+    * Adds the remaining bytes of each buffer in an array, in order, to the
+    * data being hashed.  Upon return the position of each buffer will be
+    * equal to its limit.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(ByteBuffer[] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds the remaining bytes of each buffer in a range of an array, in
+    * order, to the data being hashed.  Upon return the position of each of
+    * those buffers will be equal to its limit.
+    * 
+    * @param  input
+    *         array of buffers whose remaining bytes are to be hashed.
+    * @param  offset
+    *         index of the first buffer to be hashed.
+    * @param  length
+    *         number of buffers to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    */
+   public Hasher update(ByteBuffer[] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length, false);
+      return this;
+   }
+   
+   /**
+    * Adds the remaining bytes of each buffer in a list, in order, to the
+    * data being hashed.  Upon return the position of each buffer will be
+    * equal to its limit.
+    * 
+    * @param  input
+    *         list of buffers whose remaining bytes are to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(List<ByteBuffer> input) {
+      HashGenerator.updateDigest(md, input, false);
+      return this;
+   }
+   
+   /**
+    * Adds all of the bytes in each array, in order, to the data being
+    * hashed.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @return this <code>Hasher</code>.
+    */
+   public Hasher update(byte[][] input) {
+      return update(input, 0, input.length);
+   }
+   
+   /**
+    * Adds all of the bytes in each of a range of arrays, in order, to the
+    * data being hashed.
+    * 
+    * @param  input
+    *         array of byte arrays to be hashed.
+    * @param  offset
+    *         index of the first byte array to be hashed.
+    * @param  length
+    *         number of byte arrays to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IllegalArgumentException
+    *         if the range falls outside of the array.
+    */
+   public Hasher update(byte[][] input, int offset, int length)
+         throws IllegalArgumentException
+   {
+      HashGenerator.updateDigest(md, input, offset, length);
+      return this;
+   }
+   
+   /**
+    * Adds all of the bytes read from an InputStream, until the end of the
+    * stream is reached, to the data being hashed.  The stream is read
+    * through a re-usable, fixed size buffer and is <b>not</b> closed.
+    * 
+    * @param  input
+    *         stream to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IOException
+    *         if an I/O error occurs while reading the stream.
+    */
+   public Hasher update(InputStream input) throws IOException {
+      HashGenerator.updateDigest(md, input, getStreamBuffer().array());
+      return this;
+   }
+   
+   /**
+    * Adds all of the bytes read from a ReadableByteChannel, until the end of
+    * the channel is reached, to the data being hashed.  The channel is read
+    * through a re-usable, fixed size buffer, must be in blocking mode, and is
+    * <b>not</b> closed.
+    * 
+    * @param  input
+    *         channel to be hashed.
+    * @return this <code>Hasher</code>.
+    * @throws IOException
+    *         if an I/O error occurs while reading the channel.
+    */
+   public Hasher update(ReadableByteChannel input) throws IOException {
+      HashGenerator.updateDigest(md, input, getStreamBuffer());
+      return this;
+   }
+   
+   /** -- Completion ------------------------------------------------------- */
+   
+   /**
+    * Completes the hash computation and returns the hexadecimal hash of all
+    * of the data passed to this session.  The session is then reset.
+    * 
+    * @return hexadecimal hash of the input data.
+    */
+   public String finish() {
+      byte[] hashBytes = finishBytes();
+      return HexEncoder.encode(hashBytes);
+   }
+   
+   /**
+    * Completes the hash computation and returns a {@link Digest} of all of
+    * the data passed to this session.  The session is then reset.
+    * 
+    * @return {@link Digest} of the input data.
+    */
+   public Digest finishDigest() {
+      return Digest.of(finishBytes());
+   }
+   
+   /**
+    * Completes the hash computation and returns the raw digest of all of the
+    * data passed to this session.  The session is then reset.
+    * 
+    * @return the digest bytes.
+    */
+   public byte[] finishBytes() {
+      wipeScratch();
+      return md.digest();
+   }
+   
+   /**
+    * Completes the hash computation and writes the raw digest into the given
+    * array, starting at <code>offset</code>.  The session is then reset.
+    * 
+    * @param  output
+    *         array into which the digest will be written.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of digest bytes written.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    */
+   public int finish(byte[] output, int offset) throws IllegalArgumentException {
+      wipeScratch();
+      return HashGenerator.digestInto(md, output, offset);
+   }
+   
+   /**
+    * Completes the hash computation and writes the raw digest into the given
+    * buffer at its current position, advancing the position by the number of
+    * bytes written.  The session is then reset.
+    * 
+    * @param  output
+    *         buffer into which the digest will be written.
+    * @return the number of digest bytes written.
+    * @throws IllegalArgumentException
+    *         if <code>output</code> does not have room for the digest.
+    */
+   public int finish(ByteBuffer output) throws IllegalArgumentException {
+      wipeScratch();
+      return HashGenerator.digestInto(md, output);
+   }
+   
+   /**
+    * Discards all of the data passed to this session so far.
+    */
+   public void reset() {
+      wipeScratch();
+      md.reset();
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Passes the bytes written to the {@link #scratch} buffer to the digest.
+    * 
+    * @return this <code>Hasher</code>.
+    */
+   private Hasher updateScratch() {
+      md.update(scratch.array(), 0, scratch.position());
+      return this;
+   }
+   
+   /**
+    * Returns the cleared {@link #chunk} buffer, allocating it if required.
+    * 
+    * @return the chunk buffer.
+    */
+   private ByteBuffer getChunk() {
+      if (null == chunk) {
+         chunk = ByteBuffer.allocate(CHUNK_BYTES_SIZE);
+      }
+      chunk.clear();
+      return chunk;
+   }
+   
+   /**
+    * Returns the cleared {@link #streamBuffer}, allocating it if required.
+    * 
+    * @return the stream buffer.
+    */
+   private ByteBuffer getStreamBuffer() {
+      if (null == streamBuffer) {
+         streamBuffer = ByteBuffer.allocate(HashGenerator.STREAM_BUFFER_SIZE);
+      }
+      streamBuffer.clear();
+      return streamBuffer;
+   }
+   
+   /**
+    * Returns the cleared {@link #charBuffer}, allocating it if required.
+    * 
+    * @return the char buffer.
+    */
+   private CharBuffer getCharBuffer() {
+      if (null == charBuffer) {
+         charBuffer = CharBuffer.allocate(HashGenerator.CHAR_CHUNK_SIZE);
+      }
+      charBuffer.clear();
+      return charBuffer;
+   }
+   
+   /**
+    * Returns an encoder for the given charset, re-using the last one if it
+    * was for the same charset.
+    * 
+    * @param  charset
+    *         charset for which an encoder is required.
+    * @return encoder for <code>charset</code>.
+    * @throws IllegalArgumentException
+    *         if <code>charset</code> is null.
+    */
+   private CharsetEncoder getEncoder(Charset charset) throws IllegalArgumentException {
+      if (null == charset) {
+         throw new IllegalArgumentException(NULL_CHARSET_ERR);
+      }
+      if (null == encoder || !encoder.charset().equals(charset)) {
+         encoder = HashGenerator.newEncoder(charset);
+      }
+      return encoder;
+   }
+   
+   /**
+    * Overwrites any input data left in the scratch buffers.
+    */
+   private void wipeScratch() {
+      clearByteArray(scratch.array(), scratch.capacity());
+   }
+   
+   /**
+    * Will set the first <code>length</code> bytes in the given byte array to
+    * 0x00.
+    * 
+    * @param  arr
+    *         byte array to 'reset'.
+    * @param  length
+    *         number of bytes to reset.
+    */
+   private static void clearByteArray(byte[] arr, int length) {
+      for (int i = 0; i < length; i++) {
+         arr[i] = 0x00;
+      }
+   }
+}
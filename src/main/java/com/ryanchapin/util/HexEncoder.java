@@ -0,0 +1,273 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.IOException;
+
+/**
+ * Table driven encoder that converts bytes to their lower-case hexadecimal
+ * representation.
+ * <p>
+ * Each byte is converted by a single lookup into a pre-computed table of
+ * character pairs, and the overloads that write into a caller supplied
+ * <code>char[]</code>, <code>byte[]</code>, {@link java.lang.StringBuilder}
+ * or {@link java.lang.Appendable} do not allocate any intermediate objects.
+ * <p>
+ * All of the methods are static and the class is thread safe.
+ *
+ * @since   1.2.0
+ */
+public final class HexEncoder {
+   
+   private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+   
+   /**
+    * Lookup table of the two hexadecimal characters for each of the 256
+    * possible byte values.  The characters for byte value <code>b</code> are
+    * at indices <code>2b</code> and <code>2b + 1</code>.
+    */
+   private static final char[] HEX_CHAR_PAIRS = new char[256 * 2];
+   
+   /**
+    * ASCII equivalent of {@link #HEX_CHAR_PAIRS}.
+    */
+   private static final byte[] HEX_ASCII_PAIRS = new byte[256 * 2];
+   
+   static {
+      for (int i = 0; i < 256; i++) {
+         HEX_CHAR_PAIRS[i << 1]        = HEX_DIGITS[i >>> 4];
+         HEX_CHAR_PAIRS[(i << 1) + 1]  = HEX_DIGITS[i & 0x0F];
+         HEX_ASCII_PAIRS[i << 1]       = (byte) HEX_DIGITS[i >>> 4];
+         HEX_ASCII_PAIRS[(i << 1) + 1] = (byte) HEX_DIGITS[i & 0x0F];
+      }
+   }
+   
+   private HexEncoder() {
+   }
+   
+   /**
+    * Returns the number of hexadecimal characters required to encode the
+    * given number of bytes.
+    * 
+    * @param  numBytes
+    *         number of bytes to be encoded.
+    * @return number of characters in the encoded output.
+    */
+   public static int encodedLength(int numBytes) {
+      return numBytes << 1;
+   }
+   
+   /**
+    * Encodes all of the given bytes to a hexadecimal String.
+    * 
+    * @param  bytes
+    *         bytes to be encoded.
+    * @return hexadecimal representation of the bytes.
+    */
+   public static String encode(byte[] bytes) {
+      return encode(bytes, 0, bytes.length);
+   }
+   
+   /**
+    * Encodes a range of the given bytes to a hexadecimal String.
+    * 
+    * @param  bytes
+    *         bytes to be encoded.
+    * @param  offset
+    *         index of the first byte to be encoded.
+    * @param  length
+    *         number of bytes to be encoded.
+    * @return hexadecimal representation of the bytes.
+    */
+   public static String encode(byte[] bytes, int offset, int length) {
+      char[] chars = new char[encodedLength(length)];
+      encode(bytes, offset, length, chars, 0);
+      return new String(chars);
+   }
+   
+   /**
+    * Encodes a range of the given bytes into the given char array.
+    * 
+    * @param  bytes
+    *         bytes to be encoded.
+    * @param  offset
+    *         index of the first byte to be encoded.
+    * @param  length
+    *         number of bytes to be encoded.
+    * @param  output
+    *         array into which the hexadecimal characters will be written.
+    * @param  outputOffset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of characters written.
+    * @throws IndexOutOfBoundsException
+    *         if either range falls outside of its array.
+    */
+   public static int encode(byte[] bytes, int offset, int length,
+         char[] output, int outputOffset)
+   {
+      checkRange(bytes.length, offset, length);
+      checkRange(output.length, outputOffset, encodedLength(length));
+      
+      int outIdx = outputOffset;
+      for (int i = offset; i < offset + length; i++) {
+         int pairIdx = (bytes[i] & 0xFF) << 1;
+         output[outIdx++] = HEX_CHAR_PAIRS[pairIdx];
+         output[outIdx++] = HEX_CHAR_PAIRS[pairIdx + 1];
+      }
+      return outIdx - outputOffset;
+   }
+   
+   /**
+    * Encodes a range of the given bytes into the given byte array as ASCII
+    * characters.
+    * 
+    * @param  bytes
+    *         bytes to be encoded.
+    * @param  offset
+    *         index of the first byte to be encoded.
+    * @param  length
+    *         number of bytes to be encoded.
+    * @param  output
+    *         array into which the ASCII hexadecimal characters will be
+    *         written.
+    * @param  outputOffset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of bytes written.
+    * @throws IndexOutOfBoundsException
+    *         if either range falls outside of its array.
+    */
+   public static int encodeAscii(byte[] bytes, int offset, int length,
+         byte[] output, int outputOffset)
+   {
+      checkRange(bytes.length, offset, length);
+      checkRange(output.length, outputOffset, encodedLength(length));
+      
+      int outIdx = outputOffset;
+      for (int i = offset; i < offset + length; i++) {
+         int pairIdx = (bytes[i] & 0xFF) << 1;
+         output[outIdx++] = HEX_ASCII_PAIRS[pairIdx];
+         output[outIdx++] = HEX_ASCII_PAIRS[pairIdx + 1];
+      }
+      return outIdx - outputOffset;
+   }
+   
+   /**
+    * Appends the hexadecimal representation of a range of the given bytes to
+    * the given StringBuilder.
+    * 
+    * @param  bytes
+    *         bytes to be encoded.
+    * @param  offset
+    *         index of the first byte to be encoded.
+    * @param  length
+    *         number of bytes to be encoded.
+    * @param  output
+    *         StringBuilder to which the characters will be appended.
+    * @return the <code>output</code> StringBuilder.
+    * @throws IndexOutOfBoundsException
+    *         if the range falls outside of the byte array.
+    */
+   public static StringBuilder encode(byte[] bytes, int offset, int length,
+         StringBuilder output)
+   {
+      checkRange(bytes.length, offset, length);
+      output.ensureCapacity(output.length() + encodedLength(length));
+      
+      for (int i = offset; i < offset + length; i++) {
+         int pairIdx = (bytes[i] & 0xFF) << 1;
+         output.append(HEX_CHAR_PAIRS[pairIdx]);
+         output.append(HEX_CHAR_PAIRS[pairIdx + 1]);
+      }
+      return output;
+   }
+   
+   /**
+    * Appends the hexadecimal representation of a range of the given bytes to
+    * the given Appendable.
+    * 
+    * @param  <A>
+    *         type of the Appendable.
+    * @param  bytes
+    *         bytes to be encoded.
+    * @param  offset
+    *         index of the first byte to be encoded.
+    * @param  length
+    *         number of bytes to be encoded.
+    * @param  output
+    *         Appendable to which the characters will be appended.
+    * @return the <code>output</code> Appendable.
+    * @throws IOException
+    *         if the Appendable throws an IOException.
+    * @throws IndexOutOfBoundsException
+    *         if the range falls outside of the byte array.
+    */
+   public static <A extends Appendable> A encode(byte[] bytes, int offset,
+         int length, A output) throws IOException
+   {
+      checkRange(bytes.length, offset, length);
+      
+      for (int i = offset; i < offset + length; i++) {
+         int pairIdx = (bytes[i] & 0xFF) << 1;
+         output.append(HEX_CHAR_PAIRS[pairIdx]);
+         output.append(HEX_CHAR_PAIRS[pairIdx + 1]);
+      }
+      return output;
+   }
+   
+   /**
+    * Validates that <code>[offset, offset + length)</code> is a valid range
+    * within an array of the given length.
+    * 
+    * @param  arrayLength
+    *         length of the array.
+    * @param  offset
+    *         start of the range.
+    * @param  length
+    *         length of the range.
+    * @throws IndexOutOfBoundsException
+    *         if the range falls outside of the array.
+    */
+   private static void checkRange(int arrayLength, int offset, int length) {
+      if (offset < 0 || length < 0 || offset > arrayLength - length) {
+         throw new IndexOutOfBoundsException("offset " + offset + ", length "
+               + length + ", array length " + arrayLength);
+      }
+   }
+}
@@ -0,0 +1,98 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * A {@link java.security.MessageDigest} that computes an HMAC (RFC 2104)
+ * from two digests that have already absorbed the key XORed with the inner
+ * and outer pads.
+ * <p>
+ * The pad states are cloned to start each inner and outer hash, so each
+ * message costs only its own blocks plus one block for the outer hash,
+ * rather than two more blocks to re-hash the key pads.
+ *
+ * @since   1.2.0
+ */
+final class HmacDigest extends ClonedStateDigest {
+   
+   /**
+    * Digest state after absorbing <code>key ^ opad</code>.  Only cloned.
+    */
+   private final MessageDigest outerPadState;
+   
+   /**
+    * Creates a new HMAC digest from the given pad states, which must not be
+    * updated afterwards.
+    * 
+    * @param algorithm
+    *        name of the HMAC algorithm, for example <code>HmacSHA256</code>.
+    * @param hashAlgo
+    *        {@link HashAlgorithm} on which the HMAC is built.
+    * @param innerPadState
+    *        digest that has absorbed the key XORed with the inner pad.
+    * @param outerPadState
+    *        digest that has absorbed the key XORed with the outer pad.
+    * @throws IllegalArgumentException
+    *         if the digests cannot be cloned.
+    */
+   HmacDigest(String algorithm, HashAlgorithm hashAlgo, MessageDigest innerPadState,
+         MessageDigest outerPadState) throws IllegalArgumentException
+   {
+      super(algorithm, hashAlgo, innerPadState);
+      this.outerPadState = outerPadState;
+   }
+   
+   @Override
+   protected byte[] engineDigest() {
+      byte[] innerHash = super.engineDigest();
+      try {
+         MessageDigest outer = copy(outerPadState);
+         outer.update(innerHash);
+         return outer.digest();
+      } finally {
+         Arrays.fill(innerHash, (byte) 0x00);
+      }
+   }
+}
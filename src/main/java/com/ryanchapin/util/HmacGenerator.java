@@ -0,0 +1,492 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * The <code>HmacGenerator</code> computes keyed hashes, HMAC as defined by
+ * RFC 2104, of the same typed inputs as {@link HashGenerator}, for one key
+ * and {@link HashAlgorithm}.  Each value is encoded exactly as it is by the
+ * corresponding {@link HashGenerator} <code>createHash</code> method.  For
+ * example:
+ *    <blockquote><pre>
+ *    HmacGenerator hmac = new HmacGenerator(key, HashAlgorithm.SHA256SUM);
+ *    String tag = hmac.createHash(tokenId);
+ * </pre></blockquote>
+ * <p>
+ * The digest states after absorbing the key XORed with the inner and the
+ * outer pads are computed once, when the instance is created, and are
+ * cloned for each HMAC.  Each call therefore costs only the blocks of the
+ * message and the single block of the outer hash, instead of also
+ * re-hashing the two key blocks, which for short inputs more than halves
+ * the work.  Create one instance per long-lived key and re-use it.
+ * <p>
+ * Instances are immutable and thread safe; each thread uses its own
+ * working state.  The pad states are derived from the key and should be
+ * treated with the same care as the key itself.
+ * <p>
+ * With {@link HashAlgorithm#BLAKE3} the HMAC construction is applied to
+ * BLAKE3 with a 64 byte block; BLAKE3's own keyed mode is provided by
+ * {@link Blake3#newKeyedInstance(byte[])}.
+ *
+ * @since   1.2.0
+ */
+public final class HmacGenerator {
+   
+   private static final byte INNER_PAD = 0x36;
+   
+   private static final byte OUTER_PAD = 0x5c;
+   
+   private final HashAlgorithm hashAlgo;
+   
+   /**
+    * Prototype digest over the pad states of this key.  Never updated.
+    */
+   private final HmacDigest prototype;
+   
+   /**
+    * Per-thread session over an {@link HmacDigest} of this key.
+    */
+   private final ThreadLocal<Hasher> threadLocalHasher;
+   
+   // -------------------------------------------------------------------------
+   // Constructor:
+   //
+   
+   /**
+    * Creates a new <code>HmacGenerator</code> for the given key.  The key is
+    * copied and may be wiped by the caller once this constructor returns.
+    * Keys longer than the block size of the algorithm are first hashed, as
+    * required by RFC 2104.
+    * 
+    * @param  key
+    *         secret key.
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} on which the HMAC is built.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    * @throws IllegalArgumentException
+    *         if the key or the hashAlgo argument is null, or the digest of
+    *         the algorithm cannot be cloned.
+    */
+   public HmacGenerator(byte[] key, HashAlgorithm hashAlgo)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      if (null == key) {
+         throw new IllegalArgumentException("No key was provided.");
+      }
+      if (null == hashAlgo) {
+         throw new IllegalArgumentException("No hash algorithm was provided.");
+      }
+      this.hashAlgo = hashAlgo;
+      
+      int blockSize  = hashAlgo.getBlockSize();
+      byte[] keyBlock = new byte[blockSize];
+      byte[] hashedKey = null;
+      try {
+         if (key.length > blockSize) {
+            hashedKey = hashAlgo.newMessageDigest().digest(key);
+            System.arraycopy(hashedKey, 0, keyBlock, 0, hashedKey.length);
+         } else {
+            System.arraycopy(key, 0, keyBlock, 0, key.length);
+         }
+         
+         prototype = new HmacDigest(getAlgorithmName(), hashAlgo,
+               padState(keyBlock, INNER_PAD), padState(keyBlock, OUTER_PAD));
+      } finally {
+         Arrays.fill(keyBlock, (byte) 0x00);
+         if (null != hashedKey) {
+            Arrays.fill(hashedKey, (byte) 0x00);
+         }
+      }
+      threadLocalHasher = prototype.newThreadLocalHasher();
+   }
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+   
+   /**
+    * Get the hash algorithm on which the HMAC is built.
+    * 
+    * @return  the hash algorithm of this instance.
+    */
+   public HashAlgorithm getHashAlgo() {
+      return hashAlgo;
+   }
+   
+   /**
+    * Get the length, in bytes, of the HMACs produced by this instance.
+    * 
+    * @return  the length of the HMAC in bytes.
+    */
+   public int getDigestLength() {
+      return prototype.getDigestLength();
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /**
+    * Creates a new incremental session that computes an HMAC, with this
+    * key, over all of the values passed to it.  The session is <b>NOT</b>
+    * thread safe.
+    * 
+    * @return a new {@link Hasher} instance.
+    */
+   public Hasher newHasher() {
+      return prototype.newHasher();
+   }
+   
+   /** -- Scalars ---------------------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal HMAC of a byte.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(byte input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a byte.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(byte input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of a char.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(char input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a char.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(char input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of a short.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(short input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a short.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(short input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of an int.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(int input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of an int.
+    * 
+    * @param  input
+    *         int to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(int input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of a long.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(long input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a long.
+    * 
+    * @param  input
+    *         long to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(long input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of a float.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(float input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a float.
+    * 
+    * @param  input
+    *         float to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(float input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of a double.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(double input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a double.
+    * 
+    * @param  input
+    *         double to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(double input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /** -- Strings and Arrays --------------------------------------------- */
+   
+   /**
+    * Generates a hexadecimal HMAC of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return hexadecimal HMAC of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the encoding argument is null or empty.
+    */
+   public String createHash(String input, String encoding)
+         throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      return getThreadLocalHasher().update(input, encoding).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a String.
+    * 
+    * @param  input
+    *         String to be hashed.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return {@link Digest} HMAC of the input data.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    * @throws IllegalArgumentException
+    *         if the encoding argument is null or empty.
+    */
+   public Digest createDigest(String input, String encoding)
+         throws UnsupportedEncodingException, IllegalArgumentException
+   {
+      return getThreadLocalHasher().update(input, encoding).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of the big-endian UTF-16 encoding of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(char[] input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of the big-endian UTF-16 encoding of a character array.
+    * 
+    * @param  input
+    *         char[] to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(char[] input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of a byte array.
+    * 
+    * @param  input
+    *         byte[] to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(byte[] input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of a byte array.
+    * 
+    * @param  input
+    *         byte[] to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(byte[] input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /**
+    * Generates a hexadecimal HMAC of the remaining bytes of a {@link java.nio.ByteBuffer}, advancing
+    * its position to its limit.
+    * 
+    * @param  input
+    *         buffer to be hashed.
+    * @return hexadecimal HMAC of the input data.
+    */
+   public String createHash(ByteBuffer input) {
+      return getThreadLocalHasher().update(input).finish();
+   }
+   
+   /**
+    * Generates a {@link Digest} HMAC of the remaining bytes of a {@link java.nio.ByteBuffer}, advancing
+    * its position to its limit.
+    * 
+    * @param  input
+    *         buffer to be hashed.
+    * @return {@link Digest} HMAC of the input data.
+    */
+   public Digest createDigest(ByteBuffer input) {
+      return getThreadLocalHasher().update(input).finishDigest();
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   private Hasher getThreadLocalHasher() {
+      return threadLocalHasher.get();
+   }
+   
+   /**
+    * Releases the working state cached by this instance for the calling
+    * thread.
+    */
+   public void releaseThreadLocalState() {
+      threadLocalHasher.remove();
+   }
+   
+   /**
+    * Returns the JCA style name of this HMAC, for example
+    * <code>HmacSHA256</code>.
+    */
+   private String getAlgorithmName() {
+      return "Hmac" + hashAlgo.getAlgo().replace("-", "");
+   }
+   
+   /**
+    * Returns a new digest that has absorbed the key block XORed with the
+    * given pad byte.
+    */
+   private MessageDigest padState(byte[] keyBlock, byte pad) throws NoSuchAlgorithmException {
+      byte[] padded = new byte[keyBlock.length];
+      for (int i = 0; i < padded.length; i++) {
+         padded[i] = (byte) (keyBlock[i] ^ pad);
+      }
+      MessageDigest md = hashAlgo.newMessageDigest();
+      md.update(padded);
+      Arrays.fill(padded, (byte) 0x00);
+      return md;
+   }
+}
@@ -0,0 +1,381 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * Hashes the contents of a <code>java.lang.foreign.MemorySegment</code>, such
+ * as an off-heap segment allocated from an <code>Arena</code>, without
+ * copying it onto the heap.
+ * <p>
+ * The segment is passed to the digest through {@link java.nio.ByteBuffer}
+ * views of consecutive windows of at most
+ * {@link HashGenerator#DEFAULT_MAPPED_WINDOW_SIZE} bytes, so segments larger
+ * than 2 GB, which cannot be viewed as a single buffer, are supported.  The
+ * hash of a segment is identical to that of a <code>byte[]</code> or
+ * {@link java.nio.ByteBuffer} with the same contents.  For example:
+ *    <blockquote><pre>
+ *    try (Arena arena = Arena.ofConfined()) {
+ *       MemorySegment column = arena.allocate(size);
+ *       ...
+ *       String hash = MemorySegmentHasher.createHash(column, HashAlgorithm.SHA256SUM);
+ *    }
+ * </pre></blockquote>
+ * <p>
+ * The library is built for Java 8, so the segment arguments are declared as
+ * <code>Object</code> and the Foreign Function and Memory API is bound
+ * reflectively when it is available, on Java 22 or later.  Call
+ * {@link #isSupported()} to find out whether it is.  As with the static
+ * {@link HashGenerator} methods, the digest is cached per thread.
+ *
+ * @since   1.2.0
+ */
+public final class MemorySegmentHasher {
+   
+   private static final String MEMORY_SEGMENT_CLASS_NAME =
+         "java.lang.foreign.MemorySegment";
+   
+   private static final String UNSUPPORTED_ERR =
+         MEMORY_SEGMENT_CLASS_NAME + " is not available on this runtime";
+   
+   private static final String NOT_A_SEGMENT_ERR =
+         "input is not a " + MEMORY_SEGMENT_CLASS_NAME;
+   
+   private static final String NULL_ALGO_ERR =
+         "No hashing algorithm was provided.";
+   
+   private static final String OUT_OF_BOUNDS_ERR =
+         "offset and length describe a range outside of the segment";
+   
+   /**
+    * Access to the segments of the running JVM, or <code>null</code> if the
+    * Foreign Function and Memory API is not available.
+    */
+   private static final SegmentAccess SEGMENT_ACCESS = ReflectiveSegmentAccess.find();
+   
+   private MemorySegmentHasher() {
+   }
+   
+   /**
+    * Indicates whether <code>java.lang.foreign.MemorySegment</code> is
+    * available on the running JVM.
+    * 
+    * @return <code>true</code> if segments can be hashed.
+    */
+   public static boolean isSupported() {
+      return null != SEGMENT_ACCESS;
+   }
+   
+   /**
+    * Generates a hexadecimal hash of the entire contents of a memory segment.
+    * 
+    * @param  segment
+    *         <code>java.lang.foreign.MemorySegment</code> to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}, or
+    *         if <code>segment</code> is not a memory segment.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws UnsupportedOperationException
+    *         if memory segments are not available on the running JVM.
+    */
+   public static String createHash(Object segment, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return HashGenerator.bytesToHex(computeHashBytes(segment, 0, -1, hashAlgorithm));
+   }
+   
+   /**
+    * Generates a hexadecimal hash of a slice of a memory segment.
+    * 
+    * @param  segment
+    *         <code>java.lang.foreign.MemorySegment</code> to be hashed.
+    * @param  offset
+    *         offset, in bytes, of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}, if
+    *         <code>segment</code> is not a memory segment, or if the slice
+    *         falls outside of the segment.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws UnsupportedOperationException
+    *         if memory segments are not available on the running JVM.
+    */
+   public static String createHash(Object segment, long offset, long length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkSlice(offset, length);
+      return HashGenerator.bytesToHex(computeHashBytes(segment, offset, length, hashAlgorithm));
+   }
+   
+   /**
+    * Generates a {@link Digest} of the entire contents of a memory segment.
+    * 
+    * @param  segment
+    *         <code>java.lang.foreign.MemorySegment</code> to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}, or
+    *         if <code>segment</code> is not a memory segment.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws UnsupportedOperationException
+    *         if memory segments are not available on the running JVM.
+    */
+   public static Digest createDigest(Object segment, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      return Digest.of(computeHashBytes(segment, 0, -1, hashAlgorithm));
+   }
+   
+   /**
+    * Generates a {@link Digest} of a slice of a memory segment.
+    * 
+    * @param  segment
+    *         <code>java.lang.foreign.MemorySegment</code> to be hashed.
+    * @param  offset
+    *         offset, in bytes, of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return {@link Digest} of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}, if
+    *         <code>segment</code> is not a memory segment, or if the slice
+    *         falls outside of the segment.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws UnsupportedOperationException
+    *         if memory segments are not available on the running JVM.
+    */
+   public static Digest createDigest(Object segment, long offset, long length,
+         HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      checkSlice(offset, length);
+      return Digest.of(computeHashBytes(segment, offset, length, hashAlgorithm));
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Hashes a slice of a segment with the calling thread's digest.
+    * 
+    * @param  length
+    *         number of bytes to be hashed, or -1 to hash through to the end
+    *         of the segment.
+    */
+   private static byte[] computeHashBytes(Object segment, long offset,
+         long length, HashAlgorithm hashAlgorithm)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      if (null == hashAlgorithm) {
+         throw new IllegalArgumentException(NULL_ALGO_ERR);
+      }
+      if (null == SEGMENT_ACCESS) {
+         throw new UnsupportedOperationException(UNSUPPORTED_ERR);
+      }
+      MessageDigest msgDigest = HashGenerator.getThreadLocalDigest(hashAlgorithm);
+      updateDigest(msgDigest, segment, offset, length,
+            HashGenerator.DEFAULT_MAPPED_WINDOW_SIZE, SEGMENT_ACCESS);
+      return msgDigest.digest();
+   }
+   
+   /**
+    * Passes a slice of a segment to the given digest, one window at a time.
+    * 
+    * @param  msgDigest
+    *         digest to be updated.
+    * @param  segment
+    *         segment to be hashed.
+    * @param  offset
+    *         offset, in bytes, of the first byte to be hashed.
+    * @param  length
+    *         number of bytes to be hashed, or -1 to hash through to the end
+    *         of the segment.
+    * @param  windowSize
+    *         maximum number of bytes passed to the digest at one time.
+    * @param  access
+    *         access to the segment.
+    * @throws IllegalArgumentException
+    *         if <code>segment</code> is not a segment, or if the slice falls
+    *         outside of it.
+    */
+   static void updateDigest(MessageDigest msgDigest, Object segment,
+         long offset, long length, int windowSize, SegmentAccess access)
+      throws IllegalArgumentException
+   {
+      long size = access.byteSize(segment);
+      if (-1 == length) {
+         length = size - offset;
+      }
+      if (offset > size || length > size - offset) {
+         throw new IllegalArgumentException(OUT_OF_BOUNDS_ERR);
+      }
+      
+      long end = offset + length;
+      for (long position = offset; position < end; position += windowSize) {
+         int windowLength = (int) Math.min(windowSize, end - position);
+         msgDigest.update(access.window(segment, position, windowLength));
+      }
+   }
+   
+   private static void checkSlice(long offset, long length)
+      throws IllegalArgumentException
+   {
+      if (offset < 0 || length < 0) {
+         throw new IllegalArgumentException(OUT_OF_BOUNDS_ERR);
+      }
+   }
+   
+   /**
+    * Access to the size and contents of a segment.
+    */
+   static interface SegmentAccess {
+      
+      /**
+       * Returns the size of the given segment.
+       * 
+       * @throws IllegalArgumentException
+       *         if <code>segment</code> is not a segment.
+       */
+      long byteSize(Object segment) throws IllegalArgumentException;
+      
+      /**
+       * Returns a buffer that views <code>length</code> bytes of the given
+       * segment, starting at <code>offset</code>, without copying them.
+       */
+      ByteBuffer window(Object segment, long offset, int length);
+   }
+   
+   /**
+    * {@link SegmentAccess} bound reflectively to
+    * <code>java.lang.foreign.MemorySegment</code>.
+    */
+   private static final class ReflectiveSegmentAccess implements SegmentAccess {
+      
+      private final Class<?> segmentClass;
+      
+      private final Method byteSize;
+      
+      private final Method asSlice;
+      
+      private final Method asByteBuffer;
+      
+      private ReflectiveSegmentAccess(Class<?> segmentClass)
+         throws NoSuchMethodException
+      {
+         this.segmentClass = segmentClass;
+         byteSize     = segmentClass.getMethod("byteSize");
+         asSlice      = segmentClass.getMethod("asSlice", long.class, long.class);
+         asByteBuffer = segmentClass.getMethod("asByteBuffer");
+      }
+      
+      /**
+       * Binds to <code>java.lang.foreign.MemorySegment</code>.
+       * 
+       * @return the binding, or <code>null</code> if the class is not
+       *         available.
+       */
+      static SegmentAccess find() {
+         try {
+            return new ReflectiveSegmentAccess(Class.forName(MEMORY_SEGMENT_CLASS_NAME));
+         } catch (ClassNotFoundException e) {
+            // Prior to Java 22.
+         } catch (NoSuchMethodException e) {
+            // An incompatible preview version of the API.
+         } catch (LinkageError e) {
+            // The API is a disabled preview feature.
+         }
+         return null;
+      }
+      
+      @Override
+      public long byteSize(Object segment) throws IllegalArgumentException {
+         if (!segmentClass.isInstance(segment)) {
+            throw new IllegalArgumentException(NOT_A_SEGMENT_ERR);
+         }
+         return (Long) invoke(byteSize, segment);
+      }
+      
+      @Override
+      public ByteBuffer window(Object segment, long offset, int length) {
+         Object slice = invoke(asSlice, segment, offset, (long) length);
+         return (ByteBuffer) invoke(asByteBuffer, slice);
+      }
+      
+      private static Object invoke(Method method, Object target, Object... args) {
+         try {
+            return method.invoke(target, args);
+         } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+         } catch (InvocationTargetException e) {
+            // For example, the segment's arena has been closed.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+               throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+               throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+         }
+      }
+   }
+}
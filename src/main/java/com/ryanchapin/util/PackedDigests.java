@@ -0,0 +1,363 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A read-only view of fixed width digests stored back to back in a single
+ * byte array or {@link java.nio.ByteBuffer}, as written by the
+ * <code>writeHashes</code> methods of {@link BulkHasher}.
+ * <p>
+ * Storing millions of digests this way avoids an object, and the
+ * hexadecimal <code>String</code>, per digest; entry <code>i</code> is the
+ * <code>getDigestLength()</code> bytes starting at
+ * <code>i * getDigestLength()</code> of the view.  Entries can be read,
+ * compared and formatted individually, without allocation where possible,
+ * and the whole view can be written to a channel, such as a
+ * {@link java.nio.channels.FileChannel}, in a single bulk copy.  Direct
+ * buffers keep the digests off the Java heap.
+ * <p>
+ * The view does not copy the digests, so changes to the underlying storage
+ * are visible through it.  Instances are thread safe as long as the
+ * underlying storage is not modified.
+ *
+ * @since   1.2.0
+ */
+public final class PackedDigests {
+   
+   /**
+    * The packed digests, positioned at the first one.  Only accessed by
+    * absolute index, so that it can be shared between threads.
+    */
+   private final ByteBuffer buffer;
+   
+   /**
+    * Backing array of the buffer, or null.
+    */
+   private final byte[] array;
+   
+   /**
+    * Index in {@link #array} of the first digest.
+    */
+   private final int arrayOffset;
+   
+   private final int digestLength;
+   
+   private final int size;
+   
+   private PackedDigests(ByteBuffer buffer, int digestLength) {
+      this.buffer       = buffer;
+      this.digestLength = digestLength;
+      this.size         = buffer.remaining() / digestLength;
+      if (buffer.hasArray()) {
+         this.array       = buffer.array();
+         this.arrayOffset = buffer.arrayOffset() + buffer.position();
+      } else {
+         this.array       = null;
+         this.arrayOffset = 0;
+      }
+   }
+   
+   /**
+    * Creates a view of <code>count</code> digests starting at
+    * <code>offset</code> in the given array.
+    * 
+    * @param  array
+    *         array holding the packed digests.
+    * @param  offset
+    *         index of the first byte of the first digest.
+    * @param  count
+    *         number of digests.
+    * @param  digestLength
+    *         number of bytes in each digest.
+    * @return a view of the digests.
+    * @throws IllegalArgumentException
+    *         if digestLength is not positive, or the digests are not within
+    *         the array.
+    */
+   public static PackedDigests wrap(byte[] array, int offset, int count, int digestLength)
+      throws IllegalArgumentException
+   {
+      if (null == array || digestLength <= 0 || offset < 0 || count < 0
+            || (long) count * digestLength > (long) array.length - offset)
+      {
+         throw new IllegalArgumentException(
+               count + " digests of " + digestLength + " bytes are not within the array");
+      }
+      ByteBuffer buffer = ByteBuffer.wrap(array, offset, count * digestLength).slice();
+      return new PackedDigests(buffer, digestLength);
+   }
+   
+   /**
+    * Creates a view of the digests in the remaining bytes of the given
+    * buffer.  The buffer's position and limit are not changed.
+    * 
+    * @param  buffer
+    *         buffer holding the packed digests.
+    * @param  digestLength
+    *         number of bytes in each digest.
+    * @return a view of the digests.
+    * @throws IllegalArgumentException
+    *         if digestLength is not positive, or the number of remaining
+    *         bytes is not a multiple of it.
+    */
+   public static PackedDigests wrap(ByteBuffer buffer, int digestLength)
+      throws IllegalArgumentException
+   {
+      if (null == buffer || digestLength <= 0 || buffer.remaining() % digestLength != 0) {
+         throw new IllegalArgumentException(
+               "buffer does not hold a whole number of " + digestLength + " byte digests");
+      }
+      return new PackedDigests(buffer.slice(), digestLength);
+   }
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+   
+   /**
+    * Get the number of digests in the view.
+    * 
+    * @return the number of digests.
+    */
+   public int size() {
+      return size;
+   }
+   
+   /**
+    * Get the number of bytes in each digest.
+    * 
+    * @return the length of each digest in bytes.
+    */
+   public int getDigestLength() {
+      return digestLength;
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /**
+    * Returns the digest at the given index as a {@link Digest}.
+    * 
+    * @param  index
+    *         index of the digest.
+    * @return the digest.
+    * @throws IndexOutOfBoundsException
+    *         if the index is out of range.
+    */
+   public Digest get(int index) {
+      int start = start(index);
+      if (null != array) {
+         return Digest.of(array, arrayOffset + start, digestLength);
+      }
+      return Digest.of(copy(start));
+   }
+   
+   /**
+    * Returns the byte at position <code>byteIndex</code> of the digest at
+    * the given index.
+    * 
+    * @param  index
+    *         index of the digest.
+    * @param  byteIndex
+    *         index of the byte within the digest.
+    * @return the byte.
+    * @throws IndexOutOfBoundsException
+    *         if either index is out of range.
+    */
+   public byte getByte(int index, int byteIndex) {
+      if (byteIndex < 0 || byteIndex >= digestLength) {
+         throw new IndexOutOfBoundsException("byte index " + byteIndex);
+      }
+      return buffer.get(start(index) + byteIndex);
+   }
+   
+   /**
+    * Copies the digest at the given index into an array.
+    * 
+    * @param  index
+    *         index of the digest.
+    * @param  output
+    *         array into which the digest is copied.
+    * @param  offset
+    *         index in <code>output</code> at which to start writing.
+    * @return the number of bytes written.
+    * @throws IndexOutOfBoundsException
+    *         if the index is out of range, or <code>output</code> does not
+    *         have room for the digest.
+    */
+   public int copyTo(int index, byte[] output, int offset) {
+      int start = start(index);
+      if (null != array) {
+         System.arraycopy(array, arrayOffset + start, output, offset, digestLength);
+      } else {
+         if (offset < 0 || offset > output.length - digestLength) {
+            throw new IndexOutOfBoundsException("output offset " + offset);
+         }
+         for (int i = 0; i < digestLength; i++) {
+            output[offset + i] = buffer.get(start + i);
+         }
+      }
+      return digestLength;
+   }
+   
+   /**
+    * Returns the hexadecimal representation of the digest at the given
+    * index, as returned by the {@link HashGenerator} <code>createHash</code>
+    * methods.
+    * 
+    * @param  index
+    *         index of the digest.
+    * @return lower case hexadecimal digest.
+    * @throws IndexOutOfBoundsException
+    *         if the index is out of range.
+    */
+   public String toHex(int index) {
+      int start = start(index);
+      if (null != array) {
+         return HexEncoder.encode(array, arrayOffset + start, digestLength);
+      }
+      return HexEncoder.encode(copy(start));
+   }
+   
+   /**
+    * Compares the digests at two indices as unsigned bytes,
+    * lexicographically, in the same order as {@link Digest#compareTo}.
+    * 
+    * @param  i
+    *         index of the first digest.
+    * @param  j
+    *         index of the second digest.
+    * @return a negative number, zero or a positive number as the first
+    *         digest is less than, equal to or greater than the second.
+    * @throws IndexOutOfBoundsException
+    *         if either index is out of range.
+    */
+   public int compare(int i, int j) {
+      int a = start(i);
+      int b = start(j);
+      for (int k = 0; k < digestLength; k++) {
+         int cmp = (buffer.get(a + k) & 0xFF) - (buffer.get(b + k) & 0xFF);
+         if (0 != cmp) {
+            return cmp;
+         }
+      }
+      return 0;
+   }
+   
+   /**
+    * Indicates whether the digest at the given index holds the same bytes
+    * as the given digest.
+    * 
+    * @param  index
+    *         index of the digest.
+    * @param  digest
+    *         raw digest to compare with.
+    * @return <code>true</code> if the digests are equal.
+    * @throws IndexOutOfBoundsException
+    *         if the index is out of range.
+    */
+   public boolean equals(int index, byte[] digest) {
+      int start = start(index);
+      if (digest.length != digestLength) {
+         return false;
+      }
+      for (int k = 0; k < digestLength; k++) {
+         if (buffer.get(start + k) != digest[k]) {
+            return false;
+         }
+      }
+      return true;
+   }
+   
+   /**
+    * Returns a read-only buffer over all of the packed digests, positioned
+    * at the first one.
+    * 
+    * @return a read-only buffer of the digests.
+    */
+   public ByteBuffer asReadOnlyBuffer() {
+      return buffer.asReadOnlyBuffer();
+   }
+   
+   /**
+    * Writes all of the packed digests to a channel, as a single bulk copy
+    * from the underlying storage.
+    * 
+    * @param  channel
+    *         channel to which the digests are written.
+    * @return the number of bytes written.
+    * @throws IOException
+    *         if an I/O error occurs.
+    */
+   public long writeTo(WritableByteChannel channel) throws IOException {
+      ByteBuffer source = buffer.duplicate();
+      long written = 0;
+      while (source.hasRemaining()) {
+         written += channel.write(source);
+      }
+      return written;
+   }
+   
+   /** -- Utility Methods -------------------------------------------------- */
+   
+   /**
+    * Returns the index, within the view, of the first byte of the digest at
+    * the given index.
+    */
+   private int start(int index) {
+      if (index < 0 || index >= size) {
+         throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+      }
+      return index * digestLength;
+   }
+   
+   private byte[] copy(int start) {
+      byte[] bytes = new byte[digestLength];
+      for (int i = 0; i < digestLength; i++) {
+         bytes[i] = buffer.get(start + i);
+      }
+      return bytes;
+   }
+}
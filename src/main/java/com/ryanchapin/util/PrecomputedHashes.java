@@ -0,0 +1,271 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.ryanchapin.util.HashGenerator.DataType;
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * Lookup tables of the hexadecimal hashes of every possible
+ * <code>byte</code>, <code>char</code> and <code>short</code> value.
+ * <p>
+ * There are only 256 distinct bytes and 65,536 distinct chars and shorts, so
+ * rather than running a full digest and hex encoding for every call, the
+ * hash of each value is computed once per {@link HashAlgorithm}, cached, and
+ * subsequently returned with a single array lookup.  Each call for the same
+ * value and algorithm returns an equal <code>String</code>, usually the
+ * cached instance.  Callers must compare the results with
+ * <code>equals</code>, not <code>==</code>.
+ * <p>
+ * The hashes are identical to those returned by the corresponding
+ * {@link HashGenerator} <code>createHash</code> methods.  As a char and a
+ * short with the same 16 bits are encoded to the same two bytes, chars and
+ * shorts share a single table per algorithm.
+ * <p>
+ * Tables are allocated the first time they are used and filled lazily, one
+ * entry at a time; a fully populated two byte table for
+ * {@link HashAlgorithm#SHA512SUM} holds roughly 20 MB of strings.  Use
+ * {@link #prebuild(HashAlgorithm, DataType)} to fill a table ahead of time,
+ * for example during start-up, and {@link #release(HashAlgorithm)} to drop
+ * it.
+ * <p>
+ * All of the methods are thread safe.  Two threads racing to fill the same
+ * entry will both compute the same hash, and either result may be cached,
+ * so each thread may get its own, equal, instance.
+ * <p>
+ * <b>DO NOT USE</b> for sensitive values: the cached hashes outlive the
+ * call, and the hash of a value from such a small domain is trivially
+ * reversed in any case.
+ *
+ * @since   1.2.0
+ */
+public final class PrecomputedHashes {
+   
+   private static final int BYTE_DOMAIN_SIZE  = 1 << Byte.SIZE;
+   private static final int SHORT_DOMAIN_SIZE = 1 << Short.SIZE;
+   
+   /**
+    * Tables of single byte hashes, indexed by {@link HashAlgorithm#ordinal()}.
+    */
+   private static final AtomicReferenceArray<String[]> BYTE_TABLES =
+         new AtomicReferenceArray<String[]>(HashAlgorithm.values().length);
+   
+   /**
+    * Tables of two byte, char and short, hashes, indexed by
+    * {@link HashAlgorithm#ordinal()}.
+    */
+   private static final AtomicReferenceArray<String[]> SHORT_TABLES =
+         new AtomicReferenceArray<String[]>(HashAlgorithm.values().length);
+   
+   private PrecomputedHashes() {
+   }
+   
+   /**
+    * Returns the hexadecimal hash of a byte.
+    * 
+    * @param  input
+    *         byte to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String getHash(byte input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      String[] table = getTable(BYTE_TABLES, hashAlgorithm, BYTE_DOMAIN_SIZE);
+      int index = input & 0xFF;
+      String retVal = table[index];
+      if (null == retVal) {
+         retVal = HashGenerator.createHash(input, hashAlgorithm);
+         table[index] = retVal;
+      }
+      return retVal;
+   }
+   
+   /**
+    * Returns the hexadecimal hash of a char.
+    * 
+    * @param  input
+    *         char to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String getHash(char input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      return getShortHash(input, hashAlgorithm);
+   }
+   
+   /**
+    * Returns the hexadecimal hash of a short.
+    * 
+    * @param  input
+    *         short to be hashed.
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} to be used to generate the hash.
+    * @return hexadecimal hash of the input data.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static String getHash(short input, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      return getShortHash(input & 0xFFFF, hashAlgorithm);
+   }
+   
+   /**
+    * Indicates whether hashes of the given {@link DataType} can be looked up
+    * in a table.
+    * 
+    * @param  dataType
+    *         type of the data to be hashed.
+    * @return <code>true</code> for {@link DataType#BYTE},
+    *         {@link DataType#CHARACTER} and {@link DataType#SHORT}.
+    */
+   public static boolean isSupported(DataType dataType) {
+      return DataType.BYTE == dataType
+            || DataType.CHARACTER == dataType
+            || DataType.SHORT == dataType;
+   }
+   
+   /**
+    * Computes every entry of the table for the given algorithm and
+    * {@link DataType} that has not yet been computed.
+    * 
+    * @param  hashAlgorithm
+    *         {@link HashAlgorithm} of the table.
+    * @param  dataType
+    *         one of {@link DataType#BYTE}, {@link DataType#CHARACTER} or
+    *         {@link DataType#SHORT}.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}, or
+    *         if hashes of the given {@link DataType} are not supported.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is an invalid {@link HashAlgorithm}.
+    */
+   public static void prebuild(HashAlgorithm hashAlgorithm, DataType dataType)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      if (!isSupported(dataType)) {
+         throw new IllegalArgumentException(
+               "Precomputed hashes are not supported for DataType " + dataType);
+      }
+      
+      int bytesPerValue = DataType.BYTE == dataType ? 1 : 2;
+      String[] table = DataType.BYTE == dataType
+            ? getTable(BYTE_TABLES, hashAlgorithm, BYTE_DOMAIN_SIZE)
+            : getTable(SHORT_TABLES, hashAlgorithm, SHORT_DOMAIN_SIZE);
+      
+      MessageDigest md = hashAlgorithm.newMessageDigest();
+      for (int i = 0; i < table.length; i++) {
+         if (null == table[i]) {
+            if (bytesPerValue == 2) {
+               md.update((byte) (i >>> 8));
+            }
+            md.update((byte) i);
+            table[i] = HashGenerator.bytesToHex(md.digest());
+         }
+      }
+   }
+   
+   /**
+    * Drops the tables of the given algorithm.  They will be re-created the
+    * next time they are needed.
+    * 
+    * @param hashAlgorithm
+    *        {@link HashAlgorithm} of the tables to be dropped.
+    */
+   public static void release(HashAlgorithm hashAlgorithm) {
+      BYTE_TABLES.set(hashAlgorithm.ordinal(), null);
+      SHORT_TABLES.set(hashAlgorithm.ordinal(), null);
+   }
+   
+   private static String getShortHash(int index, HashAlgorithm hashAlgorithm)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      String[] table = getTable(SHORT_TABLES, hashAlgorithm, SHORT_DOMAIN_SIZE);
+      String retVal = table[index];
+      if (null == retVal) {
+         retVal = HashGenerator.createHash((char) index, hashAlgorithm);
+         table[index] = retVal;
+      }
+      return retVal;
+   }
+   
+   /**
+    * Returns the table of the given algorithm, allocating it if need be.
+    * <p>
+    * Entries are written without synchronization.  This is safe as
+    * <code>String</code> instances are immutable, and so a thread reading an
+    * entry will either see <code>null</code>, and compute the hash itself, or
+    * a fully constructed <code>String</code>.
+    */
+   private static String[] getTable(AtomicReferenceArray<String[]> tables,
+         HashAlgorithm hashAlgorithm, int size) throws IllegalArgumentException
+   {
+      if (null == hashAlgorithm) {
+         throw new IllegalArgumentException("null HashAlgorithm passed to PrecomputedHashes");
+      }
+      
+      int slot = hashAlgorithm.ordinal();
+      String[] table = tables.get(slot);
+      while (null == table) {
+         // Loop in case the table is released between the two calls.
+         tables.compareAndSet(slot, null, new String[size]);
+         table = tables.get(slot);
+      }
+      return table;
+   }
+}
@@ -0,0 +1,74 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.security.MessageDigest;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * A {@link java.security.MessageDigest} that hashes a fixed prefix followed
+ * by the data passed to it, starting from a digest that has already
+ * absorbed the prefix.
+ * <p>
+ * The prefix state is cloned to start each hash, so the blocks of the
+ * prefix are compressed only once.
+ *
+ * @since   1.2.0
+ */
+final class PrefixedDigest extends ClonedStateDigest {
+   
+   /**
+    * Creates a new digest from the given prefix state, which must not be
+    * updated afterwards.
+    * 
+    * @param hashAlgo
+    *        {@link HashAlgorithm} of the prefix state.
+    * @param prefixState
+    *        digest that has absorbed the prefix.
+    * @throws IllegalArgumentException
+    *         if the digest cannot be cloned.
+    */
+   PrefixedDigest(HashAlgorithm hashAlgo, MessageDigest prefixState)
+      throws IllegalArgumentException
+   {
+      super(prefixState.getAlgorithm(), hashAlgo, prefixState);
+   }
+}
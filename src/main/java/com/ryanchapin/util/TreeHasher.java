@@ -0,0 +1,470 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * Computes Merkle tree hashes in which fixed size leaves of the input are
+ * hashed in parallel on a {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * A single {@link java.security.MessageDigest} is strictly sequential, so
+ * hashing a very large file or buffer with {@link HashGenerator} uses a
+ * single core.  A tree hash instead splits the input into leaves, hashes
+ * every leaf independently and then combines the leaf hashes into a single
+ * root hash, which scales with the number of available cores.
+ * <p>
+ * The root hash is <b>NOT</b> the same as the plain hash of the input, and
+ * depends on the leaf size.  For a given {@link HashAlgorithm}
+ * <code>H</code> and leaf size, the tree is defined as follows:
+ * <ol>
+ *    <li>The input is split into consecutive leaves of exactly
+ *    <code>leafSize</code> bytes; the last leaf holds the remaining
+ *    <code>1..leafSize</code> bytes.  Empty input consists of a single empty
+ *    leaf.</li>
+ *    <li>Each leaf hash is <code>H(0x00 || leaf)</code>.</li>
+ *    <li>Each level is reduced to the next by hashing consecutive pairs of
+ *    nodes, from left to right, as <code>H(0x01 || left || right)</code>.  If
+ *    a level has an odd number of nodes, the last one is promoted to the next
+ *    level unchanged.</li>
+ *    <li>The root hash is the single node of the last level.</li>
+ * </ol>
+ * The distinct leaf and node prefixes prevent a leaf from being passed off as
+ * an interior node, and vice versa.  Reproducing a root hash only requires
+ * the algorithm and the leaf size with which it was created.
+ * <p>
+ * Leaves are hashed with the digests cached per thread by
+ * {@link HashGenerator}; pool threads may release them with
+ * {@link HashGenerator#releaseThreadLocalState()}.  Instances are immutable
+ * and thread safe.
+ *
+ * @since   1.2.0
+ */
+public class TreeHasher {
+   
+   /**
+    * Default number of bytes in each leaf.
+    */
+   public static final int DEFAULT_LEAF_SIZE = 1024 * 1024;
+   
+   /**
+    * Prefix of the data hashed for each leaf.
+    */
+   static final byte LEAF_PREFIX = 0x00;
+   
+   /**
+    * Prefix of the data hashed for each interior node.
+    */
+   static final byte NODE_PREFIX = 0x01;
+   
+   /**
+    * Upper bound on the number of bytes of input hashed by a single task,
+    * and on the number of bytes of a file mapped by a single task.
+    */
+   private static final int MAX_TASK_BYTES = HashGenerator.DEFAULT_MAPPED_WINDOW_SIZE;
+   
+   /**
+    * Number of tasks per pool thread into which the leaves are split, to
+    * even out the load when some threads are slower than others.
+    */
+   private static final int TASKS_PER_THREAD = 4;
+   
+   private final HashAlgorithm hashAlgo;
+   
+   private final int leafSize;
+   
+   private final ForkJoinPool pool;
+   
+   // -------------------------------------------------------------------------
+   // Constructors:
+   //
+   
+   /**
+    * Creates a new tree hasher with the {@link #DEFAULT_LEAF_SIZE} that hashes
+    * leaves on the common {@link java.util.concurrent.ForkJoinPool}.
+    * 
+    * @param  hashAlgo
+    *         algorithm with which leaves and nodes are hashed.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is null.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is not supported by the runtime.
+    */
+   public TreeHasher(HashAlgorithm hashAlgo)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      this(hashAlgo, DEFAULT_LEAF_SIZE);
+   }
+   
+   /**
+    * Creates a new tree hasher that hashes leaves on the common
+    * {@link java.util.concurrent.ForkJoinPool}.
+    * 
+    * @param  hashAlgo
+    *         algorithm with which leaves and nodes are hashed.
+    * @param  leafSize
+    *         number of bytes in each leaf.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo argument is null, or if leafSize is not a
+    *         positive number.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is not supported by the runtime.
+    */
+   public TreeHasher(HashAlgorithm hashAlgo, int leafSize)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      this(hashAlgo, leafSize, ForkJoinPool.commonPool());
+   }
+   
+   /**
+    * Creates a new tree hasher.
+    * 
+    * @param  hashAlgo
+    *         algorithm with which leaves and nodes are hashed.
+    * @param  leafSize
+    *         number of bytes in each leaf.
+    * @param  pool
+    *         pool on which leaves are hashed.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo or pool arguments are null, or if leafSize is
+    *         not a positive number.
+    * @throws NoSuchAlgorithmException
+    *         if the hashAlgo argument is not supported by the runtime.
+    */
+   public TreeHasher(HashAlgorithm hashAlgo, int leafSize, ForkJoinPool pool)
+      throws IllegalArgumentException, NoSuchAlgorithmException
+   {
+      if (null == hashAlgo) {
+         throw new IllegalArgumentException("null HashAlgorithm passed to TreeHasher");
+      }
+      if (leafSize <= 0) {
+         throw new IllegalArgumentException("leafSize must be a positive number");
+      }
+      if (null == pool) {
+         throw new IllegalArgumentException("null ForkJoinPool passed to TreeHasher");
+      }
+      
+      // Fail fast, rather than from within a pool thread.
+      hashAlgo.newMessageDigest();
+      
+      this.hashAlgo = hashAlgo;
+      this.leafSize = leafSize;
+      this.pool     = pool;
+   }
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+   
+   /**
+    * Get the algorithm with which leaves and nodes are hashed.
+    * 
+    * @return the algorithm with which leaves and nodes are hashed.
+    */
+   public HashAlgorithm getHashAlgo() {
+      return hashAlgo;
+   }
+   
+   /**
+    * Get the number of bytes in each leaf.
+    * 
+    * @return the number of bytes in each leaf.
+    */
+   public int getLeafSize() {
+      return leafSize;
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /**
+    * Generates a hexadecimal tree hash of a byte array.
+    * 
+    * @param  input
+    *         byte array to be hashed.
+    * @return hexadecimal root hash.
+    */
+   public String createHash(byte[] input) {
+      return HashGenerator.bytesToHex(createHashBytes(input));
+   }
+   
+   /**
+    * Generates a tree hash of a byte array.
+    * 
+    * @param  input
+    *         byte array to be hashed.
+    * @return root hash.
+    */
+   public byte[] createHashBytes(byte[] input) {
+      return createHashBytes(ByteBuffer.wrap(input));
+   }
+   
+   /**
+    * Generates a hexadecimal tree hash of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}.  Upon return, the buffer's position will be
+    * equal to its limit; its limit will not have been changed.
+    * 
+    * @param  input
+    *         buffer to be hashed.
+    * @return hexadecimal root hash.
+    */
+   public String createHash(ByteBuffer input) {
+      return HashGenerator.bytesToHex(createHashBytes(input));
+   }
+   
+   /**
+    * Generates a tree hash of the remaining bytes of a
+    * {@link java.nio.ByteBuffer}.  Upon return, the buffer's position will be
+    * equal to its limit; its limit will not have been changed.
+    * 
+    * @param  input
+    *         buffer to be hashed.
+    * @return root hash.
+    */
+   public byte[] createHashBytes(ByteBuffer input) {
+      final ByteBuffer source = input.slice();
+      byte[] root = hash(source.remaining(), new LeafSource() {
+         @Override
+         public ByteBuffer region(long offset, int length) {
+            ByteBuffer region = source.duplicate();
+            region.position((int) offset);
+            region.limit((int) offset + length);
+            return region;
+         }
+      });
+      input.position(input.limit());
+      return root;
+   }
+   
+   /**
+    * Generates a hexadecimal tree hash of the contents of a file.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return hexadecimal root hash.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    */
+   public String createHash(Path input) throws IOException {
+      return HashGenerator.bytesToHex(createHashBytes(input));
+   }
+   
+   /**
+    * Generates a tree hash of the contents of a file.  Each task memory-maps
+    * only the region of the file covering the leaves that it hashes.
+    * 
+    * @param  input
+    *         path of the file to be hashed.
+    * @return root hash.
+    * @throws IOException
+    *         if an I/O error occurs while opening, mapping or reading the
+    *         file.
+    */
+   public byte[] createHashBytes(Path input) throws IOException {
+      try (final FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+         return hash(channel.size(), new LeafSource() {
+            @Override
+            public ByteBuffer region(long offset, int length) throws IOException {
+               return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            }
+         });
+      } catch (LeafSourceException e) {
+         throw e.getCause();
+      }
+   }
+   
+   /**
+    * Hashes all of the leaves of the input in parallel and then combines
+    * them into the root hash.
+    */
+   private byte[] hash(long size, LeafSource source) {
+      long leafCount  = Math.max(1, (size + leafSize - 1) / leafSize);
+      if (leafCount > Integer.MAX_VALUE - 8) {
+         throw new IllegalArgumentException(
+               "input of " + size + " bytes has too many leaves of " + leafSize + " bytes");
+      }
+      
+      byte[][] nodes = new byte[(int) leafCount][];
+      
+      // Split finely enough to keep every thread of the pool busy, but never
+      // hash, or map, more than MAX_TASK_BYTES in a single task.
+      long targetTasks  = (long) pool.getParallelism() * TASKS_PER_THREAD;
+      long balanced     = (leafCount + targetTasks - 1) / targetTasks;
+      int leavesPerTask =
+            (int) Math.max(1, Math.min(balanced, MAX_TASK_BYTES / leafSize));
+      pool.invoke(new LeafTask(source, size, nodes, 0, nodes.length, leavesPerTask));
+      
+      return combine(nodes);
+   }
+   
+   /**
+    * Reduces the given leaf hashes, level by level, to the root hash.
+    */
+   private byte[] combine(byte[][] nodes) {
+      MessageDigest md = newDigest();
+      int count = nodes.length;
+      while (count > 1) {
+         int next = 0;
+         for (int i = 0; i < count; i += 2) {
+            if (i + 1 < count) {
+               md.update(NODE_PREFIX);
+               md.update(nodes[i]);
+               md.update(nodes[i + 1]);
+               nodes[next++] = md.digest();
+            } else {
+               nodes[next++] = nodes[i];
+            }
+         }
+         count = next;
+      }
+      return nodes[0];
+   }
+   
+   private MessageDigest newDigest() {
+      try {
+         return HashGenerator.getThreadLocalDigest(hashAlgo);
+      } catch (NoSuchAlgorithmException e) {
+         // Already verified to be available in the constructor.
+         throw new IllegalStateException(e);
+      }
+   }
+   
+   // -------------------------------------------------------------------------
+   // Nested Classes:
+   //
+   
+   /**
+    * Provides the regions of the input from which leaves are read.
+    */
+   private interface LeafSource {
+      
+      /**
+       * Returns a buffer whose remaining bytes are the given region of the
+       * input.
+       */
+      ByteBuffer region(long offset, int length) throws IOException;
+   }
+   
+   /**
+    * Carries an {@link java.io.IOException} thrown in a pool thread back to
+    * the calling thread.
+    */
+   private static class LeafSourceException extends RuntimeException {
+      
+      private static final long serialVersionUID = 1L;
+      
+      LeafSourceException(IOException cause) {
+         super(cause);
+      }
+      
+      @Override
+      public synchronized IOException getCause() {
+         return (IOException) super.getCause();
+      }
+   }
+   
+   /**
+    * Hashes a contiguous range of leaves, splitting it in half until each
+    * task covers at most <code>leavesPerTask</code> leaves.
+    */
+   private class LeafTask extends RecursiveAction {
+      
+      private static final long serialVersionUID = 1L;
+      
+      private final LeafSource source;
+      private final long size;
+      private final byte[][] leaves;
+      private final int from;
+      private final int to;
+      private final int leavesPerTask;
+      
+      LeafTask(LeafSource source, long size, byte[][] leaves,
+            int from, int to, int leavesPerTask)
+      {
+         this.source        = source;
+         this.size          = size;
+         this.leaves        = leaves;
+         this.from          = from;
+         this.to            = to;
+         this.leavesPerTask = leavesPerTask;
+      }
+      
+      @Override
+      protected void compute() {
+         if (to - from > leavesPerTask) {
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                  new LeafTask(source, size, leaves, from, mid, leavesPerTask),
+                  new LeafTask(source, size, leaves, mid, to, leavesPerTask));
+            return;
+         }
+         
+         long start = (long) from * leafSize;
+         long end   = Math.min((long) to * leafSize, size);
+         ByteBuffer region;
+         try {
+            region = source.region(start, (int) (end - start));
+         } catch (IOException e) {
+            throw new LeafSourceException(e);
+         }
+         
+         MessageDigest md = newDigest();
+         int regionLimit = region.limit();
+         for (int i = from; i < to; i++) {
+            region.limit(Math.min(region.position() + leafSize, regionLimit));
+            md.update(LEAF_PREFIX);
+            md.update(region);
+            leaves[i] = md.digest();
+         }
+      }
+   }
+}
@@ -0,0 +1,607 @@
+/**
+ * This software is released under the Revised BSD License.
+ * 
+ * Copyright (c) 2015, Ryan Chapin, http:www.ryanchapin.com       
+ * All rights reserved.                   
+ *                                                                     
+ * Redistribution  and  use  in  source  and binary forms, with or
+ * without modification, are permitted provided that the following
+ * conditions are met:
+ *                                                                     
+ * -   Redistributions  of  source  code  must  retain  the  above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer.
+ * 
+ * -  Redistributions  in  binary  form  must  reproduce the above
+ * copyright  notice,  this  list  of conditions and the following
+ * disclaimer in the documentation and or other materials provided
+ * with the distribution.
+ * 
+ * -  Neither  the  name  of  Ryan  Chapin  nor  the  names of its
+ * contributors may be used to endorse or promote products derived
+ * from this software without specific prior written permission.
+ *                                                                     
+ * THIS   SOFTWARE  IS  PROVIDED  BY  THE  COPYRIGHT  HOLDERS  AND
+ * CONTRIBUTORS  "AS  IS"  AND  ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING,  BUT  NOT  LIMITED  TO,  THE  IMPLIED  WARRANTIES OF
+ * MERCHANTABILITY  AND  FITNESS  FOR  A  PARTICULAR  PURPOSE  ARE
+ * DISCLAIMED.   IN   NO  EVENT  SHALL  RYAN  CHAPIN,  ANY  HEIRS,
+ * SUCCESSORS,  EXECUTORS AND OR ASSIGNS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT,  INCIDENTAL,  SPECIAL,  EXEMPLARY,  OR  CONSEQUENTIAL
+ * DAMAGES   (INCLUDING,   BUT  NOT  LIMITED  TO,  PROCUREMENT  OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS  INTERRUPTION)  HOWEVER  CAUSED  AND  ON ANY THEORY OF
+ * LIABILITY,  WHETHER  IN  CONTRACT,  STRICT  LIABILITY,  OR TORT
+ * (INCLUDING  NEGLIGENCE  OR OTHERWISE) ARISING IN ANY WAY OUT OF
+ * THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF
+ * SUCH DAMAGE. 
+ */
+
+package com.ryanchapin.util;
+
+import java.io.UnsupportedEncodingException;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+/**
+ * A {@link java.util.concurrent.Flow.Processor} that hashes each element
+ * published to it and publishes the {@link Digest} of each element, in the
+ * order in which the elements were received, to a single subscriber.  For
+ * example:
+ *    <blockquote><pre>
+ *    HashingProcessor&lt;String&gt; hashes =
+ *          HashingProcessor.forStrings(HashAlgorithm.SHA256SUM, "UTF-8");
+ *    events.subscribe(hashes);
+ *    hashes.subscribe(sink);
+ * </pre></blockquote>
+ * <p>
+ * Elements are hashed in micro-batches of up to <code>batchSize</code>
+ * elements on an {@link java.util.concurrent.Executor}, with up to
+ * <code>parallelism</code> batches being hashed at once.  Each batch is
+ * hashed by a single task with the {@link Hasher} of the executing thread,
+ * so that digest and scratch state is re-used across elements.  While fewer
+ * than <code>parallelism</code> batches are being hashed, a partial batch is
+ * dispatched immediately rather than waiting to be filled, so latency stays
+ * low when the stream is slow and batches grow when it is fast.
+ * <p>
+ * Elements are only requested from upstream to satisfy the demand of the
+ * downstream subscriber, and never more than
+ * <code>2 * parallelism * batchSize</code> elements are buffered or being
+ * hashed, so no unbounded buffer is needed between a fast publisher and a
+ * slow subscriber.
+ * <p>
+ * An exception thrown while hashing an element cancels the upstream
+ * subscription and is passed to the downstream subscriber's
+ * <code>onError</code>.  Errors, from upstream or from hashing, are passed
+ * on immediately, without first emitting the digests still buffered.
+ * <p>
+ * This class requires Java 9 or later, and is only built when the project
+ * is built with JDK 9 or later.
+ *
+ * @param   <T>
+ *          type of the elements hashed.
+ * @since   1.2.0
+ */
+public class HashingProcessor<T> implements Flow.Processor<T, Digest> {
+   
+   /**
+    * Default maximum number of elements hashed by a single task.
+    */
+   public static final int DEFAULT_BATCH_SIZE = 64;
+   
+   /**
+    * Adds the bytes of an element to a {@link Hasher}.
+    *
+    * @param   <T>
+    *          type of the elements hashed.
+    */
+   public interface ElementHasher<T> {
+      
+      /**
+       * Adds the bytes of the element to the data being hashed.
+       * 
+       * @param  hasher
+       *         session to be updated.
+       * @param  element
+       *         element to be hashed.
+       * @throws Exception
+       *         if the element cannot be encoded.
+       */
+      void update(Hasher hasher, T element) throws Exception;
+   }
+   
+   private final HashAlgorithm hashAlgo;
+   
+   private final ElementHasher<? super T> elementHasher;
+   
+   private final Executor executor;
+   
+   private final int parallelism;
+   
+   private final int batchSize;
+   
+   /**
+    * Maximum number of batches dispatched but not yet fully emitted.
+    */
+   private final int maxBatches;
+   
+   /**
+    * Per-thread session re-used by every batch hashed on that thread.
+    */
+   private final ThreadLocal<Hasher> threadLocalHasher = new ThreadLocal<Hasher>() {
+      @Override
+      protected Hasher initialValue() {
+         try {
+            return hashAlgo.newHasher();
+         } catch (NoSuchAlgorithmException e) {
+            // Checked by the constructor.
+            throw new IllegalStateException(e);
+         }
+      }
+   };
+   
+   // -- State shared with the upstream, downstream and worker threads.
+   
+   private final AtomicReference<Flow.Subscription> upstream =
+         new AtomicReference<Flow.Subscription>();
+   
+   private final AtomicReference<Flow.Subscriber<? super Digest>> downstream =
+         new AtomicReference<Flow.Subscriber<? super Digest>>();
+   
+   /**
+    * Elements received from upstream and not yet added to a batch.
+    */
+   private final Queue<T> inbox = new ConcurrentLinkedQueue<T>();
+   
+   /**
+    * Digests of hashed batches, keyed by batch sequence number, until they
+    * have been emitted.
+    */
+   private final Map<Long, Digest[]> results = new ConcurrentHashMap<Long, Digest[]>();
+   
+   /**
+    * Number of elements requested by downstream and not yet emitted.
+    */
+   private final AtomicLong demand = new AtomicLong();
+   
+   /**
+    * Number of batches currently being hashed.
+    */
+   private final AtomicInteger running = new AtomicInteger();
+   
+   /**
+    * Work-in-progress counter that serializes {@link #drain()}.
+    */
+   private final AtomicInteger wip = new AtomicInteger();
+   
+   private final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+   
+   private volatile boolean upstreamDone;
+   
+   private volatile boolean cancelled;
+   
+   // -- State only accessed by the thread running drain().
+   
+   private List<T> currentBatch;
+   
+   private long nextBatchSeq;
+   
+   private long nextEmitSeq;
+   
+   private int emitIndex;
+   
+   /**
+    * Batches dispatched and not yet fully emitted.
+    */
+   private int batchesInFlight;
+   
+   /**
+    * Elements dispatched and not yet emitted.
+    */
+   private long elementsInFlight;
+   
+   /**
+    * Elements requested from upstream and not yet taken from the inbox.
+    */
+   private long upstreamOutstanding;
+   
+   private boolean terminated;
+   
+   // -------------------------------------------------------------------------
+   // Constructors:
+   //
+   
+   /**
+    * Creates a new <code>HashingProcessor</code> that hashes on the common
+    * {@link java.util.concurrent.ForkJoinPool}, with one batch per available
+    * processor in flight and batches of {@link #DEFAULT_BATCH_SIZE}.
+    * 
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} to be used to generate the hashes.
+    * @param  elementHasher
+    *         adds the bytes of each element to the {@link Hasher}.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    * @throws IllegalArgumentException
+    *         if the hashAlgo or elementHasher argument is null.
+    */
+   public HashingProcessor(HashAlgorithm hashAlgo, ElementHasher<? super T> elementHasher)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      this(hashAlgo, elementHasher, ForkJoinPool.commonPool(),
+            Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_SIZE);
+   }
+   
+   /**
+    * Creates a new <code>HashingProcessor</code>.
+    * 
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} to be used to generate the hashes.
+    * @param  elementHasher
+    *         adds the bytes of each element to the {@link Hasher}.
+    * @param  executor
+    *         executor on which batches are hashed.
+    * @param  parallelism
+    *         maximum number of batches hashed at once.
+    * @param  batchSize
+    *         maximum number of elements hashed by a single task.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    * @throws IllegalArgumentException
+    *         if any argument is null, or parallelism or batchSize is less
+    *         than 1.
+    */
+   public HashingProcessor(HashAlgorithm hashAlgo, ElementHasher<? super T> elementHasher,
+         Executor executor, int parallelism, int batchSize)
+      throws NoSuchAlgorithmException, IllegalArgumentException
+   {
+      if (null == hashAlgo) {
+         throw new IllegalArgumentException("No hash algorithm was provided.");
+      }
+      if (null == elementHasher) {
+         throw new IllegalArgumentException("No element hasher was provided.");
+      }
+      if (null == executor) {
+         throw new IllegalArgumentException("No executor was provided.");
+      }
+      if (parallelism < 1 || batchSize < 1) {
+         throw new IllegalArgumentException("parallelism and batchSize must be at least 1, were "
+               + parallelism + " and " + batchSize);
+      }
+      hashAlgo.newMessageDigest();
+      
+      this.hashAlgo      = hashAlgo;
+      this.elementHasher = elementHasher;
+      this.executor      = executor;
+      this.parallelism   = parallelism;
+      this.batchSize     = batchSize;
+      this.maxBatches    = 2 * parallelism;
+      this.currentBatch  = new ArrayList<T>(batchSize);
+   }
+   
+   /**
+    * Creates a new <code>HashingProcessor</code> for Strings, hashing the
+    * bytes of each String in the given encoding.
+    * 
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} to be used to generate the hashes.
+    * @param  encoding
+    *         valid {@link java.nio.charset.Charset} to be used when
+    *         generating byte array from the
+    *         {@link java.lang.String#getBytes(String)} method.
+    * @return a new <code>HashingProcessor</code>.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    * @throws UnsupportedEncodingException
+    *         if the encoding <code>String</code> argument is not a valid
+    *         encoding.
+    */
+   public static HashingProcessor<String> forStrings(HashAlgorithm hashAlgo,
+         final String encoding) throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      "".getBytes(encoding);
+      return new HashingProcessor<String>(hashAlgo, new ElementHasher<String>() {
+         @Override
+         public void update(Hasher hasher, String element) throws Exception {
+            hasher.update(element, encoding);
+         }
+      });
+   }
+   
+   /**
+    * Creates a new <code>HashingProcessor</code> for byte arrays.
+    * 
+    * @param  hashAlgo
+    *         {@link HashAlgorithm} to be used to generate the hashes.
+    * @return a new <code>HashingProcessor</code>.
+    * @throws NoSuchAlgorithmException
+    *         if no provider supports the algorithm.
+    */
+   public static HashingProcessor<byte[]> forByteArrays(HashAlgorithm hashAlgo)
+      throws NoSuchAlgorithmException
+   {
+      return new HashingProcessor<byte[]>(hashAlgo, new ElementHasher<byte[]>() {
+         @Override
+         public void update(Hasher hasher, byte[] element) {
+            hasher.update(element);
+         }
+      });
+   }
+   
+   // -------------------------------------------------------------------------
+   // Accessor/Mutators:
+   //
+   
+   /**
+    * Get the hash algorithm of this processor.
+    * 
+    * @return  the hash algorithm of this processor.
+    */
+   public HashAlgorithm getHashAlgo() {
+      return hashAlgo;
+   }
+   
+   // -------------------------------------------------------------------------
+   // Flow.Processor:
+   //
+   
+   /**
+    * Subscribes the single downstream subscriber.  Any further subscriber
+    * is immediately signalled an {@link IllegalStateException}.
+    */
+   @Override
+   public void subscribe(Flow.Subscriber<? super Digest> subscriber) {
+      if (null == subscriber) {
+         throw new NullPointerException("subscriber");
+      }
+      if (!downstream.compareAndSet(null, subscriber)) {
+         subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+            
+            @Override
+            public void cancel() {
+            }
+         });
+         subscriber.onError(new IllegalStateException(
+               "HashingProcessor supports only one subscriber."));
+         return;
+      }
+      subscriber.onSubscribe(new Flow.Subscription() {
+         @Override
+         public void request(long n) {
+            if (n <= 0) {
+               fail(new IllegalArgumentException(
+                     "Non-positive request of " + n + " elements."));
+               return;
+            }
+            addDemand(n);
+            drain();
+         }
+         
+         @Override
+         public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+         }
+      });
+      drain();
+   }
+   
+   @Override
+   public void onSubscribe(Flow.Subscription subscription) {
+      if (!upstream.compareAndSet(null, subscription)) {
+         subscription.cancel();
+         return;
+      }
+      if (cancelled) {
+         subscription.cancel();
+         return;
+      }
+      drain();
+   }
+   
+   @Override
+   public void onNext(T item) {
+      if (null == item) {
+         throw new NullPointerException("item");
+      }
+      inbox.offer(item);
+      drain();
+   }
+   
+   @Override
+   public void onError(Throwable throwable) {
+      error.compareAndSet(null, throwable);
+      drain();
+   }
+   
+   @Override
+   public void onComplete() {
+      upstreamDone = true;
+      drain();
+   }
+   
+   // -------------------------------------------------------------------------
+   // Member Methods:
+   //
+   
+   /**
+    * Emits hashed elements in order, batches and dispatches received
+    * elements, requests more elements from upstream and signals termination.
+    * Runs on whichever thread signals new work, but never concurrently with
+    * itself.
+    */
+   private void drain() {
+      if (wip.getAndIncrement() != 0) {
+         return;
+      }
+      int missed = 1;
+      do {
+         Flow.Subscriber<? super Digest> subscriber = downstream.get();
+         if (terminated) {
+            inbox.clear();
+         } else if (cancelled) {
+            terminated = true;
+            inbox.clear();
+            currentBatch.clear();
+            results.clear();
+         } else if (null != subscriber) {
+            drainTo(subscriber);
+         }
+         missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+   }
+   
+   private void drainTo(Flow.Subscriber<? super Digest> subscriber) {
+      Throwable failure = error.get();
+      if (null != failure) {
+         terminated = true;
+         cancelUpstream();
+         inbox.clear();
+         results.clear();
+         subscriber.onError(failure);
+         return;
+      }
+      
+      // Emit, in order, the digests of hashed batches.
+      Digest[] ready = results.get(nextEmitSeq);
+      while (null != ready && demand.get() > 0) {
+         Digest digest = ready[emitIndex++];
+         demand.decrementAndGet();
+         elementsInFlight--;
+         if (emitIndex == ready.length) {
+            results.remove(nextEmitSeq++);
+            batchesInFlight--;
+            emitIndex = 0;
+            ready = results.get(nextEmitSeq);
+         }
+         subscriber.onNext(digest);
+         if (cancelled) {
+            return;
+         }
+      }
+      
+      // Batch received elements and dispatch full batches.
+      T item;
+      while (batchesInFlight < maxBatches && null != (item = inbox.poll())) {
+         upstreamOutstanding--;
+         currentBatch.add(item);
+         if (currentBatch.size() == batchSize) {
+            dispatch();
+         }
+      }
+      // Dispatch a partial batch if nothing more is coming, or if a worker
+      // would otherwise be idle.
+      if (!currentBatch.isEmpty() && batchesInFlight < maxBatches
+            && (upstreamOutstanding <= 0 || upstreamDone || running.get() < parallelism))
+      {
+         dispatch();
+      }
+      
+      if (upstreamDone && inbox.isEmpty() && currentBatch.isEmpty() && 0 == elementsInFlight) {
+         terminated = true;
+         subscriber.onComplete();
+         return;
+      }
+      
+      // Request only what downstream wants, bounded by the buffer capacity.
+      Flow.Subscription subscription = upstream.get();
+      if (null != subscription && !upstreamDone) {
+         long pipeline = elementsInFlight + currentBatch.size() + upstreamOutstanding;
+         long capacity = (long) maxBatches * batchSize;
+         long want = Math.min(capacity, demand.get()) - pipeline;
+         if (want > 0) {
+            upstreamOutstanding += want;
+            subscription.request(want);
+         }
+      }
+   }
+   
+   /**
+    * Submits the current batch to the executor.
+    */
+   private void dispatch() {
+      final List<T> batch = currentBatch;
+      final long seq = nextBatchSeq++;
+      currentBatch = new ArrayList<T>(batchSize);
+      batchesInFlight++;
+      elementsInFlight += batch.size();
+      running.incrementAndGet();
+      try {
+         executor.execute(new Runnable() {
+            @Override
+            public void run() {
+               hashBatch(seq, batch);
+            }
+         });
+      } catch (RuntimeException e) {
+         running.decrementAndGet();
+         error.compareAndSet(null, e);
+         // Re-run the drain loop, which is running this method, to
+         // signal the error.
+         drain();
+      }
+   }
+   
+   private void hashBatch(long seq, List<T> batch) {
+      Digest[] digests = new Digest[batch.size()];
+      try {
+         Hasher hasher = threadLocalHasher.get();
+         try {
+            for (int i = 0; i < digests.length; i++) {
+               elementHasher.update(hasher, batch.get(i));
+               digests[i] = hasher.finishDigest();
+            }
+            // Only complete batches are published; a failed batch is
+            // signalled through error, so drain never emits a null digest.
+            results.put(seq, digests);
+         } catch (Throwable t) {
+            hasher.reset();
+            error.compareAndSet(null, t);
+         }
+      } finally {
+         running.decrementAndGet();
+         drain();
+      }
+   }
+   
+   private void addDemand(long n) {
+      long current;
+      long next;
+      do {
+         current = demand.get();
+         next    = current + n;
+         if (next < 0) {
+            next = Long.MAX_VALUE;
+         }
+      } while (!demand.compareAndSet(current, next));
+   }
+   
+   private void fail(Throwable throwable) {
+      error.compareAndSet(null, throwable);
+      drain();
+   }
+   
+   private void cancelUpstream() {
+      Flow.Subscription subscription = upstream.get();
+      if (null != subscription) {
+         subscription.cancel();
+      }
+   }
+}
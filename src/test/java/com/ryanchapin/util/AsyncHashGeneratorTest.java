@@ -0,0 +1,179 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.file.Files;
+import java.security.Security;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class AsyncHashGeneratorTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHashGeneratorTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Rule
+   public TemporaryFolder tempFolder = new TemporaryFolder();
+
+   @Test
+   public void shouldMatchSynchronousHashes() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      byte[] contents = new byte[300000];
+      new Random(42).nextBytes(contents);
+      File file = tempFolder.newFile();
+      Files.write(file.toPath(), contents);
+      char[] chars = "a secret".toCharArray();
+
+      try (AsyncHashGenerator async = new AsyncHashGenerator(algo)) {
+         CompletableFuture<String> string = async.createHash("a large document", "UTF-8");
+         CompletableFuture<Digest> charDigest = async.createDigest(chars);
+         CompletableFuture<String> stream = async.createHash(new ByteArrayInputStream(contents));
+         CompletableFuture<String> path = async.createHash(file.toPath());
+         CompletableFuture<Digest> window = async.createDigest(file.toPath(), 4096);
+
+         String fileHash = HashGenerator.createHash(file.toPath(), algo);
+         assertEquals(HashGenerator.createHash("a large document", "UTF-8", algo), string.get());
+         assertEquals(HashGenerator.createDigest(chars, algo), charDigest.get());
+         assertEquals(fileHash, stream.get());
+         assertEquals(fileHash, path.get());
+         assertEquals(fileHash, window.get().toHex());
+      }
+   }
+
+   @Test
+   public void shouldReuseAtMostMaxInFlightGenerators() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // A new thread per task, as with virtual threads, so nothing can be
+      // re-used per thread.
+      Executor threadPerTask = new Executor() {
+         @Override
+         public void execute(Runnable command) {
+            new Thread(command).start();
+         }
+      };
+      int maxInFlight = 2;
+      Security.addProvider(new DigestProvidersTest.TestProvider());
+      DigestProviders.setPreferredProviders(DigestProvidersTest.TEST_PROVIDER_NAME);
+      try (AsyncHashGenerator async =
+            new AsyncHashGenerator(HashAlgorithm.SHA256SUM, threadPerTask, maxInFlight))
+      {
+         DigestProvidersTest.CREATED.set(0);
+         for (int i = 0; i < 50; i++) {
+            CompletableFuture<String> first = async.createHash("first " + i, "UTF-8");
+            CompletableFuture<String> second = async.createHash("second " + i, "UTF-8");
+            assertEquals(HashGenerator.createHash("first " + i, "UTF-8", HashAlgorithm.SHA256SUM),
+                  first.get());
+            assertEquals(HashGenerator.createHash("second " + i, "UTF-8", HashAlgorithm.SHA256SUM),
+                  second.get());
+         }
+         // The calling thread's static digest accounts for one more.
+         assertTrue(DigestProvidersTest.CREATED.get() <= maxInFlight + 1);
+      } finally {
+         DigestProviders.setPreferredProviders();
+         HashGenerator.releaseThreadLocalState();
+         Security.removeProvider(DigestProvidersTest.TEST_PROVIDER_NAME);
+      }
+   }
+
+   @Test
+   public void shouldRejectWhenMaxInFlightReached() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      final CountDownLatch release = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+         // Occupy both permits with streams that block until released.
+         AsyncHashGenerator async = new AsyncHashGenerator(HashAlgorithm.SHA1SUM, executor, 2);
+         CompletableFuture<String> first  = async.createHash(new BlockingInputStream(release));
+         CompletableFuture<String> second = async.createHash(new BlockingInputStream(release));
+         assertEquals(2, async.getInFlight());
+
+         CompletableFuture<String> third = async.createHash("rejected", "UTF-8");
+         assertTrue(third.isCompletedExceptionally());
+         try {
+            third.get();
+            fail("Expected a RejectedExecutionException");
+         } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+         }
+
+         release.countDown();
+         String emptyHash = HashGenerator.createHash("", "UTF-8", HashAlgorithm.SHA1SUM);
+         assertEquals(emptyHash, first.get());
+         assertEquals(emptyHash, second.get());
+         assertEquals(HashGenerator.createHash("accepted", "UTF-8", HashAlgorithm.SHA1SUM),
+               async.createHash("accepted", "UTF-8").get());
+         assertEquals(0, async.getInFlight());
+         async.close();
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void shouldCompleteExceptionallyWithHashingException() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      try (AsyncHashGenerator async = new AsyncHashGenerator(HashAlgorithm.MD5SUM)) {
+         async.createHash("text", "NOT-A-CHARSET").get();
+         fail("Expected an UnsupportedEncodingException");
+      } catch (ExecutionException e) {
+         assertTrue(e.getCause() instanceof UnsupportedEncodingException);
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForNullAlgorithm() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      new AsyncHashGenerator(null);
+   }
+
+   /**
+    * Empty stream whose first read blocks until the latch is released.
+    */
+   private static final class BlockingInputStream extends InputStream {
+
+      private final CountDownLatch release;
+
+      private BlockingInputStream(CountDownLatch release) {
+         this.release = release;
+      }
+
+      @Override
+      public int read() {
+         try {
+            release.await();
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+         }
+         return -1;
+      }
+   }
+}
@@ -0,0 +1,157 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class Blake3Test {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(Blake3Test.class);
+
+   private static final String KEY = "whats the Elvish word for friend";
+
+   private static final String CONTEXT = "BLAKE3 2019-12-27 16:29:52 test vectors context";
+
+   /**
+    * Input lengths, in the format of the official BLAKE3 test vectors, and
+    * the expected hash, keyed hash and derived key for each.
+    */
+   private static final Object[][] VECTORS = {
+      {0,
+         "af1349b9f5f9a1a6a0404dea36dcc9499bcb25c9adc112b7cc9a93cae41f3262",
+         "92b2b75604ed3c761f9d6f62392c8a9227ad0ea3f09573e783f1498a4ed60d26",
+         "2cc39783c223154fea8dfb7c1b1660f2ac2dcbd1c1de8277b0b0dd39b7e50d7d"},
+      {1025,
+         "d00278ae47eb27b34faecf67b4fe263f82d5412916c1ffd97c8cb7fb814b8444",
+         "357dc55de0c7e382c900fd6e320acc04146be01db6a8ce7210b7189bd664ea69",
+         "effaa245f065fbf82ac186839a249707c3bddf6d3fdda22d1b95a3c970379bcb"},
+      {131073,
+         "f837d4254d24ba3d50fe3743d46e4af6db5f5d6ab0469197d94e7ba1e906c4d8",
+         "a904833ff34d5679c332d6c30378bf7b4b4321f8fea0fa3ef87551ba2240f512",
+         "35642829f0352374826790a97ce9266465299f4e65e400400ac810c617f245b2"},
+   };
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Rule
+   public TemporaryFolder tempFolder = new TemporaryFolder();
+
+   @Test
+   public void shouldMatchTestVectors() throws UnsupportedEncodingException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] key = KEY.getBytes("UTF-8");
+      for (Object[] vector : VECTORS) {
+         byte[] input = buildInput((Integer) vector[0]);
+
+         assertEquals("Hash of " + vector[0] + " bytes", vector[1],
+               HashGenerator.bytesToHex(new Blake3().digest(input)));
+
+         Blake3 keyed = Blake3.newKeyedInstance(key);
+         keyed.update(input);
+         assertEquals("Keyed hash of " + vector[0] + " bytes", vector[2],
+               HashGenerator.bytesToHex(keyed.digest()));
+
+         Blake3 derive = Blake3.newDeriveKeyInstance(CONTEXT);
+         derive.update(input);
+         assertEquals("Derived key of " + vector[0] + " bytes", vector[3],
+               HashGenerator.bytesToHex(derive.digest()));
+      }
+   }
+
+   @Test
+   public void shouldProduceExtendableOutput() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Blake3 blake3 = new Blake3();
+      byte[] xof = blake3.digest(131);
+      assertEquals("159b402631f277ca96f2defdf1078282314e763699a31c5363165421cce14d",
+            HashGenerator.bytesToHex(xof).substring(200));
+      assertArrayEquals("The first 32 bytes of output should be the hash",
+            blake3.digest(), Arrays.copyOf(xof, Blake3.OUT_LEN));
+   }
+
+   @Test
+   public void shouldNotDependOnHowInputIsSplit() throws CloneNotSupportedException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] input = buildInput(3 * Blake3.PARALLEL_THRESHOLD + 4099);
+      byte[] expected = new Blake3().digest(input);
+
+      int[] pieceSizes = {1, 63, 64, 1000, 1024, 1025, 8192, Blake3.PARALLEL_THRESHOLD + 1};
+      for (int pieceSize : pieceSizes) {
+         Blake3 blake3 = new Blake3();
+         for (int pos = 0; pos < input.length; pos += pieceSize) {
+            blake3.update(input, pos, Math.min(pieceSize, input.length - pos));
+         }
+         assertArrayEquals("Hash with updates of " + pieceSize + " bytes",
+               expected, blake3.digest());
+      }
+
+      Blake3 direct = new Blake3();
+      ByteBuffer buffer = ByteBuffer.allocateDirect(input.length);
+      buffer.put(input).flip();
+      direct.update(buffer);
+      assertArrayEquals("Hash of a direct buffer", expected, direct.digest());
+
+      Blake3 original = new Blake3();
+      original.update(input, 0, 5000);
+      Blake3 copy = (Blake3) original.clone();
+      original.update(input, 5000, input.length - 5000);
+      copy.update(input, 5000, input.length - 5000);
+      assertArrayEquals("Clone should hash independently", expected, copy.digest());
+      assertArrayEquals(expected, original.digest());
+   }
+
+   @Test
+   public void shouldBeAvailableThroughHashGenerator()
+         throws NoSuchAlgorithmException, IOException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      assertEquals("6437b3ac38465133ffb63b75273a8db548c558465d79db03fd359c6cd5bd9d85",
+            HashGenerator.createHash("abc", "UTF-8", HashAlgorithm.BLAKE3));
+
+      byte[] input = buildInput(200000);
+      String expected = HashGenerator.bytesToHex(new Blake3().digest(input));
+      Path file = tempFolder.newFile().toPath();
+      Files.write(file, input);
+      assertEquals(expected, HashGenerator.createHash(file, HashAlgorithm.BLAKE3));
+      assertEquals(expected, new HashGenerator(HashAlgorithm.BLAKE3).createHash(file, 4096));
+      assertEquals(expected, HashAlgorithm.BLAKE3.newHasher().update(input).finish());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnForShortKey() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      Blake3.newKeyedInstance(new byte[16]);
+   }
+
+   /**
+    * Builds input in the format of the official BLAKE3 test vectors.
+    */
+   private static byte[] buildInput(int length) {
+      byte[] input = new byte[length];
+      for (int i = 0; i < length; i++) {
+         input[i] = (byte) (i % 251);
+      }
+      return input;
+   }
+}
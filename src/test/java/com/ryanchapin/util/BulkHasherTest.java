@@ -0,0 +1,115 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class BulkHasherTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(BulkHasherTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchHashGeneratorForLongs() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      long[] input = new long[20000];
+      Random random = new Random(42);
+      for (int i = 0; i < input.length; i++) {
+         input[i] = random.nextLong();
+      }
+
+      ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         for (HashAlgorithm algo : new HashAlgorithm[] {HashAlgorithm.MD5SUM,
+               HashAlgorithm.SHA256SUM, HashAlgorithm.BLAKE3}) {
+            BulkHasher bulk = new BulkHasher(algo, pool);
+            int digestLength = bulk.getDigestLength();
+            String[] hashes = bulk.createHashes(input);
+            byte[] packed = new byte[3 + input.length * digestLength];
+            assertEquals(input.length * digestLength, bulk.writeHashes(input, packed, 3));
+            long[] fingerprints = bulk.createFingerprints(input);
+
+            for (int i = 0; i < input.length; i++) {
+               String expected = HashGenerator.createHash(input[i], algo);
+               assertEquals(expected, hashes[i]);
+               assertEquals(expected,
+                     HexEncoder.encode(packed, 3 + i * digestLength, digestLength));
+               assertEquals(ByteBuffer.wrap(packed, 3 + i * digestLength, 8).getLong(),
+                     fingerprints[i]);
+            }
+         }
+      } finally {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void shouldMatchHashGeneratorForStrings() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      List<String> input = new ArrayList<String>();
+      for (int i = 0; i < 5000; i++) {
+         input.add("user-" + i + "@example.com");
+      }
+      HashAlgorithm algo = HashAlgorithm.SHA1SUM;
+      BulkHasher bulk = new BulkHasher(algo);
+
+      String[] hashes = bulk.createHashes(input, "UTF-8");
+      String[] fromArray = bulk.createHashes(input.toArray(new String[0]), "UTF-8");
+      String[] fromLinked = bulk.createHashes(new LinkedList<String>(input), "UTF-8");
+      byte[] packed = new byte[input.size() * bulk.getDigestLength()];
+      bulk.writeHashes(input, "UTF-8", packed, 0);
+      long[] fingerprints = bulk.createFingerprints(input, "UTF-8");
+
+      for (int i = 0; i < input.size(); i++) {
+         String expected = HashGenerator.createHash(input.get(i), "UTF-8", algo);
+         assertEquals(expected, hashes[i]);
+         assertEquals(expected, fromArray[i]);
+         assertEquals(expected, fromLinked[i]);
+         assertEquals(ByteBuffer.wrap(packed, i * 20, 8).getLong(), fingerprints[i]);
+      }
+      assertArrayEquals(new String[0], bulk.createHashes(new String[0], "UTF-8"));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForShortOutput() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      BulkHasher bulk = new BulkHasher(HashAlgorithm.SHA256SUM);
+      bulk.writeHashes(new long[] {1, 2}, new byte[63], 0);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForNullAlgorithm() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      new BulkHasher(null);
+   }
+
+   @Test
+   public void shouldHandleEmptyInput() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      BulkHasher bulk = new BulkHasher(HashAlgorithm.SHA512SUM);
+      assertEquals(0, bulk.createHashes(new long[0]).length);
+      assertEquals(0, bulk.createFingerprints(Arrays.<String>asList(), "UTF-8").length);
+   }
+}
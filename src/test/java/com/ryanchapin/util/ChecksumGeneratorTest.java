@@ -0,0 +1,164 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.ChecksumGenerator.ChecksumAlgorithm;
+
+public class ChecksumGeneratorTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(ChecksumGeneratorTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Rule
+   public TemporaryFolder tempFolder = new TemporaryFolder();
+
+   @Test
+   public void shouldMatchCheckValues() throws IOException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // The standard check values of each algorithm for "123456789".
+      assertEquals(0xCBF43926L,
+            ChecksumGenerator.createChecksum("123456789", "US-ASCII", ChecksumAlgorithm.CRC32));
+      assertEquals(0xE3069283L,
+            ChecksumGenerator.createChecksum("123456789", "US-ASCII", ChecksumAlgorithm.CRC32C));
+      assertEquals(0x091E01DEL,
+            ChecksumGenerator.createChecksum("123456789", "US-ASCII", ChecksumAlgorithm.ADLER32));
+      assertEquals(0xE3069283L, checksum(new Crc32c(), "123456789".getBytes("US-ASCII")));
+   }
+
+   @Test
+   public void shouldMatchJdkChecksums() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Random random = new Random(42);
+      for (int length : new int[] {0, 1, 7, 8, 9, 63, 64, 1000, 65537}) {
+         byte[] input = new byte[length];
+         random.nextBytes(input);
+         assertEquals(checksum(new CRC32(), input),
+               ChecksumGenerator.createChecksum(input, ChecksumAlgorithm.CRC32));
+         assertEquals(checksum(new Adler32(), input),
+               ChecksumGenerator.createChecksum(input, ChecksumAlgorithm.ADLER32));
+         assertEquals(checksum(ChecksumAlgorithm.CRC32C.newChecksum(), input),
+               checksum(new Crc32c(), input));
+         if (length > 2) {
+            Checksum expected = new Crc32c();
+            expected.update(input, 1, length - 2);
+            assertEquals(expected.getValue(), ChecksumGenerator.createChecksum(input, 1,
+                  length - 2, ChecksumAlgorithm.CRC32C));
+         }
+      }
+   }
+
+   @Test
+   public void shouldChecksumPrimitivesAsBigEndianBytes() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Random random = new Random(42);
+      for (int n = 0; n < 100; n++) {
+         long v = random.nextLong();
+         for (ChecksumAlgorithm algo : ChecksumAlgorithm.values()) {
+            assertEquals(ChecksumGenerator.createChecksum(new byte[] {(byte) v}, algo),
+                  ChecksumGenerator.createChecksum((byte) v, algo));
+            assertEquals(ChecksumGenerator.createChecksum(
+                  ByteBuffer.allocate(2).putChar((char) v).array(), algo),
+                  ChecksumGenerator.createChecksum((char) v, algo));
+            assertEquals(ChecksumGenerator.createChecksum(
+                  ByteBuffer.allocate(2).putShort((short) v).array(), algo),
+                  ChecksumGenerator.createChecksum((short) v, algo));
+            assertEquals(ChecksumGenerator.createChecksum(
+                  ByteBuffer.allocate(4).putInt((int) v).array(), algo),
+                  ChecksumGenerator.createChecksum((int) v, algo));
+            assertEquals(ChecksumGenerator.createChecksum(
+                  ByteBuffer.allocate(8).putLong(v).array(), algo),
+                  ChecksumGenerator.createChecksum(v, algo));
+            float f = Float.intBitsToFloat((int) v);
+            assertEquals(ChecksumGenerator.createChecksum(
+                  ByteBuffer.allocate(4).putFloat(f).array(), algo),
+                  ChecksumGenerator.createChecksum(f, algo));
+            double d = Double.longBitsToDouble(v);
+            assertEquals(ChecksumGenerator.createChecksum(
+                  ByteBuffer.allocate(8).putDouble(d).array(), algo),
+                  ChecksumGenerator.createChecksum(d, algo));
+         }
+      }
+   }
+
+   @Test
+   public void shouldChecksumBuffersStreamsAndFiles() throws IOException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] input = new byte[100000];
+      new Random(7).nextBytes(input);
+      char[] chars = new char[3000];
+      for (int i = 0; i < chars.length; i++) {
+         chars[i] = (char) (i * 31);
+      }
+      byte[] charBytes = new byte[chars.length * 2];
+      ByteBuffer.wrap(charBytes).asCharBuffer().put(chars);
+
+      File file = tempFolder.newFile();
+      Files.write(file.toPath(), input);
+      File empty = tempFolder.newFile();
+
+      for (ChecksumAlgorithm algo : ChecksumAlgorithm.values()) {
+         long expected = ChecksumGenerator.createChecksum(input, algo);
+
+         ByteBuffer direct = ByteBuffer.allocateDirect(input.length);
+         direct.put(input).flip();
+         assertEquals(expected, ChecksumGenerator.createChecksum(direct, algo));
+         assertEquals(0, direct.remaining());
+         assertEquals(expected, ChecksumGenerator.createChecksum(ByteBuffer.wrap(input), algo));
+
+         assertEquals(expected,
+               ChecksumGenerator.createChecksum(new ByteArrayInputStream(input), algo));
+         assertEquals(expected, ChecksumGenerator.createChecksum(
+               Channels.newChannel(new ByteArrayInputStream(input)), algo));
+         assertEquals(expected, ChecksumGenerator.createChecksum(file.toPath(), algo));
+         assertEquals(ChecksumGenerator.createChecksum(new byte[0], algo),
+               ChecksumGenerator.createChecksum(empty.toPath(), algo));
+
+         assertEquals(ChecksumGenerator.createChecksum(charBytes, algo),
+               ChecksumGenerator.createChecksum(chars, algo));
+      }
+
+      ByteBuffer direct = ByteBuffer.allocateDirect(input.length);
+      direct.put(input).flip();
+      Checksum crc32c = new Crc32c();
+      crc32c.update(input, 0, input.length);
+      Crc32c fromBuffer = new Crc32c();
+      fromBuffer.update(direct);
+      assertEquals(crc32c.getValue(), fromBuffer.getValue());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForNullAlgorithm() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      ChecksumGenerator.createChecksum(new byte[] {1, 2, 3}, null);
+   }
+
+   private static long checksum(Checksum checksum, byte[] input) {
+      checksum.update(input, 0, input.length);
+      return checksum.getValue();
+   }
+}
@@ -0,0 +1,132 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class ConcurrentHashGeneratorTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentHashGeneratorTest.class);
+
+   private static final int NUM_THREADS = 8;
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchStaticMethodsFromManyThreads() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      final ConcurrentHashGenerator generator =
+            new ConcurrentHashGenerator(HashAlgorithm.SHA256SUM);
+      final CountDownLatch start = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+      try {
+         List<Future<Void>> futures = new ArrayList<Future<Void>>();
+         for (int t = 0; t < NUM_THREADS; t++) {
+            final int seed = t;
+            futures.add(executor.submit(new Callable<Void>() {
+               @Override
+               public Void call() throws Exception {
+                  start.await();
+                  byte[] output = new byte[32];
+                  for (int i = seed; i < 4000; i += NUM_THREADS) {
+                     HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+                     assertEquals(HashGenerator.createHash(i, algo), generator.createHash(i));
+                     assertEquals(HashGenerator.createHash((long) i * 31, algo),
+                           generator.createHash((long) i * 31));
+                     assertEquals(HashGenerator.createHash("id-" + i, "UTF-8", algo),
+                           generator.createHash("id-" + i, "UTF-8"));
+                     assertEquals(HashGenerator.createDigest((double) i, algo),
+                           generator.createDigest((double) i));
+                     generator.writeHash((short) i, output, 0);
+                     assertEquals(HashGenerator.createHash((short) i, algo),
+                           HashGenerator.bytesToHex(output));
+                  }
+                  return null;
+               }
+            }));
+         }
+         start.countDown();
+         for (Future<Void> future : futures) {
+            future.get();
+         }
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void shouldApplySettingsToAllThreads() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      final ConcurrentHashGenerator generator = new ConcurrentHashGenerator(HashAlgorithm.MD5SUM);
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+         Callable<String> task = new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+               return generator.createHash(42L);
+            }
+         };
+         assertEquals(HashGenerator.createHash(42L, HashAlgorithm.MD5SUM),
+               executor.submit(task).get());
+
+         generator.setHashAlgo(HashAlgorithm.SHA512SUM);
+         assertEquals(HashGenerator.createHash(42L, HashAlgorithm.SHA512SUM),
+               executor.submit(task).get());
+         assertEquals(HashGenerator.createHash(42L, HashAlgorithm.SHA512SUM),
+               generator.createHash(42L));
+
+         generator.setUsePrecomputedHashes(true);
+         assertEquals(HashGenerator.createHash('c', HashAlgorithm.SHA512SUM),
+               generator.createHash('c'));
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void shouldHashStreamsAndBuffers() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      ConcurrentHashGenerator generator = new ConcurrentHashGenerator(HashAlgorithm.SHA1SUM);
+      byte[] input = "The quick brown fox".getBytes("UTF-8");
+      assertEquals(HashGenerator.createHash(new ByteArrayInputStream(input), HashAlgorithm.SHA1SUM),
+            generator.createHash(new ByteArrayInputStream(input)));
+
+      ByteBuffer output = ByteBuffer.allocate(20);
+      generator.writeHash(7, output);
+      assertEquals(HashGenerator.createHash(7, HashAlgorithm.SHA1SUM),
+            HashGenerator.bytesToHex(output.array()));
+
+      ByteBuffer buffer = ByteBuffer.wrap(input);
+      generator.setPreserveBufferPosition(true);
+      assertEquals(HashGenerator.createHash(ByteBuffer.wrap(input), HashAlgorithm.SHA1SUM),
+            generator.createHash(buffer));
+      assertEquals("Buffer position was changed", 0, buffer.position());
+   }
+
+   @Test(expected = IllegalStateException.class)
+   public void shouldThrowIllegalStateExceptionWithoutAlgorithm() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      new ConcurrentHashGenerator().createHash(1);
+   }
+}
@@ -0,0 +1,165 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.DataType;
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+import com.ryanchapin.util.HashGeneratorTest.HashTestData;
+
+public class DigestProvidersTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(DigestProvidersTest.class);
+
+   static final String TEST_PROVIDER_NAME = "HashGeneratorTestProvider";
+
+   /**
+    * Number of digests created by the test provider.
+    */
+   static final AtomicInteger CREATED = new AtomicInteger();
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Before
+   public void setUp() {
+      Security.addProvider(new TestProvider());
+      CREATED.set(0);
+   }
+
+   @After
+   public void tearDown() {
+      DigestProviders.setPreferredProviders();
+      HashGenerator.releaseThreadLocalState();
+      Security.removeProvider(TEST_PROVIDER_NAME);
+   }
+
+   @Test
+   public void shouldUseFirstInstalledPreferredProvider() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      DigestProviders.setPreferredProviders("NotInstalledProvider", TEST_PROVIDER_NAME);
+      assertEquals(TEST_PROVIDER_NAME,
+            HashAlgorithm.SHA256SUM.newMessageDigest().getProvider().getName());
+      assertEquals(TEST_PROVIDER_NAME,
+            HashAlgorithm.MD5SUM.newMessageDigest().getProvider().getName());
+
+      // The test provider does not support SHA-1.
+      assertEquals(MessageDigest.getInstance("SHA-1").getProvider().getName(),
+            HashAlgorithm.SHA1SUM.newMessageDigest().getProvider().getName());
+   }
+
+   @Test
+   public void shouldMatchTestVectorsThroughPreferredProvider() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      DigestProviders.setPreferredProviders(TEST_PROVIDER_NAME);
+      HashGenerator.releaseThreadLocalState();
+      List<HashTestData<? extends Object>> testData =
+            HashGeneratorTestData.testDataMap.get(DataType.STRING);
+      for (HashTestData<? extends Object> htd : testData) {
+         assertEquals(htd.getAlgo() + " " + htd.getData(), htd.getHash(),
+               HashGenerator.createHash((String) htd.getData(),
+                     HashGeneratorTest.DEFAULT_CHAR_ENCODING, htd.getAlgo()));
+         assertEquals(htd.getAlgo() + " " + htd.getData(), htd.getHash(),
+               new HashGenerator(htd.getAlgo()).createHash((String) htd.getData(),
+                     HashGeneratorTest.DEFAULT_CHAR_ENCODING));
+      }
+      assertTrue("The preferred provider was not used", CREATED.get() > 0);
+   }
+
+   @Test
+   public void shouldRestoreDefaultProviderOrder() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      DigestProviders.setPreferredProviders(TEST_PROVIDER_NAME);
+      DigestProviders.setPreferredProviders();
+      assertTrue(DigestProviders.getPreferredProviders().isEmpty());
+      assertEquals(MessageDigest.getInstance("SHA-256").getProvider().getName(),
+            HashAlgorithm.SHA256SUM.newMessageDigest().getProvider().getName());
+      assertEquals(0, CREATED.get());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenPassedNullProviderName() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      DigestProviders.setPreferredProviders(TEST_PROVIDER_NAME, null);
+   }
+
+   /**
+    * Provider of SHA-256 and MD5 digests that delegate to the JVM's default
+    * implementations, standing in for a natively backed provider.
+    */
+   public static class TestProvider extends Provider {
+      private static final long serialVersionUID = 1L;
+
+      @SuppressWarnings("deprecation")
+      public TestProvider() {
+         super(TEST_PROVIDER_NAME, 1.0, "Delegating test digests");
+         put("MessageDigest.SHA-256", Sha256.class.getName());
+         put("MessageDigest.MD5", Md5.class.getName());
+      }
+   }
+
+   public abstract static class DelegatingDigest extends MessageDigest {
+      private final MessageDigest delegate;
+
+      protected DelegatingDigest(String algo) throws NoSuchAlgorithmException {
+         super(algo);
+         delegate = MessageDigest.getInstance(algo, Security.getProvider("SUN"));
+         CREATED.incrementAndGet();
+      }
+
+      @Override
+      protected void engineUpdate(byte input) {
+         delegate.update(input);
+      }
+
+      @Override
+      protected void engineUpdate(byte[] input, int offset, int len) {
+         delegate.update(input, offset, len);
+      }
+
+      @Override
+      protected byte[] engineDigest() {
+         return delegate.digest();
+      }
+
+      @Override
+      protected void engineReset() {
+         delegate.reset();
+      }
+
+      @Override
+      protected int engineGetDigestLength() {
+         return delegate.getDigestLength();
+      }
+   }
+
+   public static class Sha256 extends DelegatingDigest {
+      public Sha256() throws NoSuchAlgorithmException {
+         super("SHA-256");
+      }
+   }
+
+   public static class Md5 extends DelegatingDigest {
+      public Md5() throws NoSuchAlgorithmException {
+         super("MD5");
+      }
+   }
+}
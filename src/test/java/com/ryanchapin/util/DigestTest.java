@@ -0,0 +1,127 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UnsupportedEncodingException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+import com.ryanchapin.util.HashGeneratorTest.HashTestData;
+
+public class DigestTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(DigestTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchCreateHashForTestData()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashGenerator hg = new HashGenerator();
+      for (HashTestData<? extends Object> htd :
+           HashGeneratorTestData.testDataMap.get(HashGenerator.DataType.STRING))
+      {
+         String data = (String) htd.getData();
+         hg.setHashAlgo(htd.getAlgo());
+         Digest staticDigest = HashGenerator.createDigest(data,
+               HashGeneratorTest.DEFAULT_CHAR_ENCODING, htd.getAlgo());
+         Digest instanceDigest = hg.createDigest(data,
+               HashGeneratorTest.DEFAULT_CHAR_ENCODING);
+
+         assertEquals("Digest hex does not match expected", htd.getHash(),
+               staticDigest.toHex());
+         assertEquals("Static and instance digests should be equal",
+               staticDigest, instanceDigest);
+         assertEquals(staticDigest.hashCode(), instanceDigest.hashCode());
+         assertEquals(staticDigest, Digest.fromHex(htd.getHash()));
+         assertEquals(staticDigest,
+               htd.getAlgo().newHasher().update(data, HashGeneratorTest.DEFAULT_CHAR_ENCODING)
+                  .finishDigest());
+      }
+   }
+
+   @Test
+   public void shouldRoundTripBytesOfEveryLength() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      for (int length = 0; length <= 70; length++) {
+         byte[] bytes = new byte[length + 2];
+         for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 37 + 200);
+         }
+         Digest digest = Digest.of(bytes, 1, length);
+         byte[] expected = new byte[length];
+         System.arraycopy(bytes, 1, expected, 0, length);
+
+         assertEquals(length, digest.length());
+         assertArrayEquals(expected, digest.toByteArray());
+         assertEquals(HexEncoder.encode(expected), digest.toHex());
+         assertEquals(Base64.getEncoder().encodeToString(expected), digest.toBase64());
+         for (int i = 0; i < length; i++) {
+            assertEquals(expected[i], digest.getByte(i));
+         }
+      }
+   }
+
+   @Test
+   public void shouldCacheHexAndBase64() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Digest digest = HashGenerator.createDigest(42L, HashAlgorithm.SHA512SUM);
+      assertEquals(HashGenerator.createHash(42L, HashAlgorithm.SHA512SUM), digest.toHex());
+      assertSame(digest.toHex(), digest.toHex());
+      assertSame(digest.toBase64(), digest.toBase64());
+   }
+
+   @Test
+   public void shouldCompareAsUnsignedBytes() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Digest low    = Digest.fromHex("7f00");
+      Digest high   = Digest.fromHex("8000");
+      Digest prefix = Digest.fromHex("80");
+      Digest longer = Digest.fromHex("00000000000000000000000000000000000000000000000000000000000000000001");
+
+      assertTrue(low.compareTo(high) < 0);
+      assertTrue(high.compareTo(low) > 0);
+      assertTrue(prefix.compareTo(high) < 0);
+      assertTrue(Digest.fromHex("00").compareTo(longer) < 0);
+      assertEquals(0, high.compareTo(Digest.fromHex("8000")));
+      assertNotEquals(prefix, high);
+   }
+
+   @Test
+   public void shouldBeUsableAsSetKey() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Set<Digest> digests = new HashSet<Digest>();
+      for (int i = 0; i < 1000; i++) {
+         digests.add(HashGenerator.createDigest(i % 100, HashAlgorithm.SHA256SUM));
+      }
+      assertEquals(100, digests.size());
+      assertTrue(digests.contains(HashGenerator.createDigest(99, HashAlgorithm.SHA256SUM)));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnForInvalidHex() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      Digest.fromHex("0g");
+   }
+}
@@ -0,0 +1,156 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.FastHash.FastHashAlgorithm;
+
+public class FastHashTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(FastHashTest.class);
+
+   /**
+    * Reference values, with seed 0, for the inputs built by
+    * {@link #buildInputs()}: xxHash64, both halves of MurmurHash3 x64_128
+    * and wyhash version 3.
+    */
+   private static final long[][] EXPECTED = {
+      {0xEF46DB3751D8E999L, 0x0000000000000000L, 0x0000000000000000L, 0x0000000000000000L},
+      {0x44BC2CF5AD770999L, 0xB4963F3F3FAD7867L, 0x3BA2744126CA2D52L, 0xF1F13B84F20CADB8L},
+      {0x0B242D361FDA71BCL, 0xE34BBC7BBC071B6CL, 0x7A433CA9C49A9347L, 0xCF850BA9DDD12BB3L},
+      {0x4F1D6DE0165B155AL, 0x01B3444C68536E11L, 0x34467C13A86D376FL, 0x57096CCE2EEED455L},
+   };
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchReferenceValues() throws UnsupportedEncodingException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[][] inputs = buildInputs();
+      for (int i = 0; i < inputs.length; i++) {
+         byte[] input = inputs[i];
+         assertEquals("xxHash64 of input " + i, EXPECTED[i][0],
+               FastHash.hash64(input, FastHashAlgorithm.XXHASH64));
+         assertEquals("MurmurHash3 64 bits of input " + i, EXPECTED[i][1],
+               FastHash.hash64(input, FastHashAlgorithm.MURMUR3_X64_128));
+         assertArrayEquals("MurmurHash3 128 bits of input " + i,
+               new long[] {EXPECTED[i][1], EXPECTED[i][2]},
+               FastHash.hash128(input, new long[2], FastHashAlgorithm.MURMUR3_X64_128));
+         assertEquals("wyhash of input " + i, EXPECTED[i][3],
+               FastHash.hash64(input, FastHashAlgorithm.WYHASH));
+      }
+   }
+
+   @Test
+   public void shouldHashPrimitivesAsBigEndianBytes() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Random random = new Random(42);
+      long[] expected128 = new long[2];
+      long[] actual128   = new long[2];
+      for (int n = 0; n < 200; n++) {
+         long v = random.nextLong();
+         for (FastHashAlgorithm algo : FastHashAlgorithm.values()) {
+            assertEquals(FastHash.hash64(new byte[] {(byte) v}, algo),
+                  FastHash.hash64((byte) v, algo));
+            assertEquals(FastHash.hash64(ByteBuffer.allocate(2).putChar((char) v).array(), algo),
+                  FastHash.hash64((char) v, algo));
+            assertEquals(FastHash.hash64(ByteBuffer.allocate(2).putShort((short) v).array(), algo),
+                  FastHash.hash64((short) v, algo));
+            assertEquals(FastHash.hash64(ByteBuffer.allocate(4).putInt((int) v).array(), algo),
+                  FastHash.hash64((int) v, algo));
+            assertEquals(FastHash.hash64(ByteBuffer.allocate(8).putLong(v).array(), algo),
+                  FastHash.hash64(v, algo));
+            float f = Float.intBitsToFloat((int) v);
+            assertEquals(FastHash.hash64(ByteBuffer.allocate(4).putFloat(f).array(), algo),
+                  FastHash.hash64(f, algo));
+            double d = Double.longBitsToDouble(v);
+            assertEquals(FastHash.hash64(ByteBuffer.allocate(8).putDouble(d).array(), algo),
+                  FastHash.hash64(d, algo));
+         }
+         FastHash.hash128(ByteBuffer.allocate(8).putLong(v).array(), expected128,
+               FastHashAlgorithm.MURMUR3_X64_128);
+         FastHash.hash128(v, actual128, FastHashAlgorithm.MURMUR3_X64_128);
+         assertArrayEquals(expected128, actual128);
+      }
+   }
+
+   @Test
+   public void shouldHashRangesStringsAndCharArrays() throws UnsupportedEncodingException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] data = buildInputs()[3];
+      for (FastHashAlgorithm algo : FastHashAlgorithm.values()) {
+         for (int len = 0; len < 100; len++) {
+            byte[] copy = new byte[len];
+            System.arraycopy(data, 7, copy, 0, len);
+            assertEquals(FastHash.hash64(copy, algo), FastHash.hash64(data, 7, len, algo));
+         }
+         assertEquals(FastHash.hash64("h\u00e9llo".getBytes("UTF-8"), algo),
+               FastHash.hash64("h\u00e9llo", "UTF-8", algo));
+         assertEquals(FastHash.hash64("hi".getBytes("UTF-16BE"), algo),
+               FastHash.hash64(new char[] {'h', 'i'}, algo));
+      }
+   }
+
+   @Test
+   public void shouldHashCharArraysAsBigEndianBytes() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // Every length up to and past the 256 byte wyhash and 32 byte xxHash64
+      // blocks, so each tail case is read from the chars.
+      Random random = new Random(11);
+      for (int len = 0; len < 300; len++) {
+         char[] chars = new char[len];
+         for (int i = 0; i < len; i++) {
+            chars[i] = (char) random.nextInt(0x10000);
+         }
+         ByteBuffer bytes = ByteBuffer.allocate(len * 2);
+         bytes.asCharBuffer().put(chars);
+         for (FastHashAlgorithm algo : FastHashAlgorithm.values()) {
+            assertEquals(algo + " " + len, FastHash.hash64(bytes.array(), algo),
+                  FastHash.hash64(chars, algo));
+         }
+         assertArrayEquals(
+               FastHash.hash128(bytes.array(), new long[2], FastHashAlgorithm.MURMUR3_X64_128),
+               FastHash.hash128(chars, new long[2], FastHashAlgorithm.MURMUR3_X64_128));
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnForHash128Of64BitAlgorithm() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      FastHash.hash128(42L, new long[2], FastHashAlgorithm.XXHASH64);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenAlgorithmNull() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      FastHash.hash64(42, null);
+   }
+
+   private static byte[][] buildInputs() throws UnsupportedEncodingException {
+      byte[] counting = new byte[300];
+      for (int i = 0; i < counting.length; i++) {
+         counting[i] = (byte) i;
+      }
+      return new byte[][] {
+         new byte[0],
+         "abc".getBytes("UTF-8"),
+         "The quick brown fox jumps over the lazy dog".getBytes("UTF-8"),
+         counting
+      };
+   }
+}
@@ -1,20 +1,37 @@
 package com.ryanchapin.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,9 +58,18 @@ public class HashGeneratorTest {
     */
    public static final String DEFAULT_CHAR_ENCODING = "US-ASCII";
 
+   /**
+    * Offset at which raw digests are written into output arrays, to ensure
+    * that the offset argument is honored.
+    */
+   private static final int RAW_OUTPUT_OFFSET = 3;
+
    @Rule
    public TestName testName = new TestName();
 
+   @Rule
+   public TemporaryFolder tempFolder = new TemporaryFolder();
+
    @Test
    public void shouldCorrectlySetHashAlgorithm() {
       LOGGER.info("Running test: {}", testName.getMethodName());
@@ -156,6 +182,46 @@ public class HashGeneratorTest {
       }
    }
 
+   @Test
+   public void shouldReuseThreadLocalMessageDigest()
+         throws NoSuchAlgorithmException, NoSuchFieldException,
+         SecurityException, IllegalArgumentException, IllegalAccessException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // Use reflection to get access to the private thread local cache
+      Class<HashGenerator> hashGeneratorClazz = HashGenerator.class;
+      Field threadLocalField =
+            hashGeneratorClazz.getDeclaredField("THREAD_LOCAL_DIGESTS");
+      threadLocalField.setAccessible(true);
+      @SuppressWarnings("unchecked")
+      ThreadLocal<Map<HashAlgorithm, MessageDigest>> threadLocal =
+            (ThreadLocal<Map<HashAlgorithm, MessageDigest>>) threadLocalField.get(null);
+
+      HashGenerator.releaseThreadLocalState();
+      HashTestData<? extends Object> htd =
+            getSingleHashTestDataObject(DataType.LONG);
+      HashAlgorithm algo = htd.getAlgo();
+
+      String hash = HashGenerator.createHash((Long) htd.getData(), algo);
+      assertEquals("Hash did not match expected", htd.getHash(), hash);
+      MessageDigest first = threadLocal.get().get(algo);
+      assertNotNull("No MessageDigest was cached for the thread", first);
+
+      hash = HashGenerator.createHash((Long) htd.getData(), algo);
+      assertEquals("Hash did not match expected", htd.getHash(), hash);
+      assertSame("Cached MessageDigest was not re-used",
+            first, threadLocal.get().get(algo));
+
+      HashGenerator.releaseThreadLocalState();
+      assertEquals("Thread local state was not released",
+            0, threadLocal.get().size());
+
+      hash = HashGenerator.createHash((Long) htd.getData(), algo);
+      assertEquals("Hash did not match expected after release",
+            htd.getHash(), hash);
+   }
+
    /** -- Byte Tests ------------------------------------------------------- */
 
    @Test
@@ -420,6 +486,95 @@ public class HashGeneratorTest {
       String hash = hg.createHash(data, null);
    }
 
+   /** -- Character Sequence Tests ----------------------------------------- */
+
+   @Test
+   public void shouldHashCharSequencesLikeStringGetBytes()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // Multi-byte chars, surrogate pairs that straddle the chunk boundaries,
+      // a lone surrogate and chars that are unmappable in the single byte
+      // charsets.
+      StringBuilder sb = new StringBuilder("a");
+      for (int i = 0; i < 3000; i++) {
+         sb.append("\uD83D\uDE00").append(i % 10).append('\u00e9');
+      }
+      sb.append('\uD800').append("tail");
+      String[] inputs = { "", "hash me", "\u65e5\u672c\u8a9e", sb.toString() };
+      Charset[] charsets = { StandardCharsets.UTF_8, StandardCharsets.UTF_16,
+            StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII };
+
+      for (HashAlgorithm algo : HashAlgorithm.values()) {
+         HashGenerator hg = new HashGenerator(algo);
+         for (Charset charset : charsets) {
+            for (String input : inputs) {
+               String msg      = algo + " " + charset + " length " + input.length();
+               String expected = hexOf(algo, input.getBytes(charset));
+               assertEquals(msg, expected, HashGenerator.createHash(charset, input, algo));
+               assertEquals(msg, expected, hg.createHash(charset, input));
+               assertEquals(msg, expected,
+                     hg.createHash(charset, new StringBuilder(input)));
+               assertEquals(msg, expected,
+                     HashGenerator.createHash(charset, CharBuffer.wrap(input), algo));
+            }
+         }
+      }
+   }
+
+   @Test
+   public void shouldHashCharBufferWithoutChangingPosition()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      HashGenerator hg   = new HashGenerator(algo);
+      String expected    = hexOf(algo, "bcd".getBytes(StandardCharsets.UTF_8));
+
+      CharBuffer buffer = CharBuffer.wrap("abcde".toCharArray(), 1, 3);
+      assertEquals(expected, hg.createHash(StandardCharsets.UTF_8, buffer));
+      assertEquals("CharBuffer position was changed", 1, buffer.position());
+
+      CharBuffer slice = buffer.slice();
+      assertEquals(expected, HashGenerator.createHash(StandardCharsets.UTF_8, slice, algo));
+
+      assertEquals(expected, HashGenerator.createHash(
+            StandardCharsets.UTF_8, buffer.asReadOnlyBuffer(), algo));
+      assertEquals("CharBuffer position was changed", 1, buffer.position());
+   }
+
+   @Test
+   public void shouldWriteCharSequenceHash() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashAlgorithm algo = HashAlgorithm.SHA1SUM;
+      HashGenerator hg   = new HashGenerator(algo);
+      CharSequence input = new StringBuilder("composite:").append(42);
+      String expected    = hexOf(algo, input.toString().getBytes(StandardCharsets.UTF_8));
+
+      byte[] output = new byte[RAW_OUTPUT_OFFSET + 20];
+      int len = HashGenerator.writeHash(StandardCharsets.UTF_8, input, output,
+            RAW_OUTPUT_OFFSET, algo);
+      assertEquals(expected, rawOutputToHex(output, RAW_OUTPUT_OFFSET, len));
+
+      ByteBuffer buffer = ByteBuffer.allocate(20);
+      len = hg.writeHash(StandardCharsets.UTF_8, input, buffer);
+      assertEquals(len, buffer.position());
+      assertEquals(expected, rawOutputToHex(buffer.array(), 0, len));
+
+      assertEquals(expected,
+            HashGenerator.createDigest(StandardCharsets.UTF_8, input, algo).toHex());
+      assertEquals(expected, hg.createDigest(StandardCharsets.UTF_8, input).toHex());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenPassedNullCharset()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      new HashGenerator(HashAlgorithm.MD5SUM).createHash((Charset) null, new StringBuilder("x"));
+   }
+
    /** -- Character Array Tests -------------------------------------------- */
 
    @Test
@@ -449,6 +604,521 @@ public class HashGeneratorTest {
       hashArrayReusingInternalInstances(DataType.CHARACTER_ARRAY);
    }
 
+   /** -- Raw Digest Output Tests ----------------------------------------- */
+
+   @Test
+   public void shouldCorrectlyWriteScalarHashToByteArrayStatic()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      for (DataType type : HashGeneratorTestData.testDataMap.keySet()) {
+         hashScalarToRawOutput(type, false, false, false);
+      }
+   }
+
+   @Test
+   public void shouldCorrectlyWriteScalarHashToByteBufferStatic()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      for (DataType type : HashGeneratorTestData.testDataMap.keySet()) {
+         hashScalarToRawOutput(type, false, true, false);
+         hashScalarToRawOutput(type, false, true, true);
+      }
+   }
+
+   @Test
+   public void shouldCorrectlyWriteScalarHashToByteArrayInstance()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      for (DataType type : HashGeneratorTestData.testDataMap.keySet()) {
+         hashScalarToRawOutput(type, true, false, false);
+      }
+   }
+
+   @Test
+   public void shouldCorrectlyWriteScalarHashToByteBufferInstance()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      for (DataType type : HashGeneratorTestData.testDataMap.keySet()) {
+         hashScalarToRawOutput(type, true, true, false);
+         hashScalarToRawOutput(type, true, true, true);
+      }
+   }
+
+   @Test
+   public void shouldCorrectlyWriteCharArrayHash()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashGenerator hg = new HashGenerator();
+      for (HashTestDataList<? extends Object> htdl :
+           HashGeneratorTestData.testDataListMap.get(DataType.CHARACTER_ARRAY))
+      {
+         HashAlgorithm algo = htdl.getAlgo();
+         char[] charArray   = convertListToArray(htdl.getData(), new char[0]);
+         hg.setHashAlgo(algo);
+
+         byte[] output = new byte[RAW_OUTPUT_OFFSET + 64];
+         int len = HashGenerator.writeHash(charArray, output, RAW_OUTPUT_OFFSET, algo);
+         assertEquals("Static byte[] output did not match expected",
+               htdl.getHash(), rawOutputToHex(output, RAW_OUTPUT_OFFSET, len));
+
+         len = hg.writeHash(charArray, output, RAW_OUTPUT_OFFSET);
+         assertEquals("Instance byte[] output did not match expected",
+               htdl.getHash(), rawOutputToHex(output, RAW_OUTPUT_OFFSET, len));
+
+         ByteBuffer buffer = ByteBuffer.allocate(64);
+         len = HashGenerator.writeHash(charArray, buffer, algo);
+         assertEquals("ByteBuffer position was not advanced", len, buffer.position());
+         assertEquals("Static ByteBuffer output did not match expected",
+               htdl.getHash(), rawOutputToHex(buffer.array(), 0, len));
+
+         buffer.clear();
+         len = hg.writeHash(charArray, buffer);
+         assertEquals("Instance ByteBuffer output did not match expected",
+               htdl.getHash(), rawOutputToHex(buffer.array(), 0, len));
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenOutputTooSmall()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      byte[] output = new byte[32];
+      HashGenerator.writeHash(1L, output, 1, HashAlgorithm.SHA256SUM);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenByteBufferTooSmall()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      ByteBuffer output = ByteBuffer.allocateDirect(16);
+      new HashGenerator(HashAlgorithm.SHA1SUM).writeHash(1L, output);
+   }
+
+   /** -- Primitive Array Tests ------------------------------------------- */
+
+   /**
+    * Number of elements in the generated test arrays; large enough that the
+    * encoded arrays span several scratch buffer chunks.
+    */
+   private static final int PRIMITIVE_ARRAY_SIZE = 5000;
+
+   @Test
+   public void shouldHashPrimitiveArraysAsBigEndianBytes()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      Random random = new Random(20);
+      byte[] bytes     = new byte[PRIMITIVE_ARRAY_SIZE];
+      short[] shorts   = new short[PRIMITIVE_ARRAY_SIZE];
+      int[] ints       = new int[PRIMITIVE_ARRAY_SIZE];
+      long[] longs     = new long[PRIMITIVE_ARRAY_SIZE];
+      float[] floats   = new float[PRIMITIVE_ARRAY_SIZE];
+      double[] doubles = new double[PRIMITIVE_ARRAY_SIZE];
+      char[] chars     = new char[PRIMITIVE_ARRAY_SIZE];
+      random.nextBytes(bytes);
+      for (int i = 0; i < PRIMITIVE_ARRAY_SIZE; i++) {
+         shorts[i]  = (short) random.nextInt();
+         ints[i]    = random.nextInt();
+         longs[i]   = random.nextLong();
+         floats[i]  = random.nextFloat();
+         doubles[i] = random.nextDouble();
+         chars[i]   = (char) random.nextInt();
+      }
+
+      ByteBuffer shortBytes  = ByteBuffer.allocate(PRIMITIVE_ARRAY_SIZE * 2);
+      ByteBuffer intBytes    = ByteBuffer.allocate(PRIMITIVE_ARRAY_SIZE * 4);
+      ByteBuffer longBytes   = ByteBuffer.allocate(PRIMITIVE_ARRAY_SIZE * 8);
+      ByteBuffer floatBytes  = ByteBuffer.allocate(PRIMITIVE_ARRAY_SIZE * 4);
+      ByteBuffer doubleBytes = ByteBuffer.allocate(PRIMITIVE_ARRAY_SIZE * 8);
+      ByteBuffer charBytes   = ByteBuffer.allocate(PRIMITIVE_ARRAY_SIZE * 2);
+      for (int i = 0; i < PRIMITIVE_ARRAY_SIZE; i++) {
+         shortBytes.putShort(shorts[i]);
+         intBytes.putInt(ints[i]);
+         longBytes.putLong(longs[i]);
+         floatBytes.putFloat(floats[i]);
+         doubleBytes.putDouble(doubles[i]);
+         charBytes.putChar(chars[i]);
+      }
+
+      for (HashAlgorithm algo : HashAlgorithm.values()) {
+         HashGenerator hg = new HashGenerator(algo);
+
+         String expected = hexOf(algo, bytes);
+         assertEquals(algo + " byte[] static", expected, HashGenerator.createHash(bytes, algo));
+         assertEquals(algo + " byte[] instance", expected, hg.createHash(bytes));
+         assertEquals(algo + " byte[] digest", expected, hg.createDigest(bytes).toHex());
+
+         expected = hexOf(algo, shortBytes.array());
+         assertEquals(algo + " short[] static", expected, HashGenerator.createHash(shorts, algo));
+         assertEquals(algo + " short[] instance", expected, hg.createHash(shorts));
+         assertEquals(algo + " short[] digest", expected,
+               HashGenerator.createDigest(shorts, algo).toHex());
+
+         expected = hexOf(algo, intBytes.array());
+         assertEquals(algo + " int[] static", expected, HashGenerator.createHash(ints, algo));
+         assertEquals(algo + " int[] instance", expected, hg.createHash(ints));
+         assertEquals(algo + " int[] digest", expected, hg.createDigest(ints).toHex());
+
+         expected = hexOf(algo, longBytes.array());
+         assertEquals(algo + " long[] static", expected, HashGenerator.createHash(longs, algo));
+         assertEquals(algo + " long[] instance", expected, hg.createHash(longs));
+         assertEquals(algo + " long[] digest", expected,
+               HashGenerator.createDigest(longs, algo).toHex());
+
+         expected = hexOf(algo, floatBytes.array());
+         assertEquals(algo + " float[] static", expected, HashGenerator.createHash(floats, algo));
+         assertEquals(algo + " float[] instance", expected, hg.createHash(floats));
+         assertEquals(algo + " float[] digest", expected, hg.createDigest(floats).toHex());
+
+         expected = hexOf(algo, doubleBytes.array());
+         assertEquals(algo + " double[] static", expected, HashGenerator.createHash(doubles, algo));
+         assertEquals(algo + " double[] instance", expected, hg.createHash(doubles));
+         assertEquals(algo + " double[] digest", expected,
+               HashGenerator.createDigest(doubles, algo).toHex());
+
+         expected = hexOf(algo, charBytes.array());
+         assertEquals(algo + " char[] static", expected, HashGenerator.createHash(chars, algo));
+         assertEquals(algo + " char[] instance", expected, hg.createHash(chars));
+         assertEquals(algo + " char[] digest", expected, hg.createDigest(chars).toHex());
+      }
+   }
+
+   @Test
+   public void shouldHashPrimitiveArraySlices() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      HashGenerator hg   = new HashGenerator(algo);
+      int[] ints         = new int[PRIMITIVE_ARRAY_SIZE];
+      double[] doubles   = new double[PRIMITIVE_ARRAY_SIZE];
+      char[] chars       = new char[PRIMITIVE_ARRAY_SIZE];
+      for (int i = 0; i < PRIMITIVE_ARRAY_SIZE; i++) {
+         ints[i]    = i * 31;
+         doubles[i] = i / 7.0;
+         chars[i]   = (char) ('a' + (i % 26));
+      }
+
+      int[][] slices = { {0, 0}, {0, 1}, {17, 3001}, {PRIMITIVE_ARRAY_SIZE - 1, 1} };
+      for (int[] slice : slices) {
+         int from = slice[0];
+         int to   = slice[0] + slice[1];
+         assertEquals("int[] slice " + from,
+               HashGenerator.createHash(Arrays.copyOfRange(ints, from, to), algo),
+               HashGenerator.createHash(ints, slice[0], slice[1], algo));
+         assertEquals("int[] instance slice " + from,
+               hg.createHash(Arrays.copyOfRange(ints, from, to)),
+               hg.createHash(ints, slice[0], slice[1]));
+         assertEquals("double[] slice " + from,
+               HashGenerator.createHash(Arrays.copyOfRange(doubles, from, to), algo),
+               hg.createDigest(doubles, slice[0], slice[1]).toHex());
+         assertEquals("char[] slice " + from,
+               hg.createHash(Arrays.copyOfRange(chars, from, to)),
+               HashGenerator.createHash(chars, slice[0], slice[1], algo));
+      }
+   }
+
+   @Test
+   public void shouldThrowIllegalArgExptnWhenArraySliceOutOfBounds()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashGenerator hg = new HashGenerator(HashAlgorithm.MD5SUM);
+      long[] longs     = new long[8];
+      int[][] slices   = { {-1, 2}, {0, -1}, {7, 2}, {9, 0}, {1, Integer.MAX_VALUE} };
+      for (int[] slice : slices) {
+         try {
+            hg.createHash(longs, slice[0], slice[1]);
+            fail("Expected IllegalArgumentException for " + Arrays.toString(slice));
+         } catch (IllegalArgumentException e) {
+            // expected
+         }
+         try {
+            HashGenerator.createDigest(longs, slice[0], slice[1], HashAlgorithm.MD5SUM);
+            fail("Expected IllegalArgumentException for " + Arrays.toString(slice));
+         } catch (IllegalArgumentException e) {
+            // expected
+         }
+      }
+   }
+
+   private static String hexOf(HashAlgorithm algo, byte[] input)
+         throws NoSuchAlgorithmException
+   {
+      return HashGenerator.bytesToHex(algo.newMessageDigest().digest(input));
+   }
+
+   /** -- Byte Buffer Tests ------------------------------------------------ */
+
+   @Test
+   public void shouldHashRemainingBytesOfHeapAndDirectBuffers()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      byte[] bytes = new byte[3 * HashGenerator.STREAM_BUFFER_SIZE + 11];
+      new Random(22).nextBytes(bytes);
+      int from = 5;
+      int to   = bytes.length - 3;
+
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes).clear();
+      ByteBuffer[] buffers = {
+            ByteBuffer.wrap(bytes), ByteBuffer.wrap(bytes).asReadOnlyBuffer(), direct };
+
+      for (HashAlgorithm algo : HashAlgorithm.values()) {
+         String expected  = hexOf(algo, Arrays.copyOfRange(bytes, from, to));
+         HashGenerator hg = new HashGenerator(algo);
+         for (ByteBuffer buffer : buffers) {
+            String msg = algo + " " + buffer;
+
+            buffer.limit(to).position(from);
+            assertEquals(msg, expected, HashGenerator.createHash(buffer, algo));
+            assertEquals(msg + " position was not advanced", to, buffer.position());
+
+            buffer.position(from);
+            assertEquals(msg, expected, hg.createHash(buffer));
+            assertEquals(msg + " position was not advanced", to, buffer.position());
+
+            buffer.position(from);
+            hg.setPreserveBufferPosition(true);
+            assertEquals(msg, expected, hg.createDigest(buffer).toHex());
+            assertEquals(msg + " position was changed", from, buffer.position());
+            assertEquals(msg + " limit was changed", to, buffer.limit());
+            hg.setPreserveBufferPosition(false);
+
+            assertEquals(msg, expected, HashGenerator.createDigest(buffer, algo).toHex());
+            buffer.clear();
+         }
+      }
+   }
+
+   @Test
+   public void shouldWriteByteBufferHash() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashAlgorithm algo = HashAlgorithm.SHA512SUM;
+      HashGenerator hg   = new HashGenerator(algo);
+      hg.setPreserveBufferPosition(true);
+      byte[] bytes       = "zero copy".getBytes(StandardCharsets.UTF_8);
+      String expected    = hexOf(algo, bytes);
+      ByteBuffer input   = ByteBuffer.allocateDirect(bytes.length);
+      input.put(bytes).flip();
+
+      byte[] output = new byte[RAW_OUTPUT_OFFSET + 64];
+      int len = hg.writeHash(input, output, RAW_OUTPUT_OFFSET);
+      assertEquals(expected, rawOutputToHex(output, RAW_OUTPUT_OFFSET, len));
+      assertEquals("Input position was changed", 0, input.position());
+
+      ByteBuffer buffer = ByteBuffer.allocate(64);
+      len = HashGenerator.writeHash(input, buffer, algo);
+      assertEquals(len, buffer.position());
+      assertEquals(expected, rawOutputToHex(buffer.array(), 0, len));
+      assertEquals("Input position was not advanced", input.limit(), input.position());
+
+      input.rewind();
+      len = HashGenerator.writeHash(input, output, RAW_OUTPUT_OFFSET, algo);
+      assertEquals(expected, rawOutputToHex(output, RAW_OUTPUT_OFFSET, len));
+
+      input.rewind();
+      buffer.clear();
+      len = hg.writeHash(input, buffer);
+      assertEquals(expected, rawOutputToHex(buffer.array(), 0, len));
+   }
+
+   /** -- Segmented Input Tests -------------------------------------------- */
+
+   @Test
+   public void shouldHashSegmentsLikeTheirConcatenation()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      byte[] header  = "HDR:".getBytes(StandardCharsets.US_ASCII);
+      byte[] body    = new byte[2 * HashGenerator.STREAM_BUFFER_SIZE + 1];
+      byte[] trailer = "\r\n".getBytes(StandardCharsets.US_ASCII);
+      new Random(23).nextBytes(body);
+
+      ByteBuffer concatenated = ByteBuffer.allocate(header.length + body.length + trailer.length);
+      concatenated.put(header).put(body).put(trailer);
+      byte[][] segments = { header, new byte[0], body, trailer };
+
+      for (HashAlgorithm algo : HashAlgorithm.values()) {
+         String expected  = hexOf(algo, concatenated.array());
+         HashGenerator hg = new HashGenerator(algo);
+
+         assertEquals(algo + " byte[][]", expected, HashGenerator.createHash(segments, algo));
+         assertEquals(algo + " byte[][]", expected, hg.createDigest(segments).toHex());
+
+         ByteBuffer direct = ByteBuffer.allocateDirect(body.length);
+         direct.put(body).flip();
+         ByteBuffer[] buffers = { ByteBuffer.wrap(header), direct, ByteBuffer.wrap(trailer) };
+         assertEquals(algo + " ByteBuffer[]", expected, HashGenerator.createHash(buffers, algo));
+         for (ByteBuffer buffer : buffers) {
+            assertEquals("Buffer position was not advanced", buffer.limit(), buffer.position());
+            buffer.rewind();
+         }
+
+         hg.setPreserveBufferPosition(true);
+         assertEquals(algo + " ByteBuffer[]", expected, hg.createHash(buffers));
+         assertEquals(algo + " List<ByteBuffer>", expected,
+               hg.createDigest(Arrays.asList(buffers)).toHex());
+         for (ByteBuffer buffer : buffers) {
+            assertEquals("Buffer position was changed", 0, buffer.position());
+         }
+         assertEquals(algo + " List<ByteBuffer>", expected,
+               HashGenerator.createDigest(Arrays.asList(buffers), algo).toHex());
+      }
+   }
+
+   @Test
+   public void shouldHashRangeOfSegments() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      HashGenerator hg   = new HashGenerator(algo);
+      byte[][] segments  = { {1, 2}, {3}, {4, 5, 6}, {7} };
+      String expected    = hexOf(algo, new byte[] {3, 4, 5, 6});
+
+      assertEquals(expected, HashGenerator.createHash(segments, 1, 2, algo));
+      assertEquals(expected, hg.createHash(segments, 1, 2));
+
+      ByteBuffer[] buffers = new ByteBuffer[segments.length];
+      for (int i = 0; i < segments.length; i++) {
+         buffers[i] = ByteBuffer.wrap(segments[i]);
+      }
+      assertEquals(expected, HashGenerator.createDigest(buffers, 1, 2, algo).toHex());
+      assertEquals("Buffer outside of the range was read", 0, buffers[0].position());
+      assertEquals("Buffer outside of the range was read", 0, buffers[3].position());
+      assertEquals(hexOf(algo, new byte[0]), hg.createHash(buffers, 4, 0));
+
+      try {
+         hg.createDigest(buffers, 3, 2);
+         fail("Expected IllegalArgumentException for a range past the end");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   /** -- Stream and Channel Tests ----------------------------------------- */
+
+   @Test
+   public void shouldCorrectlyHashInputStreamAndChannel()
+         throws NoSuchAlgorithmException, IOException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // Larger than the stream buffer, and not a multiple of its size.
+      byte[] data = new byte[100003];
+      for (int i = 0; i < data.length; i++) {
+         data[i] = (byte) (i * 31);
+      }
+
+      HashGenerator hg = new HashGenerator();
+      for (HashAlgorithm algo : new HashAlgorithm[] {
+            HashAlgorithm.MD5SUM, HashAlgorithm.SHA256SUM})
+      {
+         String expected = HashGenerator.bytesToHex(
+               algo.newMessageDigest().digest(data));
+         hg.setHashAlgo(algo);
+
+         assertEquals("Static InputStream hash did not match expected", expected,
+               HashGenerator.createHash(new ByteArrayInputStream(data), algo));
+         assertEquals("Instance InputStream hash did not match expected", expected,
+               hg.createHash(new ByteArrayInputStream(data)));
+         assertEquals("Static channel hash did not match expected", expected,
+               HashGenerator.createHash(
+                     Channels.newChannel(new ByteArrayInputStream(data)), algo));
+         assertEquals("Instance channel hash did not match expected", expected,
+               hg.createHash(Channels.newChannel(new ByteArrayInputStream(data))));
+         assertEquals("Hasher InputStream hash did not match expected", expected,
+               algo.newHasher().update(new ByteArrayInputStream(data)).finish());
+      }
+   }
+
+   @Test
+   public void shouldCorrectlyHashStringInputStream()
+         throws NoSuchAlgorithmException, IOException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      for (HashTestData<? extends Object> htd :
+           HashGeneratorTestData.testDataMap.get(DataType.STRING))
+      {
+         byte[] data = ((String) htd.getData()).getBytes(DEFAULT_CHAR_ENCODING);
+         String hash = HashGenerator.createHash(
+               new ByteArrayInputStream(data), htd.getAlgo());
+         assertEquals("InputStream hash did not match expected",
+               htd.getHash(), hash);
+      }
+   }
+
+   /** -- File Tests ------------------------------------------------------- */
+
+   @Test
+   public void shouldCorrectlyHashMappedFile()
+         throws NoSuchAlgorithmException, IOException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] data = new byte[250007];
+      for (int i = 0; i < data.length; i++) {
+         data[i] = (byte) (i * 7);
+      }
+      Path file = tempFolder.newFile().toPath();
+      Files.write(file, data);
+
+      HashGenerator hg = new HashGenerator();
+      for (HashAlgorithm algo : new HashAlgorithm[] {
+            HashAlgorithm.SHA1SUM, HashAlgorithm.SHA512SUM})
+      {
+         String expected = HashGenerator.bytesToHex(
+               algo.newMessageDigest().digest(data));
+         hg.setHashAlgo(algo);
+
+         assertEquals("Static file hash did not match expected", expected,
+               HashGenerator.createHash(file, algo));
+         assertEquals("Instance file hash did not match expected", expected,
+               hg.createHash(file));
+
+         // Force the file to be re-mapped in several, uneven, windows.
+         assertEquals("Static windowed file hash did not match expected",
+               expected, HashGenerator.createHash(file, 4099, algo));
+         assertEquals("Instance windowed file hash did not match expected",
+               expected, hg.createHash(file, 65536));
+      }
+   }
+
+   @Test
+   public void shouldCorrectlyHashEmptyAndSpecialFiles()
+         throws NoSuchAlgorithmException, IOException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.MD5SUM;
+      String expected = HashGenerator.bytesToHex(
+            algo.newMessageDigest().digest(new byte[0]));
+
+      Path emptyFile = tempFolder.newFile().toPath();
+      assertEquals("Empty file hash did not match expected", expected,
+            HashGenerator.createHash(emptyFile, algo));
+
+      Path devNull = Paths.get("/dev/null");
+      Assume.assumeTrue(Files.exists(devNull));
+      assertEquals("Special file hash did not match expected", expected,
+            HashGenerator.createHash(devNull, algo));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenWindowSizeNotPositive()
+         throws NoSuchAlgorithmException, IOException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      Path file = tempFolder.newFile().toPath();
+      HashGenerator.createHash(file, 0, HashAlgorithm.MD5SUM);
+   }
+
    /** -- Multi-threaded Tests --------------------------------------------- */
 
    @Test
@@ -1246,6 +1916,143 @@ public class HashGeneratorTest {
       }
    }
 
+   /**
+    * Hashes each of the test data values of the given type into a raw digest
+    * output and compares the hex representation of the digest with the
+    * expected hash.
+    *
+    * @param  type
+    *         {@link DataType} to be tested.
+    * @param  useInstance
+    *         whether to call the instance, or the static methods.
+    * @param  useByteBuffer
+    *         whether to write to a ByteBuffer, or a byte[].
+    * @param  direct
+    *         whether the ByteBuffer should be a direct buffer.
+    */
+   private void hashScalarToRawOutput(DataType type, boolean useInstance,
+         boolean useByteBuffer, boolean direct)
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      HashGenerator hg = new HashGenerator();
+
+      for (HashTestData<? extends Object> htd :
+           HashGeneratorTestData.testDataMap.get(type))
+      {
+         HashAlgorithm algo = htd.getAlgo();
+         Object data        = htd.getData();
+         byte[] output      = new byte[RAW_OUTPUT_OFFSET + 64];
+         ByteBuffer buffer  = direct ? ByteBuffer.allocateDirect(64) : ByteBuffer.allocate(64);
+         int offset         = useByteBuffer ? 0 : RAW_OUTPUT_OFFSET;
+         int len            = 0;
+         hg.setHashAlgo(algo);
+
+         switch (type) {
+            case BYTE:
+               byte byteData = (Byte) data;
+               if (useInstance) {
+                  len = useByteBuffer ? hg.writeHash(byteData, buffer)
+                        : hg.writeHash(byteData, output, offset);
+               } else {
+                  len = useByteBuffer ? HashGenerator.writeHash(byteData, buffer, algo)
+                        : HashGenerator.writeHash(byteData, output, offset, algo);
+               }
+               break;
+            case CHARACTER:
+               char charData = (Character) data;
+               if (useInstance) {
+                  len = useByteBuffer ? hg.writeHash(charData, buffer)
+                        : hg.writeHash(charData, output, offset);
+               } else {
+                  len = useByteBuffer ? HashGenerator.writeHash(charData, buffer, algo)
+                        : HashGenerator.writeHash(charData, output, offset, algo);
+               }
+               break;
+            case SHORT:
+               short shortData = (Short) data;
+               if (useInstance) {
+                  len = useByteBuffer ? hg.writeHash(shortData, buffer)
+                        : hg.writeHash(shortData, output, offset);
+               } else {
+                  len = useByteBuffer ? HashGenerator.writeHash(shortData, buffer, algo)
+                        : HashGenerator.writeHash(shortData, output, offset, algo);
+               }
+               break;
+            case INTEGER:
+               int intData = (Integer) data;
+               if (useInstance) {
+                  len = useByteBuffer ? hg.writeHash(intData, buffer)
+                        : hg.writeHash(intData, output, offset);
+               } else {
+                  len = useByteBuffer ? HashGenerator.writeHash(intData, buffer, algo)
+                        : HashGenerator.writeHash(intData, output, offset, algo);
+               }
+               break;
+            case LONG:
+               long longData = (Long) data;
+               if (useInstance) {
+                  len = useByteBuffer ? hg.writeHash(longData, buffer)
+                        : hg.writeHash(longData, output, offset);
+               } else {
+                  len = useByteBuffer ? HashGenerator.writeHash(longData, buffer, algo)
+                        : HashGenerator.writeHash(longData, output, offset, algo);
+               }
+               break;
+            case FLOAT:
+               float floatData = (Float) data;
+               if (useInstance) {
+                  len = useByteBuffer ? hg.writeHash(floatData, buffer)
+                        : hg.writeHash(floatData, output, offset);
+               } else {
+                  len = useByteBuffer ? HashGenerator.writeHash(floatData, buffer, algo)
+                        : HashGenerator.writeHash(floatData, output, offset, algo);
+               }
+               break;
+            case DOUBLE:
+               double doubleData = (Double) data;
+               if (useInstance) {
+                  len = useByteBuffer ? hg.writeHash(doubleData, buffer)
+                        : hg.writeHash(doubleData, output, offset);
+               } else {
+                  len = useByteBuffer ? HashGenerator.writeHash(doubleData, buffer, algo)
+                        : HashGenerator.writeHash(doubleData, output, offset, algo);
+               }
+               break;
+            case STRING:
+               String stringData = (String) data;
+               if (useInstance) {
+                  len = useByteBuffer
+                        ? hg.writeHash(stringData, DEFAULT_CHAR_ENCODING, buffer)
+                        : hg.writeHash(stringData, DEFAULT_CHAR_ENCODING, output, offset);
+               } else {
+                  len = useByteBuffer
+                        ? HashGenerator.writeHash(stringData, DEFAULT_CHAR_ENCODING, buffer, algo)
+                        : HashGenerator.writeHash(stringData, DEFAULT_CHAR_ENCODING, output, offset, algo);
+               }
+               break;
+            default:
+         }
+
+         if (useByteBuffer) {
+            assertEquals("ByteBuffer position was not advanced by the digest length",
+                  len, buffer.position());
+            buffer.flip();
+            buffer.get(output, 0, len);
+         }
+         String hash = rawOutputToHex(output, offset, len);
+
+         LOGGER.debug("'{}' raw hash for type '{}', '{}' = {}",
+               algo, type, data, hash);
+         String errMsg = "Returned raw hash for type '" + type +
+               "' for value '" + data + "' does not match expected";
+         assertEquals(errMsg, htd.getHash(), hash);
+      }
+   }
+
+   private static String rawOutputToHex(byte[] output, int offset, int len) {
+      return HashGenerator.bytesToHex(Arrays.copyOfRange(output, offset, offset + len));
+   }
+
    /**
     * Instantiates and configures a Map<DataType, Boolean> instance pre-
     * set with all Boolean values to null.
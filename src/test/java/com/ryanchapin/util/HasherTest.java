@@ -0,0 +1,255 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.DataType;
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+import com.ryanchapin.util.HashGeneratorTest.HashTestData;
+import com.ryanchapin.util.HashGeneratorTest.HashTestDataList;
+
+public class HasherTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(HasherTest.class);
+
+   private static final String DEFAULT_CHAR_ENCODING =
+         HashGeneratorTest.DEFAULT_CHAR_ENCODING;
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchCreateHashForScalars()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      for (DataType type : HashGeneratorTestData.testDataMap.keySet()) {
+         for (HashTestData<? extends Object> htd :
+              HashGeneratorTestData.testDataMap.get(type))
+         {
+            Hasher hasher = htd.getAlgo().newHasher();
+            Object data   = htd.getData();
+
+            switch (type) {
+               case BYTE:
+                  hasher.update((Byte) data);
+                  break;
+               case CHARACTER:
+                  hasher.update((Character) data);
+                  break;
+               case SHORT:
+                  hasher.update((Short) data);
+                  break;
+               case INTEGER:
+                  hasher.update((Integer) data);
+                  break;
+               case LONG:
+                  hasher.update((Long) data);
+                  break;
+               case FLOAT:
+                  hasher.update((Float) data);
+                  break;
+               case DOUBLE:
+                  hasher.update((Double) data);
+                  break;
+               case STRING:
+                  hasher.update((String) data, DEFAULT_CHAR_ENCODING);
+                  break;
+               default:
+            }
+
+            String errMsg = "Hasher hash for type '" + type +
+                  "' for value '" + data + "' does not match expected";
+            assertEquals(errMsg, htd.getHash(), hasher.finish());
+         }
+      }
+   }
+
+   @Test
+   public void shouldMatchCreateHashForCharArraySlices()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      for (HashTestDataList<? extends Object> htdl :
+           HashGeneratorTestData.testDataListMap.get(DataType.CHARACTER_ARRAY))
+      {
+         char[] charArray = HashGeneratorTest.convertListToArray(
+               htdl.getData(), new char[0]);
+         Hasher hasher = htdl.getAlgo().newHasher();
+
+         // Pass the array in as two separate slices
+         int split = charArray.length / 2;
+         hasher.update(charArray, 0, split);
+         hasher.update(charArray, split, charArray.length - split);
+
+         assertEquals("Hasher hash of char[] slices does not match expected",
+               htdl.getHash(), hasher.finish());
+      }
+   }
+
+   @Test
+   public void shouldMatchCreateHashForPrimitiveArrays()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      // Long enough to span several chunks.
+      int count = 1000;
+      short[] shorts   = new short[count];
+      int[] ints       = new int[count];
+      long[] longs     = new long[count];
+      float[] floats   = new float[count];
+      double[] doubles = new double[count];
+      for (int i = 0; i < count; i++) {
+         shorts[i]  = (short) (i * 31);
+         ints[i]    = i * 100003;
+         longs[i]   = i * 1000000007L;
+         floats[i]  = i / 3.0f;
+         doubles[i] = i / 7.0d;
+      }
+
+      Hasher hasher = algo.newHasher();
+      assertEquals(HashGenerator.createHash(shorts, algo), hasher.update(shorts).finish());
+      assertEquals(HashGenerator.createHash(ints, algo), hasher.update(ints).finish());
+      assertEquals(HashGenerator.createHash(longs, algo), hasher.update(longs).finish());
+      assertEquals(HashGenerator.createHash(floats, algo), hasher.update(floats).finish());
+      assertEquals(HashGenerator.createHash(doubles, algo), hasher.update(doubles).finish());
+
+      // Slices hash the same as the whole array.
+      assertEquals(HashGenerator.createHash(ints, algo),
+            hasher.update(ints, 0, 300).update(ints, 300, count - 300).finish());
+      assertEquals(HashGenerator.createHash(doubles, algo),
+            hasher.update(doubles, 0, 1).update(doubles, 1, count - 1).finish());
+   }
+
+   @Test
+   public void shouldMatchCreateHashForCharSequencesAndSegments()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < 2000; i++) {
+         builder.append("caf\u00e9 \ud83d\ude00 ").append(i);
+      }
+      String text = builder.toString();
+      Hasher hasher = algo.newHasher();
+      assertEquals(HashGenerator.createHash(text, "UTF-8", algo),
+            hasher.update(StandardCharsets.UTF_8, builder).finish());
+      assertEquals(HashGenerator.createHash(text, "UTF-16BE", algo),
+            hasher.update(StandardCharsets.UTF_16BE, builder).finish());
+
+      byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+      String expected = HashGenerator.createHash(bytes, algo);
+      int split = bytes.length / 3;
+      byte[][] arrays = new byte[][] {
+         Arrays.copyOfRange(bytes, 0, split),
+         Arrays.copyOfRange(bytes, split, bytes.length)
+      };
+      assertEquals(expected, hasher.update(arrays).finish());
+      assertEquals(expected, hasher.update(arrays, 0, 1).update(arrays, 1, 1).finish());
+
+      ByteBuffer[] buffers = new ByteBuffer[] {
+         ByteBuffer.wrap(bytes, 0, split),
+         ByteBuffer.wrap(bytes, split, bytes.length - split)
+      };
+      assertEquals(expected, hasher.update(buffers).finish());
+      buffers[0].position(0);
+      buffers[1].position(split);
+      assertEquals(expected, hasher.update(Arrays.asList(buffers)).finish());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForSliceOutsideArray()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashAlgorithm.SHA256SUM.newHasher().update(new char[4], 2, 3);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForNullCharset()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HashAlgorithm.SHA256SUM.newHasher().update((Charset) null, "data");
+   }
+
+   @Test
+   public void shouldHashConcatenationOfUpdates()
+         throws NoSuchAlgorithmException, UnsupportedEncodingException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      String expected = HashGenerator.createHash(
+            "composite-record-12345", DEFAULT_CHAR_ENCODING, algo);
+
+      Hasher hasher = algo.newHasher();
+      hasher.update("composite", DEFAULT_CHAR_ENCODING)
+            .update((byte) '-')
+            .update("record-".getBytes(DEFAULT_CHAR_ENCODING))
+            .update(ByteBuffer.wrap("xx12345".getBytes(DEFAULT_CHAR_ENCODING), 2, 5));
+      assertEquals("Hash of the concatenated updates does not match expected",
+            expected, hasher.finish());
+
+      // The session should be re-usable once finished.
+      byte[] input = "composite-record-12345".getBytes(DEFAULT_CHAR_ENCODING);
+      ByteBuffer direct = ByteBuffer.allocateDirect(input.length);
+      direct.put(input);
+      direct.flip();
+      hasher.update(direct);
+      assertEquals("Hash after re-use does not match expected",
+            expected, hasher.finish());
+   }
+
+   @Test
+   public void shouldFinishToRawOutput()
+         throws NoSuchAlgorithmException, IllegalStateException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA1SUM;
+      String expected = HashGenerator.createHash(42L, algo);
+      Hasher hasher = new HashGenerator(algo).newHasher();
+
+      byte[] output = new byte[hasher.getDigestLength() + 2];
+      int len = hasher.update(42L).finish(output, 2);
+      assertEquals("Raw output does not match expected", expected,
+            HashGenerator.bytesToHex(Arrays.copyOfRange(output, 2, 2 + len)));
+
+      ByteBuffer buffer = ByteBuffer.allocate(len);
+      hasher.update(42L).finish(buffer);
+      assertEquals("ByteBuffer output does not match expected", expected,
+            HashGenerator.bytesToHex(buffer.array()));
+
+      // reset should discard any data added so far
+      hasher.update(7L).reset();
+      assertEquals("Hash after reset does not match expected", expected,
+            HashGenerator.bytesToHex(hasher.update(42L).finishBytes()));
+   }
+
+   @Test(expected = IllegalStateException.class)
+   public void shouldThrowIllegalStateExceptionWhenAlgoNotSet()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      new HashGenerator().newHasher();
+   }
+}
@@ -0,0 +1,86 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class HexEncoderTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(HexEncoderTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldEncodeEveryByteValue() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] input = new byte[256];
+      StringBuilder expected = new StringBuilder();
+      for (int i = 0; i < 256; i++) {
+         input[i] = (byte) i;
+         expected.append(String.format("%02x", i));
+      }
+
+      assertEquals("String output did not match expected",
+            expected.toString(), HexEncoder.encode(input));
+   }
+
+   @Test
+   public void shouldEncodeRangeIntoCharArray() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] input  = new byte[] {(byte) 0xff, 0x00, 0x0f, (byte) 0xa0, 0x01};
+      char[] output = new char[] {'x', 'x', 'x', 'x', 'x', 'x', 'x', 'x'};
+      int written = HexEncoder.encode(input, 1, 3, output, 1);
+
+      assertEquals("Incorrect number of chars written", 6, written);
+      assertEquals("char[] output did not match expected",
+            "x000fa0x", new String(output));
+   }
+
+   @Test
+   public void shouldEncodeRangeIntoAsciiByteArray() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] input  = new byte[] {0x12, (byte) 0xab, (byte) 0xcd};
+      byte[] output = new byte[6];
+      int written = HexEncoder.encodeAscii(input, 0, input.length, output, 0);
+
+      assertEquals("Incorrect number of bytes written", 6, written);
+      assertArrayEquals("byte[] output did not match expected",
+            "12abcd".getBytes(StandardCharsets.US_ASCII), output);
+   }
+
+   @Test
+   public void shouldAppendToStringBuilderAndAppendable() throws IOException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] input = new byte[] {0x7f, (byte) 0x80};
+
+      StringBuilder sb = new StringBuilder("0x");
+      HexEncoder.encode(input, 0, input.length, sb);
+      assertEquals("StringBuilder output did not match expected",
+            "0x7f80", sb.toString());
+
+      StringWriter writer = new StringWriter();
+      HexEncoder.encode(input, 1, 1, writer);
+      assertEquals("Appendable output did not match expected",
+            "80", writer.toString());
+   }
+
+   @Test(expected = IndexOutOfBoundsException.class)
+   public void shouldThrowWhenOutputTooSmall() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      HexEncoder.encode(new byte[4], 0, 4, new char[7], 0);
+   }
+}
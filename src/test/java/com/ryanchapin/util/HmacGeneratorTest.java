@@ -0,0 +1,176 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Security;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class HmacGeneratorTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(HmacGeneratorTest.class);
+
+   /**
+    * Algorithms for which the JDK provides a reference Mac.
+    */
+   private static final HashAlgorithm[] MAC_ALGORITHMS = {
+      HashAlgorithm.MD5SUM, HashAlgorithm.SHA1SUM, HashAlgorithm.SHA256SUM,
+      HashAlgorithm.SHA384SUM, HashAlgorithm.SHA512SUM
+   };
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchRfc4231TestCase() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HmacGenerator hmac = new HmacGenerator("Jefe".getBytes("US-ASCII"), HashAlgorithm.SHA256SUM);
+      assertEquals("5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843",
+            hmac.createHash("what do ya want for nothing?", "US-ASCII"));
+   }
+
+   @Test
+   public void shouldMatchJdkMac() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Random random = new Random(42);
+      for (HashAlgorithm algo : MAC_ALGORITHMS) {
+         for (int keyLength : new int[] {1, 20, algo.getBlockSize(), 200}) {
+            byte[] key = new byte[keyLength];
+            random.nextBytes(key);
+            HmacGenerator hmac = new HmacGenerator(key, algo);
+            assertEquals(mac(algo, key, new byte[0]).length, hmac.getDigestLength());
+
+            for (int length : new int[] {0, 1, 55, 64, 129, 1000}) {
+               byte[] input = new byte[length];
+               random.nextBytes(input);
+               byte[] expected = mac(algo, key, input);
+               assertEquals(HashGenerator.bytesToHex(expected), hmac.createHash(input));
+               assertArrayEquals(expected, hmac.createDigest(input).toByteArray());
+               assertEquals(HashGenerator.bytesToHex(expected),
+                     hmac.createHash(ByteBuffer.wrap(input)));
+            }
+         }
+      }
+   }
+
+   @Test
+   public void shouldHashTypedInputsAsHashGeneratorEncodesThem() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] key = "0123456789abcdef".getBytes("US-ASCII");
+      HmacGenerator hmac = new HmacGenerator(key, HashAlgorithm.SHA256SUM);
+      long v = 0x0123456789ABCDEFL;
+      char[] chars = "secret token".toCharArray();
+      byte[] charBytes = new byte[chars.length * 2];
+      ByteBuffer.wrap(charBytes).asCharBuffer().put(chars);
+
+      assertEquals(hex(key, new byte[] {(byte) v}), hmac.createHash((byte) v));
+      assertEquals(hex(key, ByteBuffer.allocate(2).putChar((char) v).array()),
+            hmac.createHash((char) v));
+      assertEquals(hex(key, ByteBuffer.allocate(2).putShort((short) v).array()),
+            hmac.createHash((short) v));
+      assertEquals(hex(key, ByteBuffer.allocate(4).putInt((int) v).array()),
+            hmac.createHash((int) v));
+      assertEquals(hex(key, ByteBuffer.allocate(8).putLong(v).array()), hmac.createHash(v));
+      assertEquals(hex(key, ByteBuffer.allocate(4).putFloat(1.5f).array()),
+            hmac.createHash(1.5f));
+      assertEquals(hex(key, ByteBuffer.allocate(8).putDouble(2.5d).array()),
+            hmac.createHash(2.5d));
+      assertEquals(hex(key, "héllo".getBytes("UTF-8")), hmac.createHash("héllo", "UTF-8"));
+      assertEquals(hex(key, charBytes), hmac.createHash(chars));
+      assertEquals(hex(key, charBytes), hmac.createDigest(chars).toHex());
+
+      String expected = hex(key, ByteBuffer.allocate(12).putInt(7).putLong(v).array());
+      assertEquals(expected, hmac.newHasher().update(7).update(v).finish());
+   }
+
+   @Test
+   public void shouldBeThreadSafe() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      final byte[] key = "a long-lived key".getBytes("US-ASCII");
+      final HmacGenerator hmac = new HmacGenerator(key, HashAlgorithm.SHA512SUM);
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         List<Future<Void>> futures = new ArrayList<Future<Void>>();
+         for (int t = 0; t < 4; t++) {
+            final int seed = t;
+            futures.add(executor.submit(new Callable<Void>() {
+               @Override
+               public Void call() throws Exception {
+                  for (long i = seed; i < 2000; i += 4) {
+                     assertEquals(HashGenerator.bytesToHex(mac(HashAlgorithm.SHA512SUM, key,
+                           ByteBuffer.allocate(8).putLong(i).array())), hmac.createHash(i));
+                  }
+                  return null;
+               }
+            }));
+         }
+         for (Future<Void> future : futures) {
+            future.get();
+         }
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForNullAlgorithm() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      new HmacGenerator(new byte[16], null);
+   }
+
+   @Test
+   public void shouldThrowIllegalArgumentExceptionWhenDigestCannotBeCloned() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // The test provider's digests do not support clone().
+      Security.addProvider(new DigestProvidersTest.TestProvider());
+      DigestProviders.setPreferredProviders(DigestProvidersTest.TEST_PROVIDER_NAME);
+      try {
+         new HmacGenerator(new byte[16], HashAlgorithm.SHA256SUM);
+         fail("Expected IllegalArgumentException for a digest that cannot be cloned");
+      } catch (IllegalArgumentException e) {
+         // expected
+      } finally {
+         DigestProviders.setPreferredProviders();
+         Security.removeProvider(DigestProvidersTest.TEST_PROVIDER_NAME);
+      }
+   }
+
+   private static String hex(byte[] key, byte[] input) throws GeneralSecurityException {
+      return HashGenerator.bytesToHex(mac(HashAlgorithm.SHA256SUM, key, input));
+   }
+
+   private static byte[] mac(HashAlgorithm algo, byte[] key, byte[] input)
+      throws GeneralSecurityException
+   {
+      String name = "Hmac" + algo.getAlgo().replace("-", "");
+      Mac mac = Mac.getInstance(name);
+      mac.init(new SecretKeySpec(key, name));
+      return mac.doFinal(input);
+   }
+}
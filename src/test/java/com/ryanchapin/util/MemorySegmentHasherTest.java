@@ -0,0 +1,124 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+import com.ryanchapin.util.MemorySegmentHasher.SegmentAccess;
+
+public class MemorySegmentHasherTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(MemorySegmentHasherTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   /**
+    * {@link SegmentAccess} over a byte array, so that the windowing can be
+    * tested on runtimes without the Foreign Function and Memory API.
+    */
+   private static final SegmentAccess ARRAY_ACCESS = new SegmentAccess() {
+      @Override
+      public long byteSize(Object segment) {
+         if (!(segment instanceof byte[])) {
+            throw new IllegalArgumentException("not a byte[]");
+         }
+         return ((byte[]) segment).length;
+      }
+
+      @Override
+      public ByteBuffer window(Object segment, long offset, int length) {
+         return ByteBuffer.wrap((byte[]) segment, (int) offset, length).slice();
+      }
+   };
+
+   @Test
+   public void shouldHashWindowsLikeContiguousInput() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] input = new byte[10000];
+      new Random(24).nextBytes(input);
+      long[][] slices = { {0, -1}, {0, 0}, {1, 999}, {3, 9997}, {4096, 1}, {10000, 0} };
+      for (HashAlgorithm algo : HashAlgorithm.values()) {
+         for (long[] slice : slices) {
+            int from = (int) slice[0];
+            int to   = -1 == slice[1] ? input.length : from + (int) slice[1];
+            String expected = HashGenerator.bytesToHex(
+                  algo.newMessageDigest().digest(Arrays.copyOfRange(input, from, to)));
+            for (int windowSize : new int[] {1, 1000, 4096, input.length}) {
+               MessageDigest msgDigest = algo.newMessageDigest();
+               MemorySegmentHasher.updateDigest(msgDigest, input, slice[0], slice[1],
+                     windowSize, ARRAY_ACCESS);
+               assertEquals(algo + " " + Arrays.toString(slice) + " window " + windowSize,
+                     expected, HashGenerator.bytesToHex(msgDigest.digest()));
+            }
+         }
+      }
+   }
+
+   @Test
+   public void shouldThrowIllegalArgExptnWhenSliceOutOfBounds() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      long[][] slices = { {11, 0}, {0, 11}, {5, 6}, {1, Long.MAX_VALUE} };
+      for (long[] slice : slices) {
+         try {
+            MemorySegmentHasher.updateDigest(HashAlgorithm.MD5SUM.newMessageDigest(),
+                  new byte[10], slice[0], slice[1], 4, ARRAY_ACCESS);
+            fail("Expected IllegalArgumentException for " + Arrays.toString(slice));
+         } catch (IllegalArgumentException e) {
+            // expected
+         }
+      }
+      try {
+         MemorySegmentHasher.createHash(new byte[10], -1, 1, HashAlgorithm.MD5SUM);
+         fail("Expected IllegalArgumentException for a negative offset");
+      } catch (IllegalArgumentException e) {
+         // expected
+      }
+   }
+
+   @Test
+   public void shouldHashMemorySegments() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      Assume.assumeTrue(MemorySegmentHasher.isSupported());
+
+      byte[] input = "off-heap column data".getBytes("UTF-8");
+      Object segment = Class.forName("java.lang.foreign.MemorySegment")
+            .getMethod("ofArray", byte[].class).invoke(null, (Object) input);
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+
+      assertEquals(HashGenerator.createHash(input, algo),
+            MemorySegmentHasher.createHash(segment, algo));
+      assertEquals(HashGenerator.createHash(input, 4, 4, algo),
+            MemorySegmentHasher.createDigest(segment, 4, 4, algo).toHex());
+   }
+
+   @Test
+   public void shouldThrowWhenInputIsNotASegment() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      try {
+         MemorySegmentHasher.createHash("not a segment", HashAlgorithm.SHA1SUM);
+         fail("Expected an exception");
+      } catch (IllegalArgumentException e) {
+         assertTrue(MemorySegmentHasher.isSupported());
+      } catch (UnsupportedOperationException e) {
+         assertFalse(MemorySegmentHasher.isSupported());
+      }
+   }
+}
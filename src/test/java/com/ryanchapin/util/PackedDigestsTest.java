@@ -0,0 +1,110 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class PackedDigestsTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(PackedDigestsTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldAccessPackedHashes() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      long[] input = new long[1000];
+      for (int i = 0; i < input.length; i++) {
+         input[i] = i * 7919L;
+      }
+      BulkHasher bulk = new BulkHasher(algo);
+      PackedDigests fromArray = bulk.createPackedHashes(input);
+
+      ByteBuffer direct = ByteBuffer.allocateDirect(5 + input.length * 32);
+      direct.position(5);
+      assertEquals(input.length * 32, bulk.writeHashes(input, direct));
+      assertEquals(direct.capacity(), direct.position());
+      direct.position(5);
+      PackedDigests fromDirect = PackedDigests.wrap(direct, 32);
+      assertEquals(5, direct.position());
+
+      for (PackedDigests packed : Arrays.asList(fromArray, fromDirect)) {
+         assertEquals(input.length, packed.size());
+         assertEquals(32, packed.getDigestLength());
+         for (int i = 0; i < input.length; i++) {
+            Digest expected = HashGenerator.createDigest(input[i], algo);
+            assertEquals(expected, packed.get(i));
+            assertEquals(expected.toHex(), packed.toHex(i));
+            assertEquals(expected.getByte(31), packed.getByte(i, 31));
+            assertTrue(packed.equals(i, expected.toByteArray()));
+            byte[] copy = new byte[34];
+            assertEquals(32, packed.copyTo(i, copy, 2));
+            assertArrayEquals(expected.toByteArray(), Arrays.copyOfRange(copy, 2, 34));
+            if (i > 0) {
+               assertEquals(Integer.signum(packed.get(i).compareTo(packed.get(i - 1))),
+                     Integer.signum(packed.compare(i, i - 1)));
+            }
+         }
+         assertFalse(packed.equals(0, packed.get(1).toByteArray()));
+         assertEquals(0, packed.compare(3, 3));
+      }
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      assertEquals(input.length * 32L, fromDirect.writeTo(Channels.newChannel(out)));
+      byte[] written = out.toByteArray();
+      ByteBuffer readOnly = fromArray.asReadOnlyBuffer();
+      byte[] fromBuffer = new byte[readOnly.remaining()];
+      readOnly.get(fromBuffer);
+      assertArrayEquals(fromBuffer, written);
+   }
+
+   @Test
+   public void shouldPackStringHashes() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      List<String> input = Arrays.asList("alpha", "beta", "gamma");
+      BulkHasher bulk = new BulkHasher(HashAlgorithm.MD5SUM);
+      PackedDigests packed = bulk.createPackedHashes(input, "UTF-8");
+      ByteBuffer heap = ByteBuffer.allocate(48);
+      bulk.writeHashes(input, "UTF-8", heap);
+      heap.flip();
+      PackedDigests fromHeap = PackedDigests.wrap(heap, 16);
+      for (int i = 0; i < input.size(); i++) {
+         String expected = HashGenerator.createHash(input.get(i), "UTF-8", HashAlgorithm.MD5SUM);
+         assertEquals(expected, packed.toHex(i));
+         assertEquals(expected, fromHeap.toHex(i));
+      }
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForPartialDigest() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      PackedDigests.wrap(ByteBuffer.allocate(33), 32);
+   }
+
+   @Test(expected = IndexOutOfBoundsException.class)
+   public void shouldThrowIndexOutOfBoundsExceptionForBadIndex() {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      PackedDigests.wrap(new byte[64], 0, 2, 32).toHex(2);
+   }
+}
@@ -0,0 +1,130 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.DataType;
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+import com.ryanchapin.util.HashGeneratorTest.HashTestData;
+
+public class PrecomputedHashesTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(PrecomputedHashesTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchTestData() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      for (DataType type : new DataType[] {
+            DataType.BYTE, DataType.CHARACTER, DataType.SHORT})
+      {
+         for (HashTestData<? extends Object> htd :
+              HashGeneratorTestData.testDataMap.get(type))
+         {
+            Object data = htd.getData();
+            String actual;
+            switch (type) {
+               case BYTE:
+                  actual = PrecomputedHashes.getHash((Byte) data, htd.getAlgo());
+                  break;
+               case CHARACTER:
+                  actual = PrecomputedHashes.getHash((Character) data, htd.getAlgo());
+                  break;
+               default:
+                  actual = PrecomputedHashes.getHash((Short) data, htd.getAlgo());
+            }
+            assertEquals("Precomputed hash for type '" + type + "' for value '" +
+                  data + "' does not match expected", htd.getHash(), actual);
+         }
+      }
+   }
+
+   @Test
+   public void shouldMatchCreateHashForEveryByteAndSampledShorts()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA1SUM;
+      for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++) {
+         assertEquals(HashGenerator.createHash((byte) i, algo),
+               PrecomputedHashes.getHash((byte) i, algo));
+      }
+      for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i += 257) {
+         assertEquals(HashGenerator.createHash((short) i, algo),
+               PrecomputedHashes.getHash((short) i, algo));
+         assertEquals(HashGenerator.createHash((char) i, algo),
+               PrecomputedHashes.getHash((char) i, algo));
+      }
+   }
+
+   @Test
+   public void shouldReturnCachedInstance() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.MD5SUM;
+      String first = PrecomputedHashes.getHash((short) 1234, algo);
+      assertSame("Repeated lookups should return the same instance",
+            first, PrecomputedHashes.getHash((short) 1234, algo));
+      assertSame("Chars and shorts with the same bits should share an entry",
+            first, PrecomputedHashes.getHash((char) 1234, algo));
+   }
+
+   @Test
+   public void shouldPrebuildTables() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      PrecomputedHashes.release(algo);
+      PrecomputedHashes.prebuild(algo, DataType.BYTE);
+      PrecomputedHashes.prebuild(algo, DataType.SHORT);
+      for (int i = 0; i < 65536; i += 4099) {
+         assertEquals(HashGenerator.createHash((char) i, algo),
+               PrecomputedHashes.getHash((char) i, algo));
+      }
+      assertEquals(HashGenerator.createHash((byte) -1, algo),
+            PrecomputedHashes.getHash((byte) -1, algo));
+      PrecomputedHashes.release(algo);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnForUnsupportedDataType()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      PrecomputedHashes.prebuild(HashAlgorithm.SHA256SUM, DataType.INTEGER);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenHashAlgoNull()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      PrecomputedHashes.getHash((byte) 1, null);
+   }
+
+   @Test
+   public void shouldUsePrecomputedHashesFromInstance() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashGenerator hg = new HashGenerator(HashAlgorithm.SHA384SUM);
+      hg.setUsePrecomputedHashes(true);
+      assertSame(PrecomputedHashes.getHash((short) -2, HashAlgorithm.SHA384SUM),
+            hg.createHash((short) -2));
+      assertEquals(HashGenerator.createHash('x', HashAlgorithm.SHA384SUM),
+            hg.createHash('x'));
+      assertEquals(HashGenerator.createHash((byte) 7, HashAlgorithm.SHA384SUM),
+            hg.createHash((byte) 7));
+   }
+}
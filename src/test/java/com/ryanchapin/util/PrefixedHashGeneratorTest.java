@@ -0,0 +1,119 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.security.Security;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class PrefixedHashGeneratorTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(PrefixedHashGeneratorTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldMatchHashOfConcatenation() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      Random random = new Random(42);
+      for (HashAlgorithm algo : HashAlgorithm.values()) {
+         for (int prefixLength : new int[] {0, 5, algo.getBlockSize(), 150}) {
+            byte[] prefix = new byte[prefixLength];
+            random.nextBytes(prefix);
+            PrefixedHashGenerator generator = new PrefixedHashGenerator(prefix, algo);
+
+            for (int n = 0; n < 3; n++) {
+               long id = random.nextLong();
+               byte[] idBytes = ByteBuffer.allocate(8).putLong(id).array();
+               String expected = hash(concat(prefix, idBytes), algo);
+               assertEquals(expected, generator.createHash(id));
+               assertEquals(expected, generator.createDigest(id).toHex());
+               assertEquals(expected, generator.newHasher().update(id).finish());
+            }
+         }
+      }
+   }
+
+   @Test
+   public void shouldHashTypedInputsAsHashGeneratorEncodesThem() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashAlgorithm algo = HashAlgorithm.SHA256SUM;
+      byte[] prefix = "tenant-0042:".getBytes("UTF-8");
+      PrefixedHashGenerator generator = new PrefixedHashGenerator("tenant-0042:", "UTF-8", algo);
+      char[] chars = "password".toCharArray();
+      byte[] charBytes = new byte[chars.length * 2];
+      ByteBuffer.wrap(charBytes).asCharBuffer().put(chars);
+
+      assertEquals(hash(concat(prefix, new byte[] {7}), algo),
+            generator.createHash((byte) 7));
+      assertEquals(hash(
+            concat(prefix, ByteBuffer.allocate(2).putChar('x').array()), algo),
+            generator.createHash('x'));
+      assertEquals(hash(
+            concat(prefix, ByteBuffer.allocate(2).putShort((short) -3).array()), algo),
+            generator.createHash((short) -3));
+      assertEquals(hash(
+            concat(prefix, ByteBuffer.allocate(4).putInt(123456).array()), algo),
+            generator.createHash(123456));
+      assertEquals(hash(
+            concat(prefix, ByteBuffer.allocate(4).putFloat(0.25f).array()), algo),
+            generator.createHash(0.25f));
+      assertEquals(hash(
+            concat(prefix, ByteBuffer.allocate(8).putDouble(-1.0d).array()), algo),
+            generator.createHash(-1.0d));
+      assertEquals(hash(concat(prefix, "user@example.com".getBytes("UTF-8")),
+            algo), generator.createHash("user@example.com", "UTF-8"));
+      assertEquals(hash(concat(prefix, charBytes), algo),
+            generator.createHash(chars));
+      assertEquals(hash(concat(prefix, charBytes), algo),
+            generator.createHash(ByteBuffer.wrap(charBytes)));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgumentExceptionForNullAlgorithm() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      new PrefixedHashGenerator(new byte[16], null);
+   }
+
+   @Test
+   public void shouldThrowIllegalArgumentExceptionWhenDigestCannotBeCloned() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      // The test provider's digests do not support clone().
+      Security.addProvider(new DigestProvidersTest.TestProvider());
+      DigestProviders.setPreferredProviders(DigestProvidersTest.TEST_PROVIDER_NAME);
+      try {
+         new PrefixedHashGenerator(new byte[16], HashAlgorithm.SHA256SUM);
+         fail("Expected IllegalArgumentException for a digest that cannot be cloned");
+      } catch (IllegalArgumentException e) {
+         // expected
+      } finally {
+         DigestProviders.setPreferredProviders();
+         Security.removeProvider(DigestProvidersTest.TEST_PROVIDER_NAME);
+      }
+   }
+
+   private static String hash(byte[] input, HashAlgorithm algo) throws Exception {
+      return HashGenerator.bytesToHex(algo.newMessageDigest().digest(input));
+   }
+
+   private static byte[] concat(byte[] a, byte[] b) {
+      byte[] retVal = new byte[a.length + b.length];
+      System.arraycopy(a, 0, retVal, 0, a.length);
+      System.arraycopy(b, 0, retVal, a.length, b.length);
+      return retVal;
+   }
+}
@@ -0,0 +1,163 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class TreeHasherTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(TreeHasherTest.class);
+
+   private static final int LEAF_SIZE = 1024;
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Rule
+   public TemporaryFolder tempFolder = new TemporaryFolder();
+
+   @Test
+   public void shouldMatchReferenceTreeHash()
+         throws NoSuchAlgorithmException, IOException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      int[] sizes = {0, 1, LEAF_SIZE - 1, LEAF_SIZE, LEAF_SIZE + 1,
+            2 * LEAF_SIZE, 7 * LEAF_SIZE + 3, 100 * LEAF_SIZE + 17};
+      ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         for (HashAlgorithm algo : new HashAlgorithm[] {
+               HashAlgorithm.MD5SUM, HashAlgorithm.SHA256SUM})
+         {
+            TreeHasher treeHasher = new TreeHasher(algo, LEAF_SIZE, pool);
+            for (int size : sizes) {
+               byte[] data = buildData(size);
+               byte[] expected = referenceTreeHash(algo, LEAF_SIZE, data);
+               String errMsg = "Tree hash for algo " + algo + " of " + size +
+                     " bytes does not match expected";
+
+               assertArrayEquals(errMsg, expected, treeHasher.createHashBytes(data));
+
+               ByteBuffer direct = ByteBuffer.allocateDirect(size + 2);
+               direct.put((byte) 1).put(data).put((byte) 2).flip();
+               direct.position(1).limit(size + 1);
+               assertArrayEquals(errMsg, expected, treeHasher.createHashBytes(direct));
+               assertEquals(errMsg, direct.limit(), direct.position());
+
+               Path file = tempFolder.newFile().toPath();
+               Files.write(file, data);
+               assertEquals(errMsg, HashGenerator.bytesToHex(expected),
+                     treeHasher.createHash(file));
+            }
+         }
+      } finally {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void shouldBeIndependentOfParallelism() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] data = buildData(333 * LEAF_SIZE + 5);
+      ForkJoinPool single = new ForkJoinPool(1);
+      try {
+         String expected = new TreeHasher(HashAlgorithm.SHA1SUM, LEAF_SIZE, single)
+               .createHash(data);
+         assertEquals("Tree hash should not depend on the pool", expected,
+               new TreeHasher(HashAlgorithm.SHA1SUM, LEAF_SIZE).createHash(data));
+      } finally {
+         single.shutdown();
+      }
+   }
+
+   @Test
+   public void shouldHashSingleLeafWithLeafPrefix() throws NoSuchAlgorithmException {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      byte[] data = buildData(100);
+      MessageDigest md = HashAlgorithm.SHA256SUM.newMessageDigest();
+      md.update(TreeHasher.LEAF_PREFIX);
+      md.update(data);
+      assertArrayEquals("Single leaf tree hash does not match expected", md.digest(),
+            new TreeHasher(HashAlgorithm.SHA256SUM).createHashBytes(data));
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenLeafSizeNotPositive()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      new TreeHasher(HashAlgorithm.SHA256SUM, 0);
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void shouldThrowIllegalArgExptnWhenHashAlgoNull()
+         throws NoSuchAlgorithmException
+   {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+      new TreeHasher(null);
+   }
+
+   private static byte[] buildData(int size) {
+      byte[] data = new byte[size];
+      for (int i = 0; i < size; i++) {
+         data[i] = (byte) (i * 31 + (i >>> 8));
+      }
+      return data;
+   }
+
+   /**
+    * Straight-forward, sequential, implementation of the documented tree
+    * hash format.
+    */
+   private static byte[] referenceTreeHash(HashAlgorithm algo, int leafSize, byte[] data)
+         throws NoSuchAlgorithmException
+   {
+      MessageDigest md = algo.newMessageDigest();
+      List<byte[]> level = new ArrayList<>();
+      int offset = 0;
+      do {
+         int end = Math.min(offset + leafSize, data.length);
+         md.update((byte) 0x00);
+         md.update(Arrays.copyOfRange(data, offset, end));
+         level.add(md.digest());
+         offset = end;
+      } while (offset < data.length);
+
+      while (level.size() > 1) {
+         List<byte[]> next = new ArrayList<>();
+         for (int i = 0; i < level.size(); i += 2) {
+            if (i + 1 < level.size()) {
+               md.update((byte) 0x01);
+               md.update(level.get(i));
+               md.update(level.get(i + 1));
+               next.add(md.digest());
+            } else {
+               next.add(level.get(i));
+            }
+         }
+         level = next;
+      }
+      return level.get(0);
+   }
+}
@@ -0,0 +1,238 @@
+package com.ryanchapin.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ryanchapin.util.HashGenerator.HashAlgorithm;
+
+public class HashingProcessorTest {
+
+   private static final Logger LOGGER = LoggerFactory.getLogger(HashingProcessorTest.class);
+
+   @Rule
+   public TestName testName = new TestName();
+
+   @Test
+   public void shouldEmitDigestsInOrder() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+         HashingProcessor<String> processor = new HashingProcessor<String>(
+               HashAlgorithm.SHA256SUM, new HashingProcessor.ElementHasher<String>() {
+                  @Override
+                  public void update(Hasher hasher, String element) throws Exception {
+                     hasher.update(element, "UTF-8");
+                  }
+               }, executor, 4, 16);
+         CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+         processor.subscribe(subscriber);
+
+         int count = 5000;
+         try (SubmissionPublisher<String> publisher = new SubmissionPublisher<String>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < count; i++) {
+               publisher.submit("event-" + i);
+            }
+         }
+
+         assertTrue(subscriber.done.await(30, TimeUnit.SECONDS));
+         assertNull(subscriber.error);
+         assertEquals(count, subscriber.digests.size());
+         for (int i = 0; i < count; i++) {
+            assertEquals(HashGenerator.createDigest("event-" + i, "UTF-8", HashAlgorithm.SHA256SUM),
+                  subscriber.digests.get(i));
+         }
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void shouldRequestOnlyWhatDownstreamDemands() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashingProcessor<byte[]> processor = HashingProcessor.forByteArrays(HashAlgorithm.MD5SUM);
+      CollectingSubscriber subscriber = new CollectingSubscriber(5);
+      processor.subscribe(subscriber);
+      RangePublisher publisher = new RangePublisher(1000);
+      publisher.subscribe(processor);
+
+      long deadline = System.currentTimeMillis() + 10000;
+      while (subscriber.digests.size() < 5 && System.currentTimeMillis() < deadline) {
+         Thread.sleep(10);
+      }
+      Thread.sleep(50);
+      assertEquals(5, subscriber.digests.size());
+      assertEquals(5, publisher.requested.get());
+
+      subscriber.subscription.request(1000);
+      assertTrue(subscriber.done.await(30, TimeUnit.SECONDS));
+      assertEquals(1000, subscriber.digests.size());
+      for (int i = 0; i < 1000; i++) {
+         assertEquals(HashGenerator.createDigest(i, HashAlgorithm.MD5SUM), subscriber.digests.get(i));
+      }
+   }
+
+   @Test
+   public void shouldSignalHashingErrorAndCancelUpstream() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashingProcessor<String> failing = new HashingProcessor<String>(HashAlgorithm.SHA1SUM,
+            new HashingProcessor.ElementHasher<String>() {
+               @Override
+               public void update(Hasher hasher, String element) throws Exception {
+                  if ("bad".equals(element)) {
+                     throw new IllegalStateException("cannot hash " + element);
+                  }
+                  hasher.update(element, "UTF-8");
+               }
+            });
+      CollectingSubscriber failed = new CollectingSubscriber(Long.MAX_VALUE);
+      failing.subscribe(failed);
+      final AtomicBoolean cancelled = new AtomicBoolean();
+      failing.onSubscribe(new Flow.Subscription() {
+         @Override
+         public void request(long n) {
+         }
+
+         @Override
+         public void cancel() {
+            cancelled.set(true);
+         }
+      });
+      failing.onNext("good");
+      failing.onNext("bad");
+      assertTrue(failed.done.await(30, TimeUnit.SECONDS));
+      assertTrue(failed.error instanceof IllegalStateException);
+      assertTrue(cancelled.get());
+      // The failed batch is never published, so no partial digests leak out.
+      assertFalse(failed.digests.contains(null));
+   }
+
+   @Test
+   public void shouldRejectSecondSubscriber() throws Exception {
+      LOGGER.info("Running test: {}", testName.getMethodName());
+
+      HashingProcessor<byte[]> processor = HashingProcessor.forByteArrays(HashAlgorithm.SHA256SUM);
+      processor.subscribe(new CollectingSubscriber(1));
+      CollectingSubscriber second = new CollectingSubscriber(1);
+      processor.subscribe(second);
+      assertTrue(second.done.await(1, TimeUnit.SECONDS));
+      assertTrue(second.error instanceof IllegalStateException);
+   }
+
+   /**
+    * Collects the digests after requesting an initial number of them.
+    */
+   private static final class CollectingSubscriber implements Flow.Subscriber<Digest> {
+
+      private final long initialRequest;
+
+      private final List<Digest> digests = Collections.synchronizedList(new ArrayList<Digest>());
+
+      private final CountDownLatch done = new CountDownLatch(1);
+
+      private volatile Flow.Subscription subscription;
+
+      private volatile Throwable error;
+
+      private CollectingSubscriber(long initialRequest) {
+         this.initialRequest = initialRequest;
+      }
+
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+         this.subscription = subscription;
+         subscription.request(initialRequest);
+      }
+
+      @Override
+      public void onNext(Digest item) {
+         digests.add(item);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+         error = throwable;
+         done.countDown();
+      }
+
+      @Override
+      public void onComplete() {
+         done.countDown();
+      }
+   }
+
+   /**
+    * Synchronously publishes the big-endian bytes of 0 to count - 1,
+    * recording the total number of elements requested.
+    */
+   private static final class RangePublisher implements Flow.Publisher<byte[]> {
+
+      private final int count;
+
+      private final AtomicLong requested = new AtomicLong();
+
+      private RangePublisher(int count) {
+         this.count = count;
+      }
+
+      @Override
+      public void subscribe(final Flow.Subscriber<? super byte[]> subscriber) {
+         subscriber.onSubscribe(new Flow.Subscription() {
+            private int next;
+            private long pending;
+            private boolean emitting;
+            private boolean cancelled;
+
+            @Override
+            public synchronized void request(long n) {
+               requested.addAndGet(n);
+               pending += n;
+               if (emitting) {
+                  return;
+               }
+               emitting = true;
+               while (pending > 0 && next < count && !cancelled) {
+                  pending--;
+                  int value = next++;
+                  subscriber.onNext(new byte[] {
+                     (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value
+                  });
+               }
+               emitting = false;
+               if (next == count && !cancelled) {
+                  cancelled = true;
+                  subscriber.onComplete();
+               }
+            }
+
+            @Override
+            public synchronized void cancel() {
+               cancelled = true;
+            }
+         });
+      }
+   }
+}